@@ -169,27 +169,7 @@ public class MutableRational implements Comparable<MutableRational> {
 			return this;
 		}
 		if (mBignum == null && !(other instanceof Rational.BigRational)) {
-			if (mDenom == other.mDenom) {
-				/* handle gcd = 0 correctly
-				 * two INFINITYs with same sign give INFINITY,
-				 * otherwise it gives NAN.
-				 */
-				if (mDenom == 0) {
-					if (mNum != other.mNum) {
-						mNum = 0;
-					}
-				} else {
-					/* a common, very simple case, e.g. for integers */
-					setValue((long) mNum + other.mNum, mDenom);
-				}
-			} else {
-				final int gcd = Rational.gcd(mDenom, other.mDenom);
-				final long denomgcd = mDenom / gcd;
-				final long otherdenomgcd = other.mDenom / gcd;
-				final long newdenom = denomgcd * other.mDenom;
-				final long newnum = otherdenomgcd * mNum + denomgcd * other.mNum;
-				setValue(newnum, newdenom);
-			}
+			addSmall(other.mNum, other.mDenom);
 			return this;
 		}
 
@@ -217,6 +197,36 @@ public class MutableRational implements Comparable<MutableRational> {
 		return this;
 	}
 
+	/**
+	 * Add num/denom to this rational. Both this rational and the summand must be small, i.e., fit into int. The
+	 * computation is done in long arithmetic, which cannot overflow.
+	 * @param num the numerator of the summand.
+	 * @param denom the normalized denominator of the summand.
+	 */
+	private void addSmall(int num, int denom) {
+		if (mDenom == denom) {
+			/* handle gcd = 0 correctly
+			 * two INFINITYs with same sign give INFINITY,
+			 * otherwise it gives NAN.
+			 */
+			if (mDenom == 0) {
+				if (mNum != num) {
+					mNum = 0;
+				}
+			} else {
+				/* a common, very simple case, e.g. for integers */
+				setValue((long) mNum + num, mDenom);
+			}
+		} else {
+			final int gcd = Rational.gcd(mDenom, denom);
+			final long denomgcd = mDenom / gcd;
+			final long otherdenomgcd = denom / gcd;
+			final long newdenom = denomgcd * denom;
+			final long newnum = otherdenomgcd * mNum + denomgcd * num;
+			setValue(newnum, newdenom);
+		}
+	}
+
 	/**
 	 * Negate this rational, i.e., this = -this.
 	 * @return this mutable rational.
@@ -345,6 +355,24 @@ public class MutableRational implements Comparable<MutableRational> {
 	 * @return this mutable rational.
 	 */
 	public MutableRational addmul(Rational fac1,Rational fac2) {
+		/* fast path: small finite values, computed in long arithmetic without intermediate objects */
+		if (mBignum == null && !(fac1 instanceof Rational.BigRational) && !(fac2 instanceof Rational.BigRational)
+				&& fac1.mDenom != 0 && fac2.mDenom != 0) {
+			long prodnum = (long) fac1.mNum * fac2.mNum;
+			long proddenom = (long) fac1.mDenom * fac2.mDenom;
+			if (prodnum == 0) {
+				return this;
+			}
+			if (proddenom != 1) {
+				final long gcd = Rational.gcd(Math.abs(prodnum), proddenom);
+				prodnum /= gcd;
+				proddenom /= gcd;
+			}
+			if (Integer.MIN_VALUE <= prodnum && prodnum <= Integer.MAX_VALUE && proddenom <= Integer.MAX_VALUE) {
+				addSmall((int) prodnum, (int) proddenom);
+				return this;
+			}
+		}
 		return add(fac1.mul(fac2));
 	}
 
@@ -563,6 +563,29 @@ public class Rational implements Comparable<Rational> {
 	 * @return the result of the computation.
 	 */
 	public Rational addmul(final Rational fac1,final Rational fac2) {
+		/* fast path: small finite values, computed in long arithmetic without intermediate objects */
+		if (!(this instanceof BigRational) && !(fac1 instanceof BigRational) && !(fac2 instanceof BigRational)
+				&& mDenom != 0 && fac1.mDenom != 0 && fac2.mDenom != 0) {
+			long prodnum = (long) fac1.mNum * fac2.mNum;
+			long proddenom = (long) fac1.mDenom * fac2.mDenom;
+			if (prodnum == 0) {
+				return this;
+			}
+			if (proddenom != 1) {
+				final long gcd = gcd(Math.abs(prodnum), proddenom);
+				prodnum /= gcd;
+				proddenom /= gcd;
+			}
+			if (Integer.MIN_VALUE <= prodnum && prodnum <= Integer.MAX_VALUE && proddenom <= Integer.MAX_VALUE) {
+				if (mDenom == proddenom) {
+					return valueOf(mNum + prodnum, mDenom);
+				}
+				final int gcd = gcd(mDenom, (int) proddenom);
+				final long denomgcd = mDenom / gcd;
+				final long otherdenomgcd = proddenom / gcd;
+				return valueOf(otherdenomgcd * mNum + denomgcd * prodnum, denomgcd * proddenom);
+			}
+		}
 		return add(fac1.mul(fac2));
 	}
 
@@ -156,6 +156,19 @@ public final class RationalTest {
 		}
 	}
 
+	@Test
+	public void testAddmul() {
+		for (int i = 0; i < RATIONALS.length; i++) {
+			for (int j = 0; j < RATIONALS.length; j++) {
+				for (int k = 0; k < RATIONALS.length; k++) {
+					Assert.assertEquals(RATIONALS[i] + " + " + RATIONALS[j] + " * " + RATIONALS[k],
+							RATIONALS[i].add(RATIONALS[j].mul(RATIONALS[k])),
+							RATIONALS[i].addmul(RATIONALS[j], RATIONALS[k]));
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testDiverse() {
 		for (int i = 0; i < RATIONALS.length; i++) {
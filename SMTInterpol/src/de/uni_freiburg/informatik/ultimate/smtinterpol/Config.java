@@ -49,14 +49,56 @@ public interface Config {
 	public final static double LIMIT = 1e250;
 	/// Unlearn clauses with activity below this threshold
 	public final static double CLAUSE_UNLEARN_ACTIVITY = 1e-150;
+	/// Learned clauses up to this LBD (glue) are never removed
+	public final static int CLAUSE_TIER_CORE_LBD = 2;
+	/// Learned clauses up to this LBD are kept as long as they are used
+	public final static int CLAUSE_TIER_MID_LBD = 6;
+	/// Number of conflicts before the first reduction of the learned clauses
+	public final static int REDUCE_DB_FIRST = 2000;
+	/// Increment of the number of conflicts between two reductions
+	public final static int REDUCE_DB_INCREMENT = 300;
+	/// Percentage of the local tier of learned clauses removed on reduction
+	public final static int REDUCE_DB_PERCENTAGE = 50;
+	/// Number of conflicts between two inprocessing rounds
+	public final static int INPROCESS_INTERVAL = 10000;
+	/// Maximum number of learned clauses vivified in one inprocessing round
+	public final static int VIVIFY_MAX_CLAUSES = 500;
+	/// Maximum number of literals compared for subsumption in one inprocessing round
+	public final static int SUBSUMPTION_BUDGET = 1000000;
+	/// Maximum number of clauses containing a literal for its variable to be eliminated
+	public final static int ELIM_MAX_OCCURRENCES = 10;
+	/// Maximum size of a resolvent created by variable elimination
+	public final static int ELIM_MAX_RESOLVENT_SIZE = 16;
 	/// Activity factor for atoms
 	public final static double ATOM_ACTIVITY_FACTOR = 1.1;
+	/// Initial step size of the exponential recency weighted average used by the LRB and CHB heuristics
+	public final static double ERWA_ALPHA = 0.4;
+	/// Decrease of the step size per conflict
+	public final static double ERWA_ALPHA_DECAY = 1e-6;
+	/// Minimal step size
+	public final static double ERWA_MIN_ALPHA = 0.06;
+	/// CHB reward multiplier for atoms that did not participate in a conflict
+	public final static double CHB_UNSAT_MULTIPLIER = 0.9;
 	/// Activity factor for clauses
 	public final static double CLS_ACTIVITY_FACTOR = 1.01;
 	/// Backtrack as far as possible
 	public final static boolean DEEP_BACKTRACK = true;
+	/// Backtrack chronologically if a conflict would backjump over more than this many decision levels
+	public final static int CHRONO_BACKTRACK_THRESHOLD = 100;
+	/// Always backjump during the first conflicts
+	public final static int CHRONO_BACKTRACK_MIN_CONFLICTS = 4000;
 	/// When to restart
 	public final static int RESTART_FACTOR = 500;
+	/// Number of recent learned clauses whose LBD is compared to the global average (Glucose restarts)
+	public final static int GLUCOSE_LBD_WINDOW = 50;
+	/// Restart if the recent average LBD times this factor exceeds the global average
+	public final static double GLUCOSE_RESTART_FACTOR = 0.8;
+	/// Number of recent conflicts whose trail size is used to block restarts
+	public final static int GLUCOSE_TRAIL_WINDOW = 5000;
+	/// Block a restart if the trail is longer than this factor times the recent average
+	public final static double GLUCOSE_BLOCKING_FACTOR = 1.4;
+	/// Never block restarts before this many conflicts
+	public final static int GLUCOSE_BLOCKING_MIN_CONFLICTS = 10000;
 	/// The default random seed
 	// Currently delays random splits until the 10000th split...
 	public final static long RANDOM_SEED = 11350294L;
@@ -67,6 +109,8 @@ public interface Config {
 	public final static int RANDOM_SPLIT_FREQ = 2;
 	/// Compute an initial phase bias based on Jeruslaw Wang heuristics
 	public static final boolean INITIAL_PHASE_BIAS_JW = true;
+	/// Number of conflicts before the first rephasing; the interval grows by this amount after every rephasing
+	public final static int REPHASE_INTERVAL = 1000;
 	/// Print information statistics on restarts
 	public static final boolean PRINT_STATISTICS = !COMPETITION;
 
@@ -99,6 +143,25 @@ public interface Config {
 	////// Linear arithmetic configuration
 	/// When to switch back to Bland's Rule (#vars * this_factor)
 	public static final int BLAND_USE_FACTOR = 5;
+	/// Reset the devex weights of the steepest edge pivot rule when a weight grows larger than this
+	public final static double DEVEX_MAX_WEIGHT = 1e6;
+	/// Update the rows of a pivot step in parallel only if #dependent rows * #entries of the pivot row is at least this
+	public final static int PARALLEL_PIVOT_MIN_WORK = 4096;
+	/// Use the floating point simplex only for tableaux with at least this many rows
+	public final static int FLOAT_SIMPLEX_MIN_ROWS = 20;
+	/// Use the floating point simplex only if at least this many variables are out of bounds
+	public final static int FLOAT_SIMPLEX_MIN_OOBS = 10;
+	/// Maximal number of floating point pivots per check (#rows * this_factor)
+	public final static int FLOAT_SIMPLEX_PIVOT_FACTOR = 5;
+	/// Maximal number of rounds of bound tightening in the integer presolve
+	public final static int PRESOLVE_ROUNDS = 10;
+	/// Rows with at least this many column variables are skipped by the integer presolve
+	public final static int PRESOLVE_MAX_ROW_LENGTH = 64;
+
+	////// Difference logic configuration
+	/// Maximal number of nodes visited in each direction when searching theory propagations for a new edge
+	/// (0 disables theory propagation)
+	public final static int DL_PROPAGATION_LIMIT = 32;
 
 	/**
 	 * Should we do paranoid and expensive asserts.
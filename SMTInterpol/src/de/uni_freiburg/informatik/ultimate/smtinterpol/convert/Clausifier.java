@@ -74,6 +74,7 @@ import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.CCTerm;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.CClosure;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.DTReverseTrigger;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.DataTypeTheory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.difflogic.DifferenceLogicSolver;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.EprHelpers;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.EprTheory;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.EprTheorySettings;
@@ -84,6 +85,8 @@ import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.atoms.EprQuant
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.util.Pair;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LASharedTerm;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve.IntBranching;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve.PivotRule;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinVar;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.MutableAffineTerm;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.quant.DestructiveEqualityReasoning.DERResult;
@@ -1075,7 +1078,12 @@ public class Clausifier {
 						needsLA = true;
 					}
 				}
-				if (needsLA) {
+				if (needsLA && mDLSolver != null) {
+					/* the difference logic solver only needs the summands */
+					for (final Term summand : new SMTAffineTerm(term).getSummands().keySet()) {
+						addTermAxioms(summand, source);
+					}
+				} else if (needsLA) {
 					final MutableAffineTerm mat = createMutableAffinTerm(new SMTAffineTerm(term), source);
 					assert mat.getConstant().mEps == 0;
 					shareLATerm(term, new LASharedTerm(term, mat.getSummands(), mat.getConstant().mReal));
@@ -1279,6 +1287,7 @@ public class Clausifier {
 	private final DPLLEngine mEngine;
 	private CClosure mCClosure;
 	private LinArSolve mLASolver;
+	private DifferenceLogicSolver mDLSolver;
 	private ArrayTheory mArrayTheory;
 	private DataTypeTheory mDataTypeTheory;
 	private EprTheory mEprTheory;
@@ -1295,6 +1304,17 @@ public class Clausifier {
 	private boolean mIsUnknownTermDawgsEnabled;
 	private boolean mPropagateUnknownTerms;
 	private boolean mPropagateUnknownAux;
+	private boolean mFloatSimplex;
+	private boolean mDifferenceLogic;
+	private IntBranching mIntBranching = IntBranching.CUTS;
+	private boolean mIntPresolve;
+	private boolean mKeepTableauRows;
+	private PivotRule mPivotRule = PivotRule.SOI;
+	private int mPivotThreads = 1;
+	private boolean mLazyArrayLemmas;
+	private boolean mCCExplanationCache;
+	private boolean mCCFewestLiterals;
+	private int mCCAckermannThreshold;
 
 	/**
 	 * Mapping from subformulas to their literal, if there was any created.
@@ -1946,6 +1966,9 @@ public class Clausifier {
 	private void setupCClosure() {
 		if (mCClosure == null) {
 			mCClosure = new CClosure(this);
+			mCClosure.setExplanationCache(mCCExplanationCache);
+			mCClosure.setFewestLiterals(mCCFewestLiterals);
+			mCClosure.setAckermannThreshold(mCCAckermannThreshold);
 			mEngine.addTheory(mCClosure);
 			/*
 			 * If we do not setup the cclosure at the root level, we remove it with the corresponding pop since the
@@ -1965,13 +1988,26 @@ public class Clausifier {
 	private void setupLinArithmetic() {
 		if (mLASolver == null) {
 			mLASolver = new LinArSolve(this);
+			mLASolver.setFloatSimplex(mFloatSimplex);
+			mLASolver.setIntegerOptions(mIntBranching, mIntPresolve);
+			mLASolver.setKeepRows(mKeepTableauRows);
+			mLASolver.setPivotRule(mPivotRule);
+			mLASolver.setPivotThreads(mPivotThreads);
 			mEngine.addTheory(mLASolver);
 		}
 	}
 
+	private void setupDifferenceLogic() {
+		if (mDLSolver == null) {
+			mDLSolver = new DifferenceLogicSolver(this);
+			mEngine.addTheory(mDLSolver);
+		}
+	}
+
 	private void setupArrayTheory() {
 		if (mArrayTheory == null) {
 			mArrayTheory = new ArrayTheory(this, mCClosure);
+			mArrayTheory.setLazyLemmas(mLazyArrayLemmas);
 			mEngine.addTheory(mArrayTheory);
 		}
 	}
@@ -2003,6 +2039,29 @@ public class Clausifier {
 		}
 	}
 
+	public void setArithmeticOptions(final boolean floatSimplex, final boolean differenceLogic,
+			final IntBranching intBranching, final boolean intPresolve, final boolean keepTableauRows,
+			final PivotRule pivotRule, final int pivotThreads) {
+		mFloatSimplex = floatSimplex;
+		mDifferenceLogic = differenceLogic;
+		mIntBranching = intBranching;
+		mIntPresolve = intPresolve;
+		mKeepTableauRows = keepTableauRows;
+		mPivotRule = pivotRule;
+		mPivotThreads = pivotThreads;
+	}
+
+	public void setArrayOptions(final boolean lazyArrayLemmas) {
+		mLazyArrayLemmas = lazyArrayLemmas;
+	}
+
+	public void setCClosureOptions(final boolean explanationCache, final boolean fewestLiterals,
+			final int ackermannThreshold) {
+		mCCExplanationCache = explanationCache;
+		mCCFewestLiterals = fewestLiterals;
+		mCCAckermannThreshold = ackermannThreshold;
+	}
+
 	public void setQuantifierOptions(final boolean isEprEnabled, final InstantiationMethod instMethod,
 			final boolean enableUnknownTermDawgs, final boolean propagateUnknownTerm,
 			final boolean propagateUnknownAux) {
@@ -2020,7 +2079,13 @@ public class Clausifier {
 			setupCClosure();
 		}
 		if (logic.isArithmetic()) {
-			setupLinArithmetic();
+			// The difference logic solver produces no proofs and does not support theory combination.
+			if (mDifferenceLogic && logic.isDifferenceLogic() && !logic.isUF() && !logic.isArray()
+					&& !logic.isQuantified() && !mEngine.isProofGenerationEnabled()) {
+				setupDifferenceLogic();
+			} else {
+				setupLinArithmetic();
+			}
 		}
 		if (logic.isArray()) {
 			setupArrayTheory();
@@ -2105,6 +2170,10 @@ public class Clausifier {
 		return mLASolver;
 	}
 
+	public DifferenceLogicSolver getDLSolver() {
+		return mDLSolver;
+	}
+
 	public LogProxy getLogger() {
 		return mLogger;
 	}
@@ -2143,6 +2212,9 @@ public class Clausifier {
 		}
 		simpFormula = mTracker.modusPonens(mTracker.asserted(origFormula), simpFormula);
 		origFormula = null;
+		if (mDLSolver != null) {
+			checkDifferenceLogic(mTracker.getProvedTerm(simpFormula));
+		}
 
 		mOccCounter.count(mTracker.getProvedTerm(simpFormula));
 		final Map<Term, Set<String>> names = mCompiler.getNames();
@@ -2204,6 +2276,72 @@ public class Clausifier {
 		mStackLevel -= numpops;
 	}
 
+	/**
+	 * Check that all arithmetic atoms the clausification of a formula creates are difference constraints. This is
+	 * checked before the formula is clausified, so that a rejected formula is not partially asserted.
+	 *
+	 * @param formula
+	 *            the simplified formula.
+	 * @throws SMTLIBException
+	 *             if the formula contains non-difference arithmetic.
+	 */
+	private void checkDifferenceLogic(final Term formula) {
+		final ArrayDeque<Term> todo = new ArrayDeque<>();
+		final HashSet<Term> visited = new HashSet<>();
+		todo.add(formula);
+		while (!todo.isEmpty()) {
+			final Term term = todo.removeLast();
+			if (!visited.add(term)) {
+				continue;
+			}
+			if (term instanceof AnnotatedTerm) {
+				todo.add(((AnnotatedTerm) term).getSubterm());
+				continue;
+			}
+			if (!(term instanceof ApplicationTerm)) {
+				continue;
+			}
+			final ApplicationTerm at = (ApplicationTerm) term;
+			final Term[] params = at.getParameters();
+			switch (at.getFunction().getName()) {
+			case "<=":
+				if (!DifferenceLogicSolver.isDifference(new SMTAffineTerm(params[0]))) {
+					throw new SMTLIBException("Non-difference arithmetic in difference logic: " + term);
+				}
+				break;
+			case "=":
+				if (params[0].getSort().isNumericSort()) {
+					for (int i = 1; i < params.length; i++) {
+						final SMTAffineTerm diff = new SMTAffineTerm(params[i - 1]);
+						diff.add(Rational.MONE, new SMTAffineTerm(params[i]));
+						if (!DifferenceLogicSolver.isDifference(diff)) {
+							throw new SMTLIBException("Non-difference arithmetic in difference logic: " + term);
+						}
+					}
+				}
+				break;
+			case "ite":
+				if (term.getSort().isNumericSort()) {
+					/* the ite axioms compare the ite term with each of its branches */
+					for (int i = 1; i < params.length; i++) {
+						final SMTAffineTerm diff = new SMTAffineTerm(term);
+						diff.add(Rational.MONE, new SMTAffineTerm(params[i]));
+						if (!DifferenceLogicSolver.isDifference(diff)) {
+							throw new SMTLIBException("Non-difference arithmetic in difference logic: " + term);
+						}
+					}
+				}
+				break;
+			case "div":
+			case "to_int":
+				throw new SMTLIBException("Non-difference arithmetic in difference logic: " + term);
+			default:
+				break;
+			}
+			todo.addAll(Arrays.asList(params));
+		}
+	}
+
 	private ProofNode getProofNewSource(final Term proof, final SourceAnnotation source) {
 		final SourceAnnotation annot = (proof == null ? source : new SourceAnnotation(source, proof));
 		return new LeafNode(LeafNode.NO_THEORY, annot);
@@ -2263,8 +2401,15 @@ public class Clausifier {
 		Literal lit = (Literal) getILiteral(leq0term);
 		if (lit == null) {
 			final SMTAffineTerm sum = new SMTAffineTerm(leq0term.getParameters()[0]);
-			final MutableAffineTerm msum = createMutableAffinTerm(sum, source);
-			lit = mLASolver.generateConstraint(msum, false);
+			if (mDLSolver != null) {
+				for (final Term summand : sum.getSummands().keySet()) {
+					addTermAxioms(summand, source);
+				}
+				lit = mDLSolver.createLeq0(sum);
+			} else {
+				final MutableAffineTerm msum = createMutableAffinTerm(sum, source);
+				lit = mLASolver.generateConstraint(msum, false);
+			}
 			setLiteral(leq0term, lit);
 			// we don't need to add any aux axioms for (<= t 0) literal.
 			setTermFlags(leq0term, getTermFlags(leq0term) | Clausifier.POS_AUX_AXIOMS_ADDED
@@ -140,6 +140,12 @@ public class EqualityProxy {
 		mClausifier.addTermAxioms(mLhs, source);
 		mClausifier.addTermAxioms(mRhs, source);
 
+		if (mClausifier.getDLSolver() != null && mLhs.getSort().isNumericSort()) {
+			final SMTAffineTerm affine = SMTAffineTerm.create(mLhs);
+			affine.add(Rational.MONE, SMTAffineTerm.create(mRhs));
+			return mClausifier.getDLSolver().createEquality(affine);
+		}
+
 		final CCTerm lhsCCTerm = mClausifier.getCCTerm(mLhs);
 		final CCTerm rhsCCTerm = mClausifier.getCCTerm(mRhs);
 		boolean hasLhsLA = mClausifier.getLATerm(mLhs) != null;
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+
+/**
+ * The conflict history based heuristic. The reward of an atom decreases with the number of conflicts since it last
+ * participated in one. Atoms that did not participate while they were assigned get a reduced reward.
+ */
+public class CHBHeuristic extends ERWAHeuristic {
+	@Override
+	double reward(final DPLLAtom atom) {
+		final double multiplier = atom.mParticipated > 0 ? 1.0 : Config.CHB_UNSAT_MULTIPLIER;
+		return multiplier / (mConflicts - atom.mLastConflict + 1);
+	}
+}
@@ -53,13 +53,22 @@ public class Clause extends SimpleListable<Clause> {
 	 */
 	int     mNextIsSecond;
 
+	/**
+	 * The blocker of the watchers of this clause on a LinkedWatchList, which links the watchers through the clause
+	 * anyway. The ArrayWatchList stores the blocker of each watcher in the list instead.
+	 */
+	Literal mBlocker;
+
 	/**
 	 * A WatchList is a list of watchers. Each clause with more than one literal has
-	 * two watchers. The first watching lit 0, the next lit1. Their watchers form a
-	 * linked list. A unit clause has only one watcher and the empty clause is
-	 * immediately assigned to mUnsatClause to indicate a proof of unsatisfiable was
-	 * found. For memory efficiency reasons there is no real data structure for
-	 * watchers, but a clause and a bit is used to represent a watcher.
+	 * two watchers. The first watching lit 0, the next lit1. A unit clause has
+	 * only one watcher and the empty clause is immediately assigned to
+	 * mUnsatClause to indicate a proof of unsatisfiable was found. For memory
+	 * efficiency reasons there is no real data structure for watchers, but a
+	 * clause and a bit is used to represent a watcher. There are two
+	 * implementations: the LinkedWatchList links the watchers through the
+	 * clauses, the ArrayWatchList stores them in arrays. The DPLL engine uses
+	 * only one of them.
 	 *
 	 * A watcher is always on exactly one of the following three lists:
 	 * <ul>
@@ -67,6 +76,7 @@ public class Clause extends SimpleListable<Clause> {
 	 * <li>literal.mWatcher</li>
 	 * <li>atom.mBacktrackWatcher</li>
 	 * </ul>
+	 * The lists of literals and atoms are created lazily by the DPLL engine.
 	 *
 	 * A watcher can only be on literal.mWatcher of its corresponding literal and
 	 * only if it is not set to false. The watcher of a unit literal must not be on
@@ -78,22 +88,74 @@ public class Clause extends SimpleListable<Clause> {
 	 * other cases it is on the mPendingWatcherList where it is reassigned to a
 	 * different list in dpllEngine.propagateClauses() when a literal is propagated
 	 * or a better list is found for this watcher.
+	 *
+	 * Every watcher can have a blocker, a literal of its clause that was true when
+	 * the watcher was last visited. If it is still true, the watcher can be moved
+	 * to the backtrack watchers of the blocker without looking at the clause.
+	 *
+	 * Binary clauses are watched by the binary watches of their literals instead
+	 * (see Literal.mBinaryPartners). Their watchers are only put on the
+	 * mPendingWatcherList to check the clause once when it is added, and never
+	 * on the other lists.
+	 */
+	abstract static class WatchList {
+		public abstract boolean isEmpty();
+
+		public abstract int size();
+
+		public void append(final Clause c, final int index) {
+			append(c, index, null);
+		}
+
+		/**
+		 * Append a watcher together with its blocker.
+		 *
+		 * @param blocker
+		 *            a true literal of the clause, or null if the watcher has no blocker.
+		 */
+		public abstract void append(Clause c, int index, Literal blocker);
+
+		/**
+		 * Get the index of the first watcher in this list, i.e., whether it is the first or the second watcher of its
+		 * clause.
+		 */
+		public abstract int getIndex();
+
+		/**
+		 * Get the blocker of the first watcher in this list, or null if it has none.
+		 */
+		public abstract Literal getBlocker();
+
+		public abstract Clause removeFirst();
+
+		/**
+		 * Move all watchers from src to the end of this list. Afterwards src is empty.
+		 */
+		public abstract void moveAll(WatchList src);
+	}
+
+	/**
+	 * A watch list that links the watchers through the clauses. Appending and
+	 * moving all watchers to a different list is done in constant time, but
+	 * traversal needs to visit every clause on the list.
 	 */
-	final static class WatchList {
+	final static class LinkedWatchList extends WatchList {
 		Clause mHead;
 		int    mHeadIndex;
 		Clause mTail;
 		int    mTailIndex;
 		int    mSize;
 
-		public WatchList() {
+		public LinkedWatchList() {
 			mHead = mTail = null;
 		}
 
+		@Override
 		public boolean isEmpty() {
 			return mHead == null;
 		}
 
+		@Override
 		public int size() {
 			return mSize;
 		}
@@ -118,7 +180,15 @@ public class Clause extends SimpleListable<Clause> {
 			mSize++;
 		}
 
-		public void append(final Clause c, final int index) {
+		/**
+		 * Append a watcher. The blocker is stored in the clause and shared by both of its watchers, so a null
+		 * blocker keeps the blocker that the clause already has.
+		 */
+		@Override
+		public void append(final Clause c, final int index, final Literal blocker) {
+			if (blocker != null) {
+				c.mBlocker = blocker;
+			}
 			if (mHead == null) {
 				mHead = c;
 				mHeadIndex = index;
@@ -139,10 +209,17 @@ public class Clause extends SimpleListable<Clause> {
 			mSize++;
 		}
 
+		@Override
 		public int getIndex() {
 			return mHeadIndex;
 		}
 
+		@Override
+		public Literal getBlocker() {
+			return mHead.mBlocker;
+		}
+
+		@Override
 		public Clause removeFirst() {
 			final Clause c = mHead;
 			if (mHeadIndex == 0) {
@@ -164,7 +241,17 @@ public class Clause extends SimpleListable<Clause> {
 			return c;
 		}
 
-		public void moveAll(final WatchList src) {
+		@Override
+		public void moveAll(final WatchList other) {
+			if (!(other instanceof LinkedWatchList)) {
+				while (!other.isEmpty()) {
+					final int index = other.getIndex();
+					final Literal blocker = other.getBlocker();
+					append(other.removeFirst(), index, blocker);
+				}
+				return;
+			}
+			final LinkedWatchList src = (LinkedWatchList) other;
 			if (src.mHead == null) {
 				return;
 			}
@@ -181,6 +268,127 @@ public class Clause extends SimpleListable<Clause> {
 		}
 	}
 
+	/**
+	 * A watch list that stores the watchers in contiguous arrays. The list is
+	 * used as a queue; the live watchers are stored between mHead (inclusive)
+	 * and mTail (exclusive). The blockers are stored next to the watchers, so a
+	 * watcher whose blocker is true is handled without touching its clause. The
+	 * fields mNextFirstWatch, mNextSecondWatch, mNextIsSecond, and mBlocker of the
+	 * clauses are not used.
+	 */
+	final static class ArrayWatchList extends WatchList {
+		private static final int INITIAL_SIZE = 4;
+		Clause[] mClauses;
+		int[] mIndices;
+		Literal[] mBlockers;
+		int mHead;
+		int mTail;
+
+		public ArrayWatchList() {
+			mClauses = new Clause[INITIAL_SIZE];
+			mIndices = new int[INITIAL_SIZE];
+			mBlockers = new Literal[INITIAL_SIZE];
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return mHead == mTail;
+		}
+
+		@Override
+		public int size() {
+			return mTail - mHead;
+		}
+
+		/**
+		 * Make room for at least num more watchers at the end of the list.
+		 */
+		private void ensureCapacity(final int num) {
+			final int size = mTail - mHead;
+			if (mTail + num <= mClauses.length) {
+				return;
+			}
+			if (size + num <= mClauses.length / 2) {
+				/* compact the list by moving the watchers to the front */
+				System.arraycopy(mClauses, mHead, mClauses, 0, size);
+				System.arraycopy(mIndices, mHead, mIndices, 0, size);
+				System.arraycopy(mBlockers, mHead, mBlockers, 0, size);
+				Arrays.fill(mClauses, size, mTail, null);
+				Arrays.fill(mBlockers, size, mTail, null);
+			} else {
+				final int newLength = Math.max(2 * mClauses.length, size + num);
+				final Clause[] newClauses = new Clause[newLength];
+				final int[] newIndices = new int[newLength];
+				final Literal[] newBlockers = new Literal[newLength];
+				System.arraycopy(mClauses, mHead, newClauses, 0, size);
+				System.arraycopy(mIndices, mHead, newIndices, 0, size);
+				System.arraycopy(mBlockers, mHead, newBlockers, 0, size);
+				mClauses = newClauses;
+				mIndices = newIndices;
+				mBlockers = newBlockers;
+			}
+			mHead = 0;
+			mTail = size;
+		}
+
+		@Override
+		public void append(final Clause c, final int index, final Literal blocker) {
+			if (mTail == mClauses.length) {
+				ensureCapacity(1);
+			}
+			mClauses[mTail] = c;
+			mIndices[mTail] = index;
+			mBlockers[mTail] = blocker;
+			mTail++;
+		}
+
+		@Override
+		public int getIndex() {
+			return mIndices[mHead];
+		}
+
+		@Override
+		public Literal getBlocker() {
+			return mBlockers[mHead];
+		}
+
+		@Override
+		public Clause removeFirst() {
+			final Clause c = mClauses[mHead];
+			mBlockers[mHead] = null;
+			mClauses[mHead++] = null;
+			if (mHead == mTail) {
+				mHead = mTail = 0;
+			}
+			return c;
+		}
+
+		@Override
+		public void moveAll(final WatchList other) {
+			if (!(other instanceof ArrayWatchList)) {
+				while (!other.isEmpty()) {
+					final int index = other.getIndex();
+					final Literal blocker = other.getBlocker();
+					append(other.removeFirst(), index, blocker);
+				}
+				return;
+			}
+			final ArrayWatchList src = (ArrayWatchList) other;
+			final int num = src.mTail - src.mHead;
+			if (num == 0) {
+				return;
+			}
+			ensureCapacity(num);
+			System.arraycopy(src.mClauses, src.mHead, mClauses, mTail, num);
+			System.arraycopy(src.mIndices, src.mHead, mIndices, mTail, num);
+			System.arraycopy(src.mBlockers, src.mHead, mBlockers, mTail, num);
+			mTail += num;
+			Arrays.fill(src.mClauses, src.mHead, src.mTail, null);
+			Arrays.fill(src.mBlockers, src.mHead, src.mTail, null);
+			src.mHead = src.mTail = 0;
+		}
+	}
+
 	/**
 	 * The activity of a clause. Infinity for clauses that are not inferred. If
 	 * the activity drops below some point the clause is removed.
@@ -191,6 +399,37 @@ public class Clause extends SimpleListable<Clause> {
 	 */
 	final int mStacklevel;
 
+	/**
+	 * Tier of learned clauses that are never removed by reduceDB.
+	 */
+	static final int TIER_CORE = 0;
+	/**
+	 * Tier of learned clauses that are kept as long as they are used between two reductions.
+	 */
+	static final int TIER_MID = 1;
+	/**
+	 * Tier of learned clauses that are removed by reduceDB if they are not active enough.
+	 */
+	static final int TIER_LOCAL = 2;
+
+	/**
+	 * The literal block distance (glue) of a learned clause, i.e., the number of different decision levels of its
+	 * literals when it was learned or last used in a conflict. This is 0 for all clauses that were not learned.
+	 */
+	int mLBD;
+	/**
+	 * The retention tier of a learned clause (one of TIER_CORE, TIER_MID, TIER_LOCAL).
+	 */
+	int mTier;
+	/**
+	 * Set if the clause was used in a conflict since the last reduction of the learned clauses.
+	 */
+	boolean mUsed;
+	/**
+	 * Set if the inprocessor already tried to vivify this learned clause.
+	 */
+	boolean mVivified;
+
 	/**
 	 * Proof annotation
 	 */
@@ -243,6 +482,15 @@ public class Clause extends SimpleListable<Clause> {
 		return Arrays.toString(mLiterals);
 	}
 
+	/**
+	 * Get the literal block distance of this clause.
+	 *
+	 * @return the literal block distance, or 0 if this is not a learned clause.
+	 */
+	public int getLBD() {
+		return mLBD;
+	}
+
 	public void setActivityInfinite() {
 		mActivity = Double.POSITIVE_INFINITY;
 	}
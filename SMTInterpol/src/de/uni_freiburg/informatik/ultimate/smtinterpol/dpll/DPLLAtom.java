@@ -18,6 +18,8 @@
  */
 package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
 
+import java.util.ArrayList;
+
 import de.uni_freiburg.informatik.ultimate.logic.SMTLIBException;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.Theory;
@@ -64,9 +66,36 @@ public abstract class DPLLAtom extends Literal {
 	int mStackPosition = -1;
 	Literal mDecideStatus;
 	Literal mLastStatus;
+	/**
+	 * The status of this atom in the longest conflict free trail since the last restart (target phase) and since the
+	 * last rephasing (best phase). Null if the atom was not part of such a trail.
+	 */
+	Literal mTargetStatus;
+	Literal mBestStatus;
+	/**
+	 * The Jeroslow-Wang score of this atom: the sum of 2^-n over all input clauses of length n containing the atom
+	 * minus the same sum over the clauses containing its negation.
+	 */
+	double mPhaseScore;
 	double  mActivity;
+	/**
+	 * Bookkeeping for the decision heuristics: the number of conflicts when this atom was last assigned and when it
+	 * last participated in a conflict, and the number of conflicts it participated in since its assignment.
+	 */
+	long mAssignedConflicts;
+	long mLastConflict;
+	int mParticipated;
 	public Object  mExplanation;
-	Clause.WatchList mBacktrackWatchers = new Clause.WatchList();
+	/**
+	 * The watchers that need to be checked again when this atom is backtracked. This is created by the DPLLEngine
+	 * when the first watcher is added.
+	 */
+	Clause.WatchList mBacktrackWatchers;
+	/**
+	 * False literals whose binary watches need to be checked again when this atom is backtracked. A false literal is
+	 * added here if one of its binary clauses is satisfied by this atom, but this atom was set after the literal.
+	 */
+	ArrayList<Literal> mBinaryBacktrackLits;
 	int mAtomQueueIndex = -1;
 	final int mAssertionstacklevel;
 	boolean mPreferredStatusIsLocked;
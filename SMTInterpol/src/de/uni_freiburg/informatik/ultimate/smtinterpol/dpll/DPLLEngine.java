@@ -21,6 +21,7 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
 import java.io.PrintWriter;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -36,6 +37,8 @@ import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.Theory;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.LogProxy;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause.ArrayWatchList;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause.LinkedWatchList;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause.WatchList;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLAtom.TrueAtom;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.LeafNode;
@@ -82,7 +85,7 @@ public class DPLLEngine {
 	/**
 	 * List of all input clauses. This list should not contain any learned clauses!
 	 */
-	private final SimpleList<Clause> mClauses = new SimpleList<>();
+	final SimpleList<Clause> mClauses = new SimpleList<>();
 
 	/**
 	 * Empty clause. This is a cache that speeds up detecting unsatisfiability in
@@ -93,19 +96,39 @@ public class DPLLEngine {
 	/**
 	 * The literals assumed in the last check-sat-assuming call.
 	 */
-	private final Set<Literal> mAssumptionLiterals = new LinkedHashSet<>();
+	final Set<Literal> mAssumptionLiterals = new LinkedHashSet<>();
 
 	/* Statistics */
 	private int mConflicts, mDecides, mTProps, mProps;
-	private int mNumSolvedAtoms, mNumClauses, mNumAxiomClauses;
+	private int mNumSolvedAtoms, mNumAxiomClauses;
+	int mNumClauses;
 	SimpleList<Clause> mLearnedClauses = new SimpleList<>();
 	private long mPropTime, mPropClauseTime, mExplainTime;
 	private long mSetTime, mCheckTime, mBacktrackTime;
 	private int mNumRandomSplits;
+	private int mNumReduceDB, mNumDeletedClauses;
+
+	/**
+	 * The number of conflicts after which the learned clauses are reduced next.
+	 */
+	private int mNextReduceDB = Config.REDUCE_DB_FIRST;
+	/**
+	 * The current number of conflicts between two reductions of the learned clauses.
+	 */
+	private int mReduceDBInterval = Config.REDUCE_DB_FIRST;
+	/**
+	 * The number of conflicts by which the interval between two reductions grows.
+	 */
+	private int mReduceDBIncrement = Config.REDUCE_DB_INCREMENT;
+	/**
+	 * Stamps for the decide levels used to compute the literal block distance of a clause. A level was already seen if
+	 * its entry equals mLevelStamp.
+	 */
+	private int[] mLevelStamps = new int[64];
+	private int mLevelStamp = 0;
 
 	private boolean mHasModel;
 
-	double mAtomScale = 1 - 1.0 / Config.ATOM_ACTIVITY_FACTOR;
 	double mClsScale = 1 - 1.0 / Config.CLS_ACTIVITY_FACTOR;
 
 	/**
@@ -114,7 +137,132 @@ public class DPLLEngine {
 	 * the backtrack list of a true literal, or because the watched literal was just
 	 * set to false.
 	 */
-	WatchList mPendingWatcherList = new WatchList();
+	WatchList mPendingWatcherList = new LinkedWatchList();
+
+	/**
+	 * True if watchers are stored in array based watch lists instead of being linked through the clauses.
+	 */
+	private boolean mArrayWatchLists = false;
+
+	/**
+	 * The strategies to decide when to restart.
+	 */
+	public static enum RestartStrategy {
+		LUBY {
+			@Override
+			IRestartStrategy create() {
+				return new LubyRestarts();
+			}
+		},
+		GLUCOSE {
+			@Override
+			IRestartStrategy create() {
+				return new GlucoseRestarts();
+			}
+		};
+		abstract IRestartStrategy create();
+	}
+
+	/**
+	 * The strategy deciding when the search restarts.
+	 */
+	private IRestartStrategy mRestartStrategy = RestartStrategy.LUBY.create();
+	/**
+	 * The literal block distance of the first clause learned in the last call of {@link #explain(Clause)} and the
+	 * trail size at its conflict. The search loop passes them to the restart strategy once per conflict.
+	 */
+	private int mLastConflictLBD, mLastConflictTrailSize;
+
+	/**
+	 * The heuristics to score atoms for decisions.
+	 */
+	public static enum DecisionHeuristic {
+		VSIDS {
+			@Override
+			IDecisionHeuristic create() {
+				return new VSIDSHeuristic();
+			}
+		},
+		LRB {
+			@Override
+			IDecisionHeuristic create() {
+				return new LRBHeuristic();
+			}
+		},
+		CHB {
+			@Override
+			IDecisionHeuristic create() {
+				return new CHBHeuristic();
+			}
+		};
+		abstract IDecisionHeuristic create();
+	}
+
+	/**
+	 * The heuristic scoring the atoms for decisions.
+	 */
+	private IDecisionHeuristic mDecisionHeuristic = DecisionHeuristic.VSIDS.create();
+
+	/**
+	 * True if the literals removed by a restart are saved and replayed when the search makes the same decision again.
+	 */
+	private boolean mTrailSaving = false;
+	/**
+	 * The literals removed from the DPLL stack by the last restart in stack order, and their explanations. A null
+	 * explanation marks a decision. mSavedTrailPos is the index of the next decision that is expected.
+	 */
+	private final ArrayList<Literal> mSavedTrail = new ArrayList<>();
+	private final ArrayList<Object> mSavedReasons = new ArrayList<>();
+	private int mSavedTrailPos;
+	private int mNumSavedLits, mNumReplayedLits;
+
+	/**
+	 * True if learned clauses are strengthened by resolution with the binary clauses of their asserting literal.
+	 */
+	private boolean mBinaryMinimization = false;
+	private long mNumMinimizeLits, mNumMinimizeRecursive, mNumMinimizeBinary;
+
+	/**
+	 * The inprocessor that simplifies the clause database at some restarts, or null if inprocessing is disabled.
+	 */
+	private Inprocessor mInprocessor;
+	private int mInprocessInterval = Config.INPROCESS_INTERVAL;
+	private long mNextInprocess = Config.INPROCESS_INTERVAL;
+
+	/**
+	 * True if decisions follow the target phases and the saved phases are periodically reset (rephasing). The target
+	 * phases are the assignment of the longest conflict free trail since the last restart, the best phases that of
+	 * the longest conflict free trail since the last rephasing.
+	 */
+	private boolean mTargetPhases = false;
+	private int mTargetTrailSize, mBestTrailSize;
+	private int mRephaseInterval = Config.REPHASE_INTERVAL;
+	private long mNextRephase = Config.REPHASE_INTERVAL;
+	private int mNumRephases;
+
+	/**
+	 * True if conflicts that would backjump over many decision levels only backtrack the conflict level. The
+	 * asserting literal is then propagated on the current decision level, which keeps the DPLL stack ordered by
+	 * decision level and preserves the theory state of the skipped levels.
+	 */
+	private boolean mChronoBacktracking = false;
+	/**
+	 * The number of decision levels a backjump must skip to backtrack chronologically instead.
+	 */
+	private int mChronoBacktrackThreshold = Config.CHRONO_BACKTRACK_THRESHOLD;
+	/**
+	 * The number of conflicts before chronological backtracking starts.
+	 */
+	private int mChronoBacktrackMinConflicts = Config.CHRONO_BACKTRACK_MIN_CONFLICTS;
+	private long mNumChronoBacktracks;
+
+	/**
+	 * The false literals whose binary watches still need to be checked. The first literal is the one currently being
+	 * checked and mPendingBinaryPos is the index of its next binary watch. Literals that are no longer false when they
+	 * are checked are skipped.
+	 */
+	final ArrayDeque<Literal> mPendingBinaryLits = new ArrayDeque<>();
+	private int mPendingBinaryPos;
 
 	/**
 	 * The DPLL stack is the stack of all literals that are currently assigned true.
@@ -129,9 +277,9 @@ public class DPLLEngine {
 	 * The list of all theories.
 	 */
 	private ITheory[] mTheories = new ITheory[0];
-	private final AtomQueue mAtoms = new AtomQueue();
+	final AtomQueue mAtoms = new AtomQueue();
 
-	private int mCurrentDecideLevel = 0;
+	int mCurrentDecideLevel = 0;
 	private int mBaseLevel = 0;
 	private boolean mPGenabled = false;
 	private ScopedHashMap<String, Literal> mAssignments;
@@ -320,21 +468,69 @@ public class DPLLEngine {
 	 *
 	 * @return a conflict clause, null if no conflict was found.
 	 */
-	private Clause propagateClauses() {
+	Clause propagateClauses() {
 		long time = 0;
 		if (Config.PROFILE_TIME) {
 			time = System.nanoTime() - mSetTime;
 		}
 
+		final Clause binaryResult = propagateBinaryClauses();
+		if (binaryResult != null || !mPendingBinaryLits.isEmpty()) {
+			if (Config.PROFILE_TIME) {
+				mPropClauseTime += System.nanoTime() - time - mSetTime;
+			}
+			return binaryResult;
+		}
+
 		// logger.info("new set: "+watcherSetList.size());
 		nextList: while (!mPendingWatcherList.isEmpty()) {
 			final int index = mPendingWatcherList.getIndex();
+			final Literal blocker = mPendingWatcherList.getBlocker();
 			Clause clause = mPendingWatcherList.removeFirst();
+			/*
+			 * check if the clause is still satisfied by the last true literal we found. A removed clause is dropped
+			 * when the blocker is backtracked.
+			 */
+			if (blocker != null && blocker.mAtom.mDecideStatus == blocker) {
+				getBacktrackWatchers(blocker.mAtom).append(clause, index, blocker);
+				continue nextList;
+			}
 			/* check if clause was already removed */
 			if (clause.mNext == null) {
 				continue nextList;
 			}
 			final Literal[] lits = clause.mLiterals;
+			if (lits.length == 2) {
+				/*
+				 * This is the initial check of a new binary clause. Afterwards it is only watched by the binary
+				 * watches of its literals.
+				 */
+				final Literal myLit = lits[index];
+				final DPLLAtom myAtom = myLit.getAtom();
+				if (myAtom.mDecideStatus != myLit.negate()) {
+					continue nextList;
+				}
+				final Literal otherLit = lits[1 - index];
+				final DPLLAtom otherAtom = otherLit.getAtom();
+				if (otherAtom.mDecideStatus == otherLit) {
+					if (otherAtom.mStackPosition > myAtom.mStackPosition) {
+						addBinaryBacktrack(otherAtom, myLit);
+					}
+					continue nextList;
+				}
+				if (otherAtom.mDecideStatus == null) {
+					otherAtom.mExplanation = clause;
+					mProps++;
+					clause = setLiteral(otherLit);
+				} else {
+					/* Conflict clause. After resolving this, we need to re-check this clause. */
+					mPendingWatcherList.append(clause, index);
+				}
+				if (Config.PROFILE_TIME) {
+					mPropClauseTime += System.nanoTime() - time - mSetTime;
+				}
+				return clause;// NOPMD
+			}
 			/*
 			 * For non-unit clauses we check if the watched literal is set to false. If not,
 			 * just put the watcher back on the list. A unit clause has a watcher on a
@@ -345,7 +541,7 @@ public class DPLLEngine {
 				final Literal myLit = lits[index];
 				if (myLit.getAtom().getDecideStatus() != myLit.negate()) {
 					/* The watcher is still fine. Put it on the mWatchers list of that literal */
-					myLit.mWatchers.append(clause, index);
+					getWatchers(myLit).append(clause, index, blocker);
 					continue nextList;
 				}
 			} else {
@@ -363,7 +559,7 @@ public class DPLLEngine {
 				/*
 				 * Other watcher is true, put ourself on the backtrack watcher list.
 				 */
-				otherAtom.mBacktrackWatchers.append(clause, index);
+				getBacktrackWatchers(otherAtom).append(clause, index, otherLit);
 				continue nextList;
 			}
 			for (int i = 2; i < lits.length; i++) {
@@ -372,9 +568,12 @@ public class DPLLEngine {
 				final Literal status = atom.mDecideStatus;
 				if (status != lit.negate()) {
 					/* check if clause is too old to keep */
-					if (clause.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY && status == null
+					if (clause.mTier == Clause.TIER_LOCAL
+							&& clause.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY && status == null
 							&& clause.doCleanup(this)) {
 						clause.removeFromList();
+						mNumClauses--;
+						mNumDeletedClauses++;
 					} else {
 						/* watch this literal */
 						for (int j = i; j > 2; j--) {
@@ -382,7 +581,7 @@ public class DPLLEngine {
 						}
 						lits[2] = lits[index];
 						lits[index] = lit;
-						lit.mWatchers.append(clause, index);
+						getWatchers(lit).append(clause, index, status == lit ? lit : blocker);
 					}
 					continue nextList;
 				}
@@ -398,7 +597,7 @@ public class DPLLEngine {
 				 * Put it on backtrack watchers of the other atom so it is reconsidered when we
 				 * backtrack.
 				 */
-				otherAtom.mBacktrackWatchers.append(clause, index);
+				getBacktrackWatchers(otherAtom).append(clause, index, otherLit);
 				/* Propagate the unit clause. */
 				otherAtom.mExplanation = clause;
 				mProps++;
@@ -408,7 +607,7 @@ public class DPLLEngine {
 				 * clause is a conflict clause. After resolving this, we need to re-check this
 				 * clause.
 				 */
-				mPendingWatcherList.append(clause, index);
+				mPendingWatcherList.append(clause, index, blocker);
 			}
 			/* Conflict clause */
 			if (Config.PROFILE_TIME) {
@@ -422,6 +621,315 @@ public class DPLLEngine {
 		return null;
 	}
 
+	/**
+	 * Check the binary watches of the pending false literals. This returns early if a literal was propagated.
+	 *
+	 * @return a conflict clause, null if no conflict was found.
+	 */
+	private Clause propagateBinaryClauses() {
+		while (!mPendingBinaryLits.isEmpty()) {
+			final Literal falseLit = mPendingBinaryLits.getFirst();
+			final DPLLAtom falseAtom = falseLit.mAtom;
+			if (falseAtom.mDecideStatus == falseLit.negate()) {
+				final Literal[] partners = falseLit.mBinaryPartners;
+				while (mPendingBinaryPos < falseLit.mNumBinary) {
+					final int pos = mPendingBinaryPos++;
+					final Literal otherLit = partners[pos];
+					final DPLLAtom otherAtom = otherLit.mAtom;
+					final Literal status = otherAtom.mDecideStatus;
+					if (status == otherLit) {
+						if (otherAtom.mStackPosition > falseAtom.mStackPosition) {
+							addBinaryBacktrack(otherAtom, falseLit);
+						}
+					} else if (status == null) {
+						/* Propagate the unit clause. It is set after falseLit, so it is backtracked first. */
+						otherAtom.mExplanation = falseLit.mBinaryClauses[pos];
+						mProps++;
+						return setLiteral(otherLit);
+					} else {
+						/* Conflict clause. Check all binary watches again after resolving the conflict. */
+						mPendingBinaryPos = 0;
+						return falseLit.mBinaryClauses[pos];
+					}
+				}
+			}
+			mPendingBinaryLits.removeFirst();
+			mPendingBinaryPos = 0;
+		}
+		return null;
+	}
+
+	private WatchList createWatchList() {
+		return mArrayWatchLists ? new ArrayWatchList() : new LinkedWatchList();
+	}
+
+	private WatchList getWatchers(final Literal lit) {
+		WatchList watchers = lit.mWatchers;
+		if (watchers == null) {
+			watchers = lit.mWatchers = createWatchList();
+		}
+		return watchers;
+	}
+
+	private WatchList getBacktrackWatchers(final DPLLAtom atom) {
+		WatchList watchers = atom.mBacktrackWatchers;
+		if (watchers == null) {
+			watchers = atom.mBacktrackWatchers = createWatchList();
+		}
+		return watchers;
+	}
+
+	/**
+	 * Select the watch list implementation. This must be called before the first clause is added.
+	 *
+	 * @param arrayWatchLists
+	 *            true to store the watchers in arrays, false to link them through the clauses.
+	 */
+	public void setArrayWatchLists(final boolean arrayWatchLists) {
+		assert mPendingWatcherList.isEmpty();
+		mArrayWatchLists = arrayWatchLists;
+		mPendingWatcherList = createWatchList();
+	}
+
+	/**
+	 * Select the strategy that decides when to restart.
+	 *
+	 * @param strategy
+	 *            the restart strategy.
+	 */
+	public void setRestartStrategy(final RestartStrategy strategy) {
+		mRestartStrategy = strategy.create();
+	}
+
+	/**
+	 * Select the heuristic that scores the atoms for decisions.
+	 *
+	 * @param heuristic
+	 *            the decision heuristic.
+	 */
+	public void setDecisionHeuristic(final DecisionHeuristic heuristic) {
+		mDecisionHeuristic = heuristic.create();
+	}
+
+	/**
+	 * Enable or disable trail saving on restarts.
+	 *
+	 * @param trailSaving
+	 *            true if the literals removed by a restart should be replayed.
+	 */
+	public void setTrailSaving(final boolean trailSaving) {
+		mTrailSaving = trailSaving;
+		clearSavedTrail();
+	}
+
+	/**
+	 * Set when the learned clauses are reduced.
+	 *
+	 * @param first
+	 *            the number of conflicts before the first reduction.
+	 * @param increment
+	 *            the number of conflicts by which the interval between two reductions grows.
+	 */
+	public void setReduceDB(final int first, final int increment) {
+		mNextReduceDB = mReduceDBInterval = first;
+		mReduceDBIncrement = increment;
+	}
+
+	/**
+	 * Enable or disable the strengthening of learned clauses with binary clauses.
+	 *
+	 * @param binaryMinimization
+	 *            true if learned clauses should be strengthened with the binary clauses of their asserting literal.
+	 */
+	public void setBinaryMinimization(final boolean binaryMinimization) {
+		mBinaryMinimization = binaryMinimization;
+	}
+
+	/**
+	 * Enable or disable inprocessing, i.e., subsumption, vivification and variable elimination during the search.
+	 *
+	 * @param inprocessing
+	 *            true if the clause database should be simplified at some restarts.
+	 */
+	public void setInprocessing(final boolean inprocessing) {
+		mInprocessor = inprocessing ? new Inprocessor(this) : null;
+	}
+
+	/**
+	 * Set the number of conflicts between two inprocessing rounds.
+	 *
+	 * @param interval
+	 *            the number of conflicts.
+	 */
+	public void setInprocessInterval(final int interval) {
+		mInprocessInterval = interval;
+		mNextInprocess = mConflicts + interval;
+	}
+
+	/**
+	 * Enable or disable target phases and rephasing.
+	 *
+	 * @param targetPhases
+	 *            true if decisions should follow the longest conflict free trail.
+	 */
+	public void setTargetPhases(final boolean targetPhases) {
+		mTargetPhases = targetPhases;
+	}
+
+	/**
+	 * Set the number of conflicts before the first rephasing. The interval grows by this amount after every rephasing.
+	 *
+	 * @param interval
+	 *            the number of conflicts.
+	 */
+	public void setRephaseInterval(final int interval) {
+		mRephaseInterval = interval;
+		mNextRephase = mConflicts + (long) interval * (mNumRephases + 1);
+	}
+
+	/**
+	 * Enable or disable chronological backtracking.
+	 *
+	 * @param chronoBacktracking
+	 *            true if long backjumps should be replaced by backtracking only the conflict level.
+	 */
+	public void setChronoBacktracking(final boolean chronoBacktracking) {
+		mChronoBacktracking = chronoBacktracking;
+	}
+
+	/**
+	 * Set when chronological backtracking is used.
+	 *
+	 * @param threshold
+	 *            the number of decision levels a backjump must skip to backtrack chronologically instead.
+	 * @param minConflicts
+	 *            the number of conflicts before chronological backtracking starts.
+	 */
+	public void setChronoBacktrackLimits(final int threshold, final int minConflicts) {
+		mChronoBacktrackThreshold = threshold;
+		mChronoBacktrackMinConflicts = minConflicts;
+	}
+
+	/**
+	 * Backtrack to decision level 0 and run the inprocessor.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause inprocess() {
+		mNextInprocess = mConflicts + mInprocessInterval;
+		clearSavedTrail();
+		while (mCurrentDecideLevel > 0) {
+			backtrackLiteral(mDPLLStack.remove(mDPLLStack.size() - 1));
+		}
+		final Clause conflict = finalizeBacktrack();
+		if (conflict != null) {
+			return conflict;
+		}
+		return mInprocessor.inprocess();
+	}
+
+	private void clearSavedTrail() {
+		mSavedTrail.clear();
+		mSavedReasons.clear();
+		mSavedTrailPos = 0;
+	}
+
+	/**
+	 * Save the literals above a restart position before they are backtracked.
+	 *
+	 * @param restartpos
+	 *            the position of the first decision that is removed by the restart.
+	 */
+	private void saveTrail(final int restartpos) {
+		clearSavedTrail();
+		for (int i = restartpos; i < mDPLLStack.size(); i++) {
+			final Literal lit = mDPLLStack.get(i);
+			mSavedTrail.add(lit);
+			mSavedReasons.add(lit.getAtom().mExplanation);
+		}
+		mNumSavedLits += mSavedTrail.size();
+	}
+
+	/**
+	 * Check if a clause can still explain a literal, i.e., it is still in the clause database and all other literals
+	 * are false.
+	 */
+	private static boolean isUnitReason(final Clause clause, final Literal lit) {
+		if (clause.mNext == null) {
+			return false;
+		}
+		for (final Literal other : clause.mLiterals) {
+			if (other != lit && other.getAtom().mDecideStatus != other.negate()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Replay the saved propagations following a decision. If the decision is the next saved decision, the literals
+	 * that were propagated by a clause after this decision are set again directly with the same explanation, instead of
+	 * rediscovering them through the watch lists. Every explanation is checked to still be a unit clause. If the search
+	 * makes a different decision, the saved trail is discarded.
+	 *
+	 * @param decision
+	 *            the literal that was just decided.
+	 * @return a conflict clause if setting a literal caused a conflict.
+	 */
+	private Clause replaySavedTrail(final Literal decision) {
+		if (mSavedTrail.get(mSavedTrailPos) != decision) {
+			clearSavedTrail();
+			return null;
+		}
+		mSavedTrailPos++;
+		while (mSavedTrailPos < mSavedTrail.size() && mSavedReasons.get(mSavedTrailPos) != null) {
+			final Literal lit = mSavedTrail.get(mSavedTrailPos);
+			final Object reason = mSavedReasons.get(mSavedTrailPos);
+			mSavedTrailPos++;
+			if (lit.getAtom().mDecideStatus == null && reason instanceof Clause
+					&& isUnitReason((Clause) reason, lit)) {
+				lit.getAtom().mExplanation = reason;
+				mNumReplayedLits++;
+				final Clause conflict = setLiteral(lit);
+				if (conflict != null) {
+					return conflict;
+				}
+			}
+		}
+		if (mSavedTrailPos == mSavedTrail.size()) {
+			clearSavedTrail();
+		}
+		return null;
+	}
+
+	/**
+	 * Remember to check the binary watches of falseLit again when trueAtom is backtracked. The binary watches of a
+	 * literal are checked in one go, so a literal with several binary clauses satisfied by trueAtom, e.g., duplicated
+	 * clauses, is only added once. Otherwise the literal would be checked again once per clause on backtracking and
+	 * added again once per clause for every check.
+	 */
+	private static void addBinaryBacktrack(final DPLLAtom trueAtom, final Literal falseLit) {
+		ArrayList<Literal> backtrackLits = trueAtom.mBinaryBacktrackLits;
+		if (backtrackLits == null) {
+			backtrackLits = trueAtom.mBinaryBacktrackLits = new ArrayList<>();
+		} else if (!backtrackLits.isEmpty() && backtrackLits.get(backtrackLits.size() - 1) == falseLit) {
+			return;
+		}
+		backtrackLits.add(falseLit);
+	}
+
+	/**
+	 * Remove the binary watches of a clause that is removed from the clause database.
+	 */
+	void detachClause(final Clause clause) {
+		if (clause.mLiterals.length == 2) {
+			clause.mLiterals[0].removeBinaryWatch(clause);
+			clause.mLiterals[1].removeBinaryWatch(clause);
+			/* the order of the binary watches changed, so restart checking them */
+			mPendingBinaryPos = 0;
+		}
+	}
+
 	private boolean checkConflict(final Clause conflict) {
 		for (final Literal lit : conflict.mLiterals) {
 			final DPLLAtom a = lit.getAtom();
@@ -451,8 +959,14 @@ public class DPLLEngine {
 			atom.mLastStatus = atom.mDecideStatus;
 		}
 		mAtoms.remove(atom);
+		mDecisionHeuristic.assigned(atom);
 		assert !Config.EXPENSIVE_ASSERTS || checkDecideLevel();
-		mPendingWatcherList.moveAll(literal.negate().mWatchers);
+		if (literal.negate().mWatchers != null) {
+			mPendingWatcherList.moveAll(literal.negate().mWatchers);
+		}
+		if (literal.negate().mNumBinary > 0) {
+			mPendingBinaryLits.addLast(literal.negate());
+		}
 		long time;
 		if (Config.PROFILE_TIME) {
 			time = System.nanoTime();
@@ -477,6 +991,14 @@ public class DPLLEngine {
 	}
 
 	public void watchClause(final Clause clause) {
+		if (mInprocessor != null && mInprocessor.hasEliminated()) {
+			for (final Literal lit : clause.mLiterals) {
+				if (mInprocessor.isEliminated(lit.getAtom())) {
+					mInprocessor.restoreEliminated();
+					break;
+				}
+			}
+		}
 		if (clause.getSize() <= 1) {
 			if (clause.getSize() == 0) {
 				if (mUnsatClause == null) {
@@ -487,6 +1009,11 @@ public class DPLLEngine {
 				mPendingWatcherList.append(clause, 1);
 			}
 		} else {
+			if (clause.getSize() == 2) {
+				/* binary clauses are watched by the binary watches of their literals */
+				clause.mLiterals[0].addBinaryWatch(clause.mLiterals[1], clause);
+				clause.mLiterals[1].addBinaryWatch(clause.mLiterals[0], clause);
+			}
 			/*
 			 * A clause is "watched" if it appears on either the watcherBack/SetList or the
 			 * watchers list of some atom.
@@ -497,15 +1024,57 @@ public class DPLLEngine {
 	}
 
 	public void addClause(final Clause clause) {
-		mAtomScale += 1.0 - 1.0 / Config.ATOM_ACTIVITY_FACTOR;
+		assert clause.mStacklevel == mPushPopLevel;
+		addInputClause(clause);
+	}
+
+	/**
+	 * Add an input clause to the clause database. The inprocessor uses this for resolvents and restored clauses.
+	 *
+	 * @param clause
+	 *            the input clause. Its stack level must not be lower than the stack level of the other input clauses.
+	 */
+	void addInputClause(final Clause clause) {
+		mDecisionHeuristic.clauseAdded();
 		clause.mActivity = Double.POSITIVE_INFINITY;
 		mNumAxiomClauses++;
-		assert clause.mStacklevel == mPushPopLevel;
 		mClauses.prepend(clause);
+		updatePhaseScores(clause, 1);
 		watchClause(clause);
 	}
 
+	/**
+	 * Remove an input clause from the clause database. The inprocessor uses this for subsumed and eliminated clauses.
+	 *
+	 * @param clause
+	 *            the input clause.
+	 */
+	void removeInputClause(final Clause clause) {
+		detachClause(clause);
+		updatePhaseScores(clause, -1);
+		clause.removeFromList();
+	}
+
+	/**
+	 * Add or remove the Jeroslow-Wang weight of an input clause to the phase scores of its atoms.
+	 *
+	 * @param clause
+	 *            the input clause.
+	 * @param sign
+	 *            1 if the clause was added, -1 if it was removed.
+	 */
+	private void updatePhaseScores(final Clause clause, final int sign) {
+		if (Config.INITIAL_PHASE_BIAS_JW) {
+			final double weight = sign * Math.scalb(1.0, -clause.getSize());
+			for (final Literal lit : clause.mLiterals) {
+				lit.getAtom().mPhaseScore += lit.getSign() * weight;
+			}
+		}
+	}
+
 	void removeClause(final Clause c) {
+		clearSavedTrail();
+		detachClause(c);
 		c.removeFromList();
 	}
 
@@ -525,16 +1094,80 @@ public class DPLLEngine {
 	}
 
 	public void learnClause(final Clause clause) {
-		mAtomScale += 1.0 - 1.0 / Config.ATOM_ACTIVITY_FACTOR;
+		mDecisionHeuristic.clauseAdded();
 		mNumClauses++;
 		clause.mActivity = mClsScale;// Double.POSITIVE_INFINITY;
+		clause.mLBD = computeLBD(clause.mLiterals);
+		clause.mTier = getTier(clause.mLBD);
 		if (clause.getSize() <= 2) {
 			clause.mActivity = Double.POSITIVE_INFINITY;
+			clause.mTier = Clause.TIER_CORE;
 		}
 		mLearnedClauses.append(clause);
 		watchClause(clause);
 	}
 
+	/**
+	 * Compute the literal block distance of a clause, i.e., the number of different decision levels of its literals.
+	 * All unassigned literals count as one additional level.
+	 *
+	 * @param lits
+	 *            the literals of the clause.
+	 * @return the literal block distance; at least 1.
+	 */
+	private int computeLBD(final Literal[] lits) {
+		if (++mLevelStamp == Integer.MAX_VALUE) {
+			Arrays.fill(mLevelStamps, 0);
+			mLevelStamp = 1;
+		}
+		int lbd = 0;
+		boolean hasUnassigned = false;
+		for (final Literal lit : lits) {
+			final int level = lit.getAtom().mDecideLevel;
+			if (level < 0) {
+				hasUnassigned = true;
+				continue;
+			}
+			if (level >= mLevelStamps.length) {
+				mLevelStamps = Arrays.copyOf(mLevelStamps, Math.max(level + 1, 2 * mLevelStamps.length));
+			}
+			if (mLevelStamps[level] != mLevelStamp) {
+				mLevelStamps[level] = mLevelStamp;
+				lbd++;
+			}
+		}
+		if (hasUnassigned || lbd == 0) {
+			lbd++;
+		}
+		return lbd;
+	}
+
+	private static int getTier(final int lbd) {
+		return lbd <= Config.CLAUSE_TIER_CORE_LBD ? Clause.TIER_CORE
+				: lbd <= Config.CLAUSE_TIER_MID_LBD ? Clause.TIER_MID : Clause.TIER_LOCAL;
+	}
+
+	/**
+	 * Bump a clause that is used as antecedent in conflict analysis. For learned clauses this also updates the literal
+	 * block distance and may promote the clause to a better tier.
+	 *
+	 * @param expl
+	 *            the antecedent clause. All its literals must be assigned.
+	 */
+	private void bumpClause(final Clause expl) {
+		expl.mActivity += mClsScale;
+		if (expl.mLBD > 0) {
+			expl.mUsed = true;
+			if (expl.mTier != Clause.TIER_CORE) {
+				final int lbd = computeLBD(expl.mLiterals);
+				if (lbd < expl.mLBD) {
+					expl.mLBD = lbd;
+					expl.mTier = Math.min(expl.mTier, getTier(lbd));
+				}
+			}
+		}
+	}
+
 	// public void addInstantiationClause(Literal[] lits) {
 	// ++num_insts;
 	// Clause clause = new Clause(lits);
@@ -594,7 +1227,7 @@ public class DPLLEngine {
 		int expstacklevel = clause.mStacklevel;
 		mConflicts++;
 		assert checkDecideLevel();
-		mAtomScale *= Config.ATOM_ACTIVITY_FACTOR;
+		mDecisionHeuristic.conflict();
 		mClsScale *= Config.CLS_ACTIVITY_FACTOR;
 		final Set<Literal> conflict = new CuckooHashSet<>();
 		int maxDecideLevel = mBaseLevel + 1;
@@ -621,7 +1254,7 @@ public class DPLLEngine {
 					expstacklevel = level0resolve(lit, level0Ants, expstacklevel);
 				}
 			}
-			atom.mActivity += mAtomScale;
+			mDecisionHeuristic.bump(atom);
 		}
 		mLogger.debug("removing level0: %s", conflict);
 		if (conflict.size() == numAssumptions) {
@@ -687,7 +1320,7 @@ public class DPLLEngine {
 
 			/* Do a resolution step with explanation */
 			final Clause expl = getExplanation(lit);
-			expl.mActivity += mClsScale;
+			bumpClause(expl);
 			// expl.usedTimes++;
 			expstacklevel = Math.max(expstacklevel, expl.mStacklevel);
 			if (isProofGenerationEnabled()) {
@@ -716,7 +1349,7 @@ public class DPLLEngine {
 						// Here, we do level0 resolution as well
 						expstacklevel = level0resolve(l, level0Ants, expstacklevel);
 					}
-					l.getAtom().mActivity += mAtomScale;
+					mDecisionHeuristic.bump(l.getAtom());
 				}
 			}
 			assert countLitsOnDecideLevel(conflict) == numLitsOnMaxDecideLevel;
@@ -734,12 +1367,14 @@ public class DPLLEngine {
 		/*
 		 * We removed at least one decision point. Try to backtrack further.
 		 */
-		if (Config.DEEP_BACKTRACK) {
+		if (Config.DEEP_BACKTRACK && !isChronoBacktrack(conflict)) {
 			findBacktrackingPoint(conflict);
 		}
 
 		mLogger.debug("Backtrack to %d", mDPLLStack.size());
 
+		mNumMinimizeLits += conflict.size();
+		final int sizeBeforeMinimize = conflict.size();
 		final HashMap<Literal, Integer> redundancy = computeRedundancy(conflict);
 		final Integer REDUNDANT = 1;
 
@@ -749,7 +1384,7 @@ public class DPLLEngine {
 			if (redundancy.get(lit) == REDUNDANT && conflict.contains(lit)) {
 				/* Do a resolution step with explanation */
 				final Clause expl = getExplanation(lit);
-				expl.mActivity += mClsScale;
+				bumpClause(expl);
 				// expl.usedTimes++;
 				expstacklevel = Math.max(expstacklevel, expl.mStacklevel);
 				if (isProofGenerationEnabled()) {
@@ -770,12 +1405,16 @@ public class DPLLEngine {
 							// Here, we do level0 resolution as well
 							expstacklevel = level0resolve(l, level0Ants, expstacklevel);
 						}
-						l.getAtom().mActivity += mAtomScale;
+						mDecisionHeuristic.bump(l.getAtom());
 					}
 				}
 			}
 		}
 		mLogger.debug("removing redundancy yields %s", conflict);
+		mNumMinimizeRecursive += sizeBeforeMinimize - conflict.size();
+		if (mBinaryMinimization) {
+			expstacklevel = minimizeBinary(conflict, antecedents, expstacklevel);
+		}
 		/* add assumptions from level0 antecedents */
 		for (final Literal lit0 : level0Ants) {
 			final Clause c = getLevel0(lit0);
@@ -821,9 +1460,15 @@ public class DPLLEngine {
 	 * @return Is the solver inconsistent?
 	 */
 	private boolean explain(Clause conflict) {
+		mLastConflictTrailSize = mDPLLStack.size();
+		boolean first = true;
 		while (conflict != null) {
 			conflict = explainConflict(conflict);
 			learnClause(conflict);
+			if (first) {
+				mLastConflictLBD = conflict.mLBD;
+				first = false;
+			}
 			if (mUnsatClause != null) {
 				return true;
 			}
@@ -852,15 +1497,35 @@ public class DPLLEngine {
 		}
 	}
 
+	/**
+	 * Compute a bit mask that over-approximates a set of decision levels. Each level is mapped to one of 32 bits.
+	 */
+	private static int abstractLevel(final int level) {
+		return 1 << (level & 31);
+	}
+
+	/**
+	 * Compute which literals of a conflict are redundant, i.e., they are implied by the other literals of the conflict
+	 * and the level 0 literals. A literal is redundant if it was propagated and all literals of its explanation are
+	 * redundant or in the conflict. A literal whose decision level does not occur in the conflict cannot be redundant,
+	 * since it depends on the decision of its own level. This is checked with the abstract levels of the conflict
+	 * before the explanation is computed, which avoids asking the theories for explanations.
+	 *
+	 * @param conflict
+	 *            the conflict, i.e., the negation of the learned clause.
+	 * @return a map that maps the redundant literals to 1.
+	 */
 	private HashMap<Literal, Integer> computeRedundancy(final Set<Literal> conflict) {
 		final Integer REDUNDANT = 1;
 		final Integer FAILED = 2;
 		final Integer KEEP = 3;// NOCHECKSTYLE
 		final HashMap<Literal, Integer> status = new HashMap<>();
+		int abstractLevels = 0;
 		for (final Literal l : conflict) {
 			if (l.getAtom().getDecideStatus() != null) {
 				assert l.getAtom().getDecideStatus() == l;
 				status.put(l, REDUNDANT);
+				abstractLevels |= abstractLevel(l.getAtom().getDecideLevel());
 			}
 		}
 		final ArrayDeque<Literal> todo = new ArrayDeque<>();
@@ -896,6 +1561,14 @@ public class DPLLEngine {
 							status.put(todo.removeFirst(), KEEP);
 							continue litloop;
 						} else if (st == null) {
+							if ((abstractLevel(l.getAtom().getDecideLevel()) & abstractLevels) == 0) {
+								status.put(lneg, FAILED);
+								while (todo.size() > 1) {
+									status.put(todo.removeFirst(), FAILED);
+								}
+								status.put(todo.removeFirst(), KEEP);
+								continue litloop;
+							}
 							todo.addFirst(lneg);
 							continue todoloop;
 						}
@@ -907,6 +1580,47 @@ public class DPLLEngine {
 		return status;
 	}
 
+	/**
+	 * Strengthen a learned clause by resolving it with binary clauses. If the clause contains the asserting literal a
+	 * and a literal ~l, and there is a binary clause (a, l), then ~l can be removed from the learned clause.
+	 *
+	 * @param conflict
+	 *            the conflict, i.e., the negation of the learned clause. Literals are removed from it.
+	 * @param antecedents
+	 *            the antecedents of the proof, or null if proofs are disabled.
+	 * @param expstacklevel
+	 *            the stack level of the learned clause so far.
+	 * @return the stack level of the learned clause after strengthening.
+	 */
+	private int minimizeBinary(final Set<Literal> conflict, final List<Antecedent> antecedents, int expstacklevel) {
+		Literal asserting = null;
+		for (final Literal l : conflict) {
+			if (l.getAtom().getDecideStatus() == null) {
+				if (asserting != null) {
+					return expstacklevel;
+				}
+				asserting = l.negate();
+			}
+		}
+		if (asserting == null) {
+			return expstacklevel;
+		}
+		for (int i = 0; i < asserting.mNumBinary; i++) {
+			final Literal partner = asserting.mBinaryPartners[i];
+			if (partner.getAtom().getDecideStatus() == partner && conflict.contains(partner)
+					&& !mAssumptionLiterals.contains(partner)) {
+				final Clause binary = asserting.mBinaryClauses[i];
+				conflict.remove(partner);
+				mNumMinimizeBinary++;
+				expstacklevel = Math.max(expstacklevel, binary.mStacklevel);
+				if (antecedents != null) {
+					antecedents.add(new Antecedent(partner, binary));
+				}
+			}
+		}
+		return expstacklevel;
+	}
+
 	private boolean checkUnitClause(final Clause unit, final Literal lit) {
 		boolean found = false;
 		for (final Literal l : unit.mLiterals) {
@@ -923,7 +1637,7 @@ public class DPLLEngine {
 		return found;
 	}
 
-	private Clause finalizeBacktrack() {
+	Clause finalizeBacktrack() {
 		for (final ITheory t : mTheories) {
 			final Clause conflict = t.backtrackComplete();
 			if (conflict != null) {
@@ -933,6 +1647,31 @@ public class DPLLEngine {
 		return null;
 	}
 
+	/**
+	 * Check if the engine should stay on the current decision level instead of backjumping to the assertion level
+	 * of the learned clause. This is the case if chronological backtracking is enabled and the backjump would skip
+	 * more than {@link #mChronoBacktrackThreshold} levels. Unit clauses always backjump.
+	 *
+	 * @param conflict
+	 *            the conflict, i.e., the negation of the learned clause, after the conflict level was backtracked.
+	 * @return true if the engine should not backjump.
+	 */
+	private boolean isChronoBacktrack(final Set<Literal> conflict) {
+		if (!mChronoBacktracking || mConflicts < mChronoBacktrackMinConflicts
+				|| mCurrentDecideLevel - mBaseLevel <= mChronoBacktrackThreshold) {
+			return false;
+		}
+		int assertionLevel = mBaseLevel;
+		for (final Literal lit : conflict) {
+			assertionLevel = Math.max(assertionLevel, lit.getAtom().mDecideLevel);
+		}
+		if (assertionLevel == mBaseLevel || mCurrentDecideLevel - assertionLevel <= mChronoBacktrackThreshold) {
+			return false;
+		}
+		mNumChronoBacktracks++;
+		return true;
+	}
+
 	private void findBacktrackingPoint(final Set<Literal> conflict) {
 		int i = mDPLLStack.size();
 		while (i > 0) {
@@ -961,7 +1700,13 @@ public class DPLLEngine {
 		if (Config.PROFILE_TIME) {
 			mBacktrackTime += System.nanoTime() - time;
 		}
-		mPendingWatcherList.moveAll(atom.mBacktrackWatchers);
+		if (atom.mBacktrackWatchers != null) {
+			mPendingWatcherList.moveAll(atom.mBacktrackWatchers);
+		}
+		if (atom.mBinaryBacktrackLits != null && !atom.mBinaryBacktrackLits.isEmpty()) {
+			mPendingBinaryLits.addAll(atom.mBinaryBacktrackLits);
+			atom.mBinaryBacktrackLits.clear();
+		}
 		if (atom.mExplanation == null) {
 			decreaseDecideLevel();
 		}
@@ -969,6 +1714,7 @@ public class DPLLEngine {
 		atom.mDecideStatus = null;
 		atom.mDecideLevel = -1;
 		atom.mStackPosition = -1;
+		mDecisionHeuristic.unassigned(atom);
 		mAtoms.add(atom);
 	}
 
@@ -1012,22 +1758,81 @@ public class DPLLEngine {
 		// logger.debug("Choose literal: "+atom+" Weight "
 		// + (atom.activity/factor) +" - last: " + atom.lastStatus);
 		// return atom.lastStatus == null ? atom.negate() : atom.lastStatus;
+		if (mTargetPhases && atom.mTargetStatus != null && !atom.preferredStatusIsLocked()) {
+			return atom.mTargetStatus;
+		}
 		return atom.getPreferredStatus();
 	}
 
-	private static final int luby_super(final int i) {
-		int power;
+	/**
+	 * Get the original phase of an atom, i.e., the phase suggested by its Jeroslow-Wang score.
+	 */
+	private static Literal getOriginalPhase(final DPLLAtom atom) {
+		return atom.mPhaseScore > 0 ? atom : atom.negate();
+	}
+
+	/**
+	 * Update the target and best phases when a conflict is found. The trail up to the last decision is conflict free;
+	 * if it is longer than the current target or best trail, its assignment becomes the new target or best phase.
+	 */
+	private void updateTargetPhases() {
+		int size = mDPLLStack.size();
+		while (size > 0 && mDPLLStack.get(size - 1).getAtom().mExplanation != null) {
+			size--;
+		}
+		if (size > 0) {
+			/* skip the last decision */
+			size--;
+		}
+		if (size > mTargetTrailSize) {
+			mTargetTrailSize = size;
+			for (int i = 0; i < size; i++) {
+				final Literal lit = mDPLLStack.get(i);
+				lit.getAtom().mTargetStatus = lit;
+			}
+		}
+		if (size > mBestTrailSize) {
+			mBestTrailSize = size;
+			for (int i = 0; i < size; i++) {
+				final Literal lit = mDPLLStack.get(i);
+				lit.getAtom().mBestStatus = lit;
+			}
+		}
+	}
 
-		assert i > 0;
-		/* let 2^k be the least power of 2 >= (i+1) */
-		power = 2;
-		while (power < i + 1) {
-			power *= 2;
+	/**
+	 * Reset the saved phases of all atoms. The rephasing cycles through the best phases, the original phases, the
+	 * best phases again and the inverted saved phases. The target phases are cleared so that the search follows the
+	 * new saved phases.
+	 */
+	private void rephase() {
+		final int kind = mNumRephases % 4;
+		mNumRephases++;
+		mNextRephase = mConflicts + (long) mRephaseInterval * (mNumRephases + 1);
+		mLogger.debug("Rephasing %d", kind);
+		for (final DPLLAtom atom : mAtomList) {
+			atom.mTargetStatus = null;
+			if (atom.preferredStatusIsLocked()) {
+				continue;
+			}
+			switch (kind) {
+			case 1:
+				atom.mLastStatus = getOriginalPhase(atom);
+				break;
+			case 3:
+				atom.mLastStatus = atom.mLastStatus.negate();
+				break;
+			default:
+				if (atom.mBestStatus != null) {
+					atom.mLastStatus = atom.mBestStatus;
+				}
+				break;
+			}
 		}
-		if (power == i + 1) {
-			return power / 2;
+		if (kind % 2 == 0) {
+			mBestTrailSize = 0;
 		}
-		return luby_super(i - power / 2 + 1);
+		mTargetTrailSize = 0;
 	}
 
 	private void printStatistics() {
@@ -1044,6 +1849,9 @@ public class DPLLEngine {
 			}
 			mLogger.info("Atoms: " + mNumSolvedAtoms + "/" + (mAtoms.size() + mDPLLStack.size()) + " Clauses: "
 					+ mNumClauses + " Axioms: " + mNumAxiomClauses);
+			final int[] tiers = countLearnedClauses();
+			mLogger.info("Learned: Core: " + tiers[Clause.TIER_CORE] + " Mid: " + tiers[Clause.TIER_MID] + " Local: "
+					+ tiers[Clause.TIER_LOCAL] + " Reductions: " + mNumReduceDB + " Deleted: " + mNumDeletedClauses);
 			for (final ITheory t : mTheories) {
 				t.printStatistics(mLogger);
 			}
@@ -1063,41 +1871,11 @@ public class DPLLEngine {
 		}
 		try {
 			if (Config.INITIAL_PHASE_BIAS_JW) {
-				// Compute for all remaining atoms an initial polarity according
-				// to Jeruslaw Wang
-				final Map<Literal, Double> scores = new HashMap<>();
-				clause_loop: for (final Clause c : mClauses) {
-					double inc = 1.0;
-					for (final Literal lit : c.mLiterals) {
-						final Literal ds = lit.getAtom().getDecideStatus();
-						if (ds == lit) {
-							// clause is satisfied
-							continue clause_loop;
-						}
-						if (ds != lit.negate()) {
-							inc /= 2.0;
-						}
-					}
-					// Here, clause is not satisfied
-					for (final Literal lit : c.mLiterals) {
-						final Literal ds = lit.getAtom().getDecideStatus();
-						if (ds != lit.negate()) {
-							final Double score = scores.get(lit);
-							if (score == null) {
-								scores.put(lit, inc);
-							} else {
-								scores.put(lit, score + inc);
-							}
-						}
-					}
-				}
+				// Set for all remaining atoms the initial polarity according to Jeroslow-Wang. The scores are
+				// maintained when clauses are added and removed.
 				for (final DPLLAtom atom : mAtoms) {
-					final Double pscore = scores.get(atom);
-					final Double nscore = scores.get(atom.negate());
-					final double Pscore = pscore == null ? 0 : pscore;
-					final double Nscore = nscore == null ? 0 : nscore;
 					if (!atom.preferredStatusIsLocked()) {
-						atom.setPreferredStatus(Pscore > Nscore ? atom : atom.negate());
+						atom.setPreferredStatus(getOriginalPhase(atom));
 					}
 				}
 			}
@@ -1112,7 +1890,8 @@ public class DPLLEngine {
 				}
 			}
 			int iteration = 1;
-			int nextRestart = Config.RESTART_FACTOR;
+			mRestartStrategy.reset();
+			clearSavedTrail();
 			long time;
 			while (!isTerminationRequested()) {
 				Clause conflict;
@@ -1127,6 +1906,11 @@ public class DPLLEngine {
 						lastTime = time - mSetTime - mBacktrackTime;
 					}
 					final Literal literal = chooseLiteral();
+					if (literal == null && mInprocessor != null && mInprocessor.hasEliminated()) {
+						/* add the eliminated clauses again; the search then assigns the eliminated atoms */
+						mInprocessor.restoreEliminated();
+						continue;
+					}
 					if (literal == null) {
 						conflict = checkConsistency();
 						if (conflict == null) {
@@ -1141,7 +1925,8 @@ public class DPLLEngine {
 								suggested = true;
 							}
 							// @assert conflict != null ==> suggested == true
-							if (!suggested && mPendingWatcherList.isEmpty() && mAtoms.isEmpty()) {
+							if (!suggested && mPendingWatcherList.isEmpty() && mPendingBinaryLits.isEmpty()
+									&& mAtoms.isEmpty()) {
 								/* We found a model */
 								if (mLogger.isInfoEnabled()) {
 									printStatistics();
@@ -1163,6 +1948,9 @@ public class DPLLEngine {
 						increaseDecideLevel();
 						mDecides++;
 						conflict = setLiteral(literal);
+						if (conflict == null && !mSavedTrail.isEmpty()) {
+							conflict = replaySavedTrail(literal);
+						}
 					}
 				} while (conflict == null && !isTerminationRequested());
 				if (Config.PROFILE_TIME) {
@@ -1170,6 +1958,9 @@ public class DPLLEngine {
 					mPropTime += time - lastTime - mSetTime - mBacktrackTime;
 					lastTime = time - mSetTime - mBacktrackTime;
 				}
+				if (mTargetPhases && conflict != null) {
+					updateTargetPhases();
+				}
 				if (explain(conflict)) {
 					if (Config.PROFILE_TIME) {
 						time = System.nanoTime();
@@ -1189,15 +1980,10 @@ public class DPLLEngine {
 					mExplainTime += time - lastTime - mSetTime - mBacktrackTime;
 					lastTime = time - mSetTime - mBacktrackTime;
 				}
-				if (mAtomScale > Config.LIMIT) {
-					for (final DPLLAtom a : mAtoms) {
-						a.mActivity *= Double.MIN_NORMAL;
-					}
-					for (final Literal l : mDPLLStack) {
-						l.getAtom().mActivity *= Double.MIN_NORMAL;
-					}
-					mAtomScale *= Double.MIN_NORMAL;
+				if (conflict != null) {
+					mRestartStrategy.conflict(mLastConflictLBD, mLastConflictTrailSize);
 				}
+				mDecisionHeuristic.rescale(mAtomList);
 				if (mClsScale > Config.LIMIT) {
 					final Iterator<Clause> it = mLearnedClauses.iterator();
 					while (it.hasNext()) {
@@ -1206,7 +1992,10 @@ public class DPLLEngine {
 					}
 					mClsScale *= Double.MIN_NORMAL;
 				}
-				if (--nextRestart == 0) {
+				if (mConflicts >= mNextReduceDB) {
+					reduceLearnedClauses();
+				}
+				if (mRestartStrategy.isRestartDue()) {
 					final DPLLAtom next = mAtoms.peek();
 					int restartpos = -1;
 					for (int i = mNumSolvedAtoms + mBaseLevel; i < mDPLLStack.size(); ++i) {
@@ -1218,6 +2007,9 @@ public class DPLLEngine {
 						}
 					}
 					if (restartpos != -1) {
+						if (mTrailSaving) {
+							saveTrail(restartpos);
+						}
 						while (mDPLLStack.size() > restartpos) {
 							final Literal lit = mDPLLStack.remove(mDPLLStack.size() - 1);
 							assert lit.getAtom().mDecideLevel != mBaseLevel;
@@ -1236,11 +2028,23 @@ public class DPLLEngine {
 					for (final ITheory t : mTheories) {
 						t.restart(iteration);
 					}
-					nextRestart = Config.RESTART_FACTOR * luby_super(iteration);
+					mRestartStrategy.restarted();
+					if (mTargetPhases) {
+						mTargetTrailSize = 0;
+						if (mConflicts >= mNextRephase) {
+							rephase();
+						}
+					}
 					if (Config.PRINT_STATISTICS) {
 						mLogger.info("Restart");
 						printStatistics();
 					}
+					if (mInprocessor != null && mConflicts >= mNextInprocess && mBaseLevel == 0) {
+						if (explain(inprocess())) {
+							mLogger.info("Formula is unsat");
+							return false;
+						}
+					}
 				}
 				if (Config.PROFILE_TIME) {
 					lastTime = System.nanoTime() - mSetTime - mBacktrackTime;
@@ -1251,6 +2055,9 @@ public class DPLLEngine {
 			setCompleteness(INCOMPLETE_MEMOUT);
 			return true;
 		} finally {
+			if (mInprocessor != null) {
+				mInprocessor.restoreEliminated();
+			}
 			for (final ITheory t : mTheories) {
 				t.endCheck();
 			}
@@ -1261,14 +2068,76 @@ public class DPLLEngine {
 		final Iterator<Clause> it = mLearnedClauses.iterator();
 		while (it.hasNext()) {
 			final Clause c = it.next();
-			if (c.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY
+			if (c.mTier == Clause.TIER_LOCAL && c.mActivity < mClsScale * Config.CLAUSE_UNLEARN_ACTIVITY
 					|| c.mStacklevel > targetstacklevel && c.doCleanup(this)) {
 				mNumClauses--;
+				detachClause(c);
 				it.remove();
 			}
 		}
 	}
 
+	/**
+	 * Check if a clause is currently the explanation of one of its literals. The explained literal is usually watched,
+	 * but a literal replayed from the saved trail may be at any position.
+	 */
+	static boolean isReason(final Clause c) {
+		for (final Literal lit : c.mLiterals) {
+			if (lit.getAtom().mExplanation == c) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reduce the database of learned clauses. Core clauses are always kept. Mid-tier clauses that were not used since
+	 * the last reduction are moved to the local tier. Of the local tier, the clauses with the highest literal block
+	 * distance and the lowest activity are removed, unless they currently explain a literal.
+	 */
+	private void reduceLearnedClauses() {
+		mNumReduceDB++;
+		final ArrayList<Clause> candidates = new ArrayList<>();
+		for (final Clause c : mLearnedClauses) {
+			if (c.mTier == Clause.TIER_MID) {
+				if (!c.mUsed) {
+					c.mTier = Clause.TIER_LOCAL;
+				}
+			} else if (c.mTier == Clause.TIER_LOCAL && !c.mUsed && !isReason(c)) {
+				candidates.add(c);
+			}
+			c.mUsed = false;
+		}
+		candidates.sort(
+				(c1, c2) -> c1.mLBD != c2.mLBD ? c2.mLBD - c1.mLBD : Double.compare(c1.mActivity, c2.mActivity));
+		final int numRemove = candidates.size() * Config.REDUCE_DB_PERCENTAGE / 100;
+		for (int i = 0; i < numRemove; i++) {
+			final Clause c = candidates.get(i);
+			if (c.doCleanup(this)) {
+				detachClause(c);
+				c.removeFromList();
+				mNumClauses--;
+				mNumDeletedClauses++;
+			}
+		}
+		mReduceDBInterval += mReduceDBIncrement;
+		mNextReduceDB = mConflicts + mReduceDBInterval;
+		mLogger.debug("Reduced learned clauses: removed %d of %d candidates", numRemove, candidates.size());
+	}
+
+	/**
+	 * Count the learned clauses per tier.
+	 *
+	 * @return the number of core, mid and local learned clauses.
+	 */
+	private int[] countLearnedClauses() {
+		final int[] tiers = new int[3];
+		for (final Clause c : mLearnedClauses) {
+			tiers[c.mTier]++;
+		}
+		return tiers;
+	}
+
 	private Literal suggestions() {
 		for (final ITheory t : mTheories) {
 			final Literal lit = t.getPropagatedLiteral();
@@ -1388,6 +2257,7 @@ public class DPLLEngine {
 				t.backtrackAll();
 			}
 		}
+		clearSavedTrail();
 		unlearnClauses(targetstacklevel);
 		assert mCurrentDecideLevel == 0;
 		mNumSolvedAtoms = 0;
@@ -1396,6 +2266,8 @@ public class DPLLEngine {
 			final Clause input = inputit.next();
 			if (input.mStacklevel > targetstacklevel) {
 				if (input.doCleanup(this)) {
+					detachClause(input);
+					updatePhaseScores(input, -1);
 					inputit.remove();
 				} else {
 					throw new InternalError("Input clause still blocked, but invalid");
@@ -1592,10 +2464,20 @@ public class DPLLEngine {
 
 	public Object getStatistics() {
 		final Object[] res = new Object[mTheories.length + 1];
+		final int[] tiers = countLearnedClauses();
 		final Object[] mystats = new Object[][] { { "Conflicts", mConflicts }, { "Propagations", mProps },
 				{ "Theory_propagations", mTProps }, { "Decides", mDecides }, { "Random_splits", mNumRandomSplits },
 				{ "Num_Atoms", mAtoms.size() + mDPLLStack.size() }, { "Solved_Atoms", mNumSolvedAtoms },
 				{ "Clauses", mNumClauses }, { "Axioms", mNumAxiomClauses },
+				{ "Learned_Clauses", new Object[][] { { "Core", tiers[Clause.TIER_CORE] },
+						{ "Mid", tiers[Clause.TIER_MID] }, { "Local", tiers[Clause.TIER_LOCAL] } } },
+				{ "Reduce_DB", mNumReduceDB }, { "Deleted_Clauses", mNumDeletedClauses },
+				{ "Restarts", mRestartStrategy.getStatistics() },
+				{ "Trail_Saving", new Object[][] { { "Saved", mNumSavedLits }, { "Replayed", mNumReplayedLits } } },
+				{ "Minimization", new Object[][] { { "Literals", mNumMinimizeLits },
+						{ "Removed_Recursive", mNumMinimizeRecursive }, { "Removed_Binary", mNumMinimizeBinary } } },
+				{ "Rephases", mNumRephases }, { "Chrono_Backtracks", mNumChronoBacktracks },
+				{ "Inprocessing", mInprocessor == null ? new Object[0][] : mInprocessor.getStatistics() },
 				{ "Times", new Object[][] { { "Explain", mExplainTime }, { "Propagation", mPropTime },
 						{ "Set", mSetTime }, { "Check", mCheckTime }, { "Backtrack", mBacktrackTime } } } };
 		res[0] = new Object[] { ":Core", mystats };
@@ -1887,7 +2769,7 @@ public class DPLLEngine {
 	public void messWithActivityOfAtoms(final Random rnd) {
 		mAtoms.clear();
 		for (final DPLLAtom atom : mAtomList) {
-			atom.mActivity = atom.mActivity + rnd.nextDouble() * mAtomScale;
+			atom.mActivity = atom.mActivity + rnd.nextDouble() * mDecisionHeuristic.getScale();
 			if (atom.mDecideStatus == null) {
 				mAtoms.add(atom);
 			}
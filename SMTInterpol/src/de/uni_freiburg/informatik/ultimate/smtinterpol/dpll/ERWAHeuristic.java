@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+
+/**
+ * Base class for heuristics that score atoms by an exponential recency weighted average of a reward. The reward is
+ * computed when an atom is unassigned and blended into the score with a step size that decreases from
+ * {@link Config#ERWA_ALPHA} to {@link Config#ERWA_MIN_ALPHA}. Atoms that were unassigned without any conflict since
+ * their assignment keep their score.
+ */
+public abstract class ERWAHeuristic implements IDecisionHeuristic {
+	double mAlpha = Config.ERWA_ALPHA;
+	long mConflicts;
+
+	/**
+	 * Compute the reward of an atom that is unassigned after at least one conflict.
+	 *
+	 * @param atom
+	 *            the unassigned atom.
+	 * @return the reward between 0 and 1.
+	 */
+	abstract double reward(DPLLAtom atom);
+
+	@Override
+	public void clauseAdded() {
+		// nothing to do
+	}
+
+	@Override
+	public void conflict() {
+		mConflicts++;
+		if (mAlpha > Config.ERWA_MIN_ALPHA) {
+			mAlpha -= Config.ERWA_ALPHA_DECAY;
+		}
+	}
+
+	@Override
+	public void bump(final DPLLAtom atom) {
+		if (atom.mLastConflict != mConflicts) {
+			atom.mLastConflict = mConflicts;
+			atom.mParticipated++;
+		}
+	}
+
+	@Override
+	public void assigned(final DPLLAtom atom) {
+		atom.mAssignedConflicts = mConflicts;
+		atom.mParticipated = 0;
+	}
+
+	@Override
+	public void unassigned(final DPLLAtom atom) {
+		if (mConflicts > atom.mAssignedConflicts) {
+			atom.mActivity = (1 - mAlpha) * atom.mActivity + mAlpha * reward(atom);
+		}
+	}
+
+	@Override
+	public void rescale(final Iterable<DPLLAtom> atoms) {
+		// scores never exceed 1
+	}
+
+	@Override
+	public double getScale() {
+		return 1.0;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+
+/**
+ * Dynamic restarts as in Glucose. The engine restarts if the average literal block distance of the recently learned
+ * clauses is high compared to the average of all learned clauses, i.e., if the solver currently learns bad clauses.
+ * A restart is blocked if the trail at a conflict is much longer than on average, since the solver may be close to a
+ * model.
+ */
+public class GlucoseRestarts implements IRestartStrategy {
+	/**
+	 * The literal block distances of the recently learned clauses, used as ring buffer.
+	 */
+	private final int[] mRecentLBDs = new int[Config.GLUCOSE_LBD_WINDOW];
+	private int mRecentLBDPos;
+	private int mRecentLBDSize;
+	private long mRecentLBDSum;
+	/**
+	 * The trail sizes at the recent conflicts, used as ring buffer.
+	 */
+	private final int[] mRecentTrails = new int[Config.GLUCOSE_TRAIL_WINDOW];
+	private int mRecentTrailPos;
+	private int mRecentTrailSize;
+	private long mRecentTrailSum;
+
+	private long mConflicts;
+	private long mTotalLBD;
+	private int mNumRestarts;
+	private int mNumBlocked;
+
+	@Override
+	public void reset() {
+		mRecentLBDSize = mRecentLBDPos = 0;
+		mRecentLBDSum = 0;
+	}
+
+	@Override
+	public void conflict(final int lbd, final int trailSize) {
+		mConflicts++;
+		mTotalLBD += lbd;
+
+		if (mRecentTrailSize == mRecentTrails.length) {
+			mRecentTrailSum -= mRecentTrails[mRecentTrailPos];
+		} else {
+			mRecentTrailSize++;
+		}
+		mRecentTrails[mRecentTrailPos] = trailSize;
+		mRecentTrailSum += trailSize;
+		mRecentTrailPos = (mRecentTrailPos + 1) % mRecentTrails.length;
+
+		/* block the restart if the trail is much longer than usual */
+		if (mConflicts > Config.GLUCOSE_BLOCKING_MIN_CONFLICTS && mRecentLBDSize == mRecentLBDs.length
+				&& mRecentTrailSize == mRecentTrails.length
+				&& trailSize > Config.GLUCOSE_BLOCKING_FACTOR * mRecentTrailSum / mRecentTrailSize) {
+			mNumBlocked++;
+			reset();
+		}
+
+		if (mRecentLBDSize == mRecentLBDs.length) {
+			mRecentLBDSum -= mRecentLBDs[mRecentLBDPos];
+		} else {
+			mRecentLBDSize++;
+		}
+		mRecentLBDs[mRecentLBDPos] = lbd;
+		mRecentLBDSum += lbd;
+		mRecentLBDPos = (mRecentLBDPos + 1) % mRecentLBDs.length;
+	}
+
+	@Override
+	public boolean isRestartDue() {
+		return mRecentLBDSize == mRecentLBDs.length
+				&& mRecentLBDSum * Config.GLUCOSE_RESTART_FACTOR / mRecentLBDSize > (double) mTotalLBD / mConflicts;
+	}
+
+	@Override
+	public void restarted() {
+		mNumRestarts++;
+		reset();
+	}
+
+	@Override
+	public Object[][] getStatistics() {
+		return new Object[][] { { "Restarts", mNumRestarts }, { "Blocked_restarts", mNumBlocked } };
+	}
+}
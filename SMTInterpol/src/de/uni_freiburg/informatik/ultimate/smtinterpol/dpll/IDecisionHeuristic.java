@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+/**
+ * A heuristic that scores the atoms for the decisions of the DPLL engine. The score of an atom is stored in
+ * {@link DPLLAtom#mActivity} and the engine decides on the unassigned atom with the highest score. Since the
+ * unassigned atoms are kept in a heap ordered by score, a heuristic may only change the score of an atom while it is
+ * assigned. The only exception is {@link #rescale}, which multiplies all scores by the same factor.
+ */
+public interface IDecisionHeuristic {
+	/**
+	 * Called whenever an input clause is added or a clause is learned.
+	 */
+	void clauseAdded();
+
+	/**
+	 * Called at the beginning of every conflict analysis.
+	 */
+	void conflict();
+
+	/**
+	 * Called for every atom that participates in the current conflict analysis. The atom is assigned.
+	 *
+	 * @param atom
+	 *            the participating atom.
+	 */
+	void bump(DPLLAtom atom);
+
+	/**
+	 * Called after an atom was assigned and removed from the heap.
+	 *
+	 * @param atom
+	 *            the assigned atom.
+	 */
+	void assigned(DPLLAtom atom);
+
+	/**
+	 * Called when an atom is unassigned, before it is added to the heap.
+	 *
+	 * @param atom
+	 *            the unassigned atom.
+	 */
+	void unassigned(DPLLAtom atom);
+
+	/**
+	 * Called after every conflict to keep the scores in range.
+	 *
+	 * @param atoms
+	 *            all atoms known to the engine.
+	 */
+	void rescale(Iterable<DPLLAtom> atoms);
+
+	/**
+	 * Get the magnitude of the score a single bump currently adds. This is used to randomly perturb the scores.
+	 *
+	 * @return the current score increment.
+	 */
+	double getScale();
+}
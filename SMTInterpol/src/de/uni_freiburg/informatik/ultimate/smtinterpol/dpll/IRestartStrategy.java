@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+/**
+ * A strategy that decides when the DPLL engine restarts its search.
+ */
+public interface IRestartStrategy {
+	/**
+	 * Called at the beginning of every check.
+	 */
+	void reset();
+
+	/**
+	 * Called once for every conflict of the search loop, after it was resolved.
+	 *
+	 * @param lbd
+	 *            the literal block distance of the first clause learned for the conflict.
+	 * @param trailSize
+	 *            the number of assigned literals when the conflict was detected.
+	 */
+	void conflict(int lbd, int trailSize);
+
+	/**
+	 * Check if the engine should restart now. This is called after every resolved conflict in the main search loop.
+	 *
+	 * @return true if a restart is due.
+	 */
+	boolean isRestartDue();
+
+	/**
+	 * Called after the engine restarted.
+	 */
+	void restarted();
+
+	/**
+	 * Get the statistics of this strategy.
+	 *
+	 * @return the statistics as key value pairs.
+	 */
+	Object[][] getStatistics();
+}
@@ -0,0 +1,467 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.ResolutionNode;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.ResolutionNode.Antecedent;
+
+/**
+ * Simplification of the clause database during the search. The inprocessor is called by the DPLL engine at a
+ * restart after backtracking to decision level 0. It removes subsumed clauses, shortens learned clauses by
+ * vivification, and eliminates Boolean variables by resolution.
+ *
+ * Variable elimination only lasts for one check. The removed clauses are restored before the engine reports a model,
+ * at the end of the check, and when a new clause containing an eliminated variable is added.
+ */
+class Inprocessor {
+	private final DPLLEngine mEngine;
+
+	/**
+	 * The atoms that are currently eliminated.
+	 */
+	private final HashSet<DPLLAtom> mEliminatedAtoms = new HashSet<>();
+	/**
+	 * The input clauses that were removed by variable elimination.
+	 */
+	private final ArrayList<Clause> mEliminatedClauses = new ArrayList<>();
+	/**
+	 * The resolvents that were added by variable elimination.
+	 */
+	private final HashSet<Clause> mResolvents = new HashSet<>();
+
+	private int mNumRounds, mNumSubsumed, mNumVivified, mNumVivifiedLits, mNumEliminated;
+
+	Inprocessor(final DPLLEngine engine) {
+		mEngine = engine;
+	}
+
+	/**
+	 * Run one round of inprocessing. The engine must be at decision level 0.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	Clause inprocess() {
+		assert mEngine.mCurrentDecideLevel == 0;
+		mNumRounds++;
+		restoreEliminated();
+		Clause conflict = propagate();
+		if (conflict != null) {
+			return conflict;
+		}
+		subsume();
+		if (!mEngine.isProofGenerationEnabled()) {
+			conflict = vivify();
+			if (conflict != null) {
+				return conflict;
+			}
+		}
+		eliminate();
+		return null;
+	}
+
+	/**
+	 * Propagate the clauses until all watchers are processed. Theory propagations are not done.
+	 *
+	 * @return a conflict clause if a conflict was detected.
+	 */
+	private Clause propagate() {
+		while (true) {
+			final Clause conflict = mEngine.propagateClauses();
+			if (conflict != null) {
+				return conflict;
+			}
+			if (mEngine.mPendingWatcherList.isEmpty() && mEngine.mPendingBinaryLits.isEmpty()) {
+				return null;
+			}
+		}
+	}
+
+	private static boolean isRemoved(final Clause clause) {
+		return clause.mNext == null;
+	}
+
+	private void removeClause(final Clause clause) {
+		mEngine.detachClause(clause);
+		clause.removeFromList();
+	}
+
+	/**
+	 * Remove all clauses that are subsumed by another clause. A clause can only be removed by a clause from the same
+	 * or a lower stack level. If an input clause is removed because of a learned clause, the learned clause is moved
+	 * to the core tier, so that it is never removed.
+	 */
+	private void subsume() {
+		final HashSet<Clause> learned = new HashSet<>();
+		final ArrayList<Clause> clauses = new ArrayList<>();
+		final HashMap<Literal, List<Clause>> occurrences = new HashMap<>();
+		for (final Clause c : mEngine.mClauses) {
+			clauses.add(c);
+		}
+		for (final Clause c : mEngine.mLearnedClauses) {
+			clauses.add(c);
+			learned.add(c);
+		}
+		for (final Clause c : clauses) {
+			for (final Literal lit : c.mLiterals) {
+				occurrences.computeIfAbsent(lit, l -> new ArrayList<>()).add(c);
+			}
+		}
+		clauses.sort((c1, c2) -> c1.getSize() - c2.getSize());
+		final HashSet<Literal> marked = new HashSet<>();
+		int budget = Config.SUBSUMPTION_BUDGET;
+		for (final Clause subsumer : clauses) {
+			if (budget <= 0) {
+				break;
+			}
+			if (isRemoved(subsumer) || subsumer.getSize() == 0) {
+				continue;
+			}
+			List<Clause> candidates = null;
+			for (final Literal lit : subsumer.mLiterals) {
+				final List<Clause> occ = occurrences.get(lit);
+				if (candidates == null || occ.size() < candidates.size()) {
+					candidates = occ;
+				}
+			}
+			marked.clear();
+			for (final Literal lit : subsumer.mLiterals) {
+				marked.add(lit);
+			}
+			for (final Clause subsumed : candidates) {
+				if (subsumed == subsumer || isRemoved(subsumed) || subsumed.getSize() < subsumer.getSize()
+						|| subsumed.mStacklevel < subsumer.mStacklevel) {
+					continue;
+				}
+				int found = 0;
+				for (final Literal lit : subsumed.mLiterals) {
+					if (marked.contains(lit)) {
+						found++;
+					}
+				}
+				budget -= subsumed.getSize();
+				if (found < subsumer.getSize() || DPLLEngine.isReason(subsumed) || !subsumed.doCleanup(mEngine)) {
+					continue;
+				}
+				final boolean subsumedLearned = learned.contains(subsumed);
+				if (learned.contains(subsumer)) {
+					subsumer.mTier = subsumedLearned ? Math.min(subsumer.mTier, subsumed.mTier) : Clause.TIER_CORE;
+				}
+				if (subsumedLearned) {
+					mEngine.mNumClauses--;
+					removeClause(subsumed);
+				} else {
+					mEngine.removeInputClause(subsumed);
+				}
+				mNumSubsumed++;
+			}
+		}
+	}
+
+	/**
+	 * Shorten learned clauses by vivification. For each literal of a clause, its negation is decided and the clauses
+	 * are propagated. If this leads to a conflict, the clause can be shortened to the literals decided so far. If a
+	 * literal of the clause becomes true, the clause can be shortened to the decided literals and this literal.
+	 * Literals that became false by propagation are removed. This is only done if the clause itself was not used in
+	 * the propagation. Since the result has no proof, this must not be called with proof generation enabled.
+	 *
+	 * @return a conflict clause if a conflict was detected while backtracking.
+	 */
+	private Clause vivify() {
+		final ArrayList<Clause> candidates = new ArrayList<>();
+		for (final Clause c : mEngine.mLearnedClauses) {
+			if (!c.mVivified && c.mTier != Clause.TIER_LOCAL && c.getSize() > 2
+					&& c.mStacklevel == mEngine.getAssertionStackLevel()) {
+				candidates.add(c);
+			}
+		}
+		candidates.sort((c1, c2) -> c1.mLBD != c2.mLBD ? c1.mLBD - c2.mLBD : c1.getSize() - c2.getSize());
+		final int num = Math.min(candidates.size(), Config.VIVIFY_MAX_CLAUSES);
+		for (int i = 0; i < num; i++) {
+			final Clause conflict = vivifyClause(candidates.get(i));
+			if (conflict != null) {
+				return conflict;
+			}
+		}
+		return null;
+	}
+
+	private Clause vivifyClause(final Clause clause) {
+		clause.mVivified = true;
+		/* copy the literals, since propagation reorders the watched literals of the clause */
+		final Literal[] lits = clause.mLiterals.clone();
+		for (final Literal lit : lits) {
+			if (lit.getAtom().mDecideStatus == lit) {
+				/* clause is satisfied on level 0 */
+				return null;
+			}
+		}
+		final ArrayList<Literal> stack = mEngine.mDPLLStack;
+		final int start = stack.size();
+		final ArrayList<Literal> kept = new ArrayList<>();
+		Clause conflict = null;
+		for (final Literal lit : lits) {
+			final Literal status = lit.getAtom().mDecideStatus;
+			if (status == lit) {
+				kept.add(lit);
+				break;
+			}
+			if (status == lit.negate()) {
+				continue;
+			}
+			kept.add(lit);
+			mEngine.increaseDecideLevel();
+			conflict = mEngine.setLiteral(lit.negate());
+			if (conflict == null) {
+				conflict = propagate();
+			}
+			if (conflict != null) {
+				break;
+			}
+		}
+		boolean usesClause = conflict == clause;
+		for (int i = start; i < stack.size(); i++) {
+			if (stack.get(i).getAtom().mExplanation == clause) {
+				usesClause = true;
+			}
+		}
+		while (stack.size() > start) {
+			mEngine.backtrackLiteral(stack.remove(stack.size() - 1));
+		}
+		assert mEngine.mCurrentDecideLevel == 0;
+		if (!usesClause && kept.size() < lits.length && !DPLLEngine.isReason(clause) && clause.doCleanup(mEngine)) {
+			assert !kept.isEmpty();
+			final Clause shortened = new Clause(kept.toArray(new Literal[kept.size()]), clause.mStacklevel);
+			shortened.mActivity = clause.mActivity;
+			shortened.mLBD = Math.min(clause.mLBD, kept.size());
+			shortened.mTier = clause.mTier;
+			shortened.mVivified = true;
+			removeClause(clause);
+			mEngine.mLearnedClauses.append(shortened);
+			mEngine.watchClause(shortened);
+			mNumVivified++;
+			mNumVivifiedLits += lits.length - kept.size();
+		}
+		return mEngine.finalizeBacktrack();
+	}
+
+	/**
+	 * Eliminate Boolean variables by resolution. A variable is eliminated if it is an unassigned Boolean constant
+	 * that is not an assumption, if all irredundant clauses containing it belong to the current stack level, and if the
+	 * number of non-tautological resolvents does not exceed the number of irredundant clauses containing it. The
+	 * irredundant clauses containing the variable are replaced by the resolvents, the other learned clauses containing
+	 * it are removed.
+	 */
+	private void eliminate() {
+		final HashMap<Literal, List<Clause>> occurrences = new HashMap<>();
+		for (final Clause c : mEngine.mClauses) {
+			addOccurrences(occurrences, c);
+		}
+		for (final Clause c : mEngine.mLearnedClauses) {
+			addOccurrences(occurrences, c);
+		}
+		final ArrayList<DPLLAtom> candidates = new ArrayList<>();
+		for (final DPLLAtom atom : mEngine.mAtoms) {
+			if (atom instanceof BooleanVarAtom && !mEngine.mAssumptionLiterals.contains(atom)
+					&& !mEngine.mAssumptionLiterals.contains(atom.negate())) {
+				candidates.add(atom);
+			}
+		}
+		final HashSet<Clause> learned = new HashSet<>();
+		for (final Clause c : mEngine.mLearnedClauses) {
+			learned.add(c);
+		}
+		for (final DPLLAtom atom : candidates) {
+			final List<Clause> pos = occurrences.getOrDefault(atom, new ArrayList<>());
+			final List<Clause> neg = occurrences.getOrDefault(atom.negate(), new ArrayList<>());
+			if (pos.size() > Config.ELIM_MAX_OCCURRENCES || neg.size() > Config.ELIM_MAX_OCCURRENCES) {
+				continue;
+			}
+			final ArrayList<Clause> posInput = new ArrayList<>();
+			final ArrayList<Clause> negInput = new ArrayList<>();
+			if (!collectInput(pos, learned, posInput) || !collectInput(neg, learned, negInput)) {
+				continue;
+			}
+			final Literal[][] resolvents = computeResolvents(atom, posInput, negInput);
+			if (resolvents != null) {
+				eliminateAtom(atom, pos, neg, posInput, negInput, resolvents, learned, occurrences);
+			}
+		}
+	}
+
+	private static void addOccurrences(final HashMap<Literal, List<Clause>> occurrences, final Clause clause) {
+		for (final Literal lit : clause.mLiterals) {
+			if (lit.getAtom() instanceof BooleanVarAtom) {
+				occurrences.computeIfAbsent(lit, l -> new ArrayList<>()).add(clause);
+			}
+		}
+	}
+
+	/**
+	 * Collect the irredundant clauses from a list of clauses containing a literal. These are the input clauses and the
+	 * learned clauses of the core tier, since the latter may have replaced subsumed input clauses. Returns false if
+	 * one of the clauses prevents the elimination of the literal.
+	 */
+	private boolean collectInput(final List<Clause> clauses, final HashSet<Clause> learned,
+			final List<Clause> input) {
+		for (final Clause c : clauses) {
+			if (c.mCleanupHook != null) {
+				return false;
+			}
+			if (!learned.contains(c) || c.mTier == Clause.TIER_CORE) {
+				if (c.mStacklevel != mEngine.getAssertionStackLevel()) {
+					return false;
+				}
+				input.add(c);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compute the resolvents of the clauses containing an atom positively and negatively. The resolvent of the i-th
+	 * positive and the j-th negative clause is stored at index i * neg.size() + j; it is null if it is a tautology.
+	 *
+	 * @return the resolvents, or null if there are more non-tautological resolvents than clauses or if a resolvent is
+	 *         too large.
+	 */
+	private static Literal[][] computeResolvents(final DPLLAtom atom, final List<Clause> pos,
+			final List<Clause> neg) {
+		final Literal[][] resolvents = new Literal[pos.size() * neg.size()][];
+		final HashSet<Literal> lits = new HashSet<>();
+		int count = 0;
+		for (int i = 0; i < pos.size(); i++) {
+			nextResolvent: for (int j = 0; j < neg.size(); j++) {
+				lits.clear();
+				for (final Literal lit : pos.get(i).mLiterals) {
+					if (lit != atom) {
+						lits.add(lit);
+					}
+				}
+				for (final Literal lit : neg.get(j).mLiterals) {
+					if (lit != atom.negate()) {
+						if (lits.contains(lit.negate())) {
+							continue nextResolvent;
+						}
+						lits.add(lit);
+					}
+				}
+				if (lits.isEmpty() || lits.size() > Config.ELIM_MAX_RESOLVENT_SIZE
+						|| ++count > pos.size() + neg.size()) {
+					return null;
+				}
+				resolvents[i * neg.size() + j] = lits.toArray(new Literal[lits.size()]);
+			}
+		}
+		return resolvents;
+	}
+
+	private void eliminateAtom(final DPLLAtom atom, final List<Clause> pos, final List<Clause> neg,
+			final List<Clause> posInput, final List<Clause> negInput, final Literal[][] resolvents,
+			final HashSet<Clause> learned, final HashMap<Literal, List<Clause>> occurrences) {
+		final boolean proofs = mEngine.isProofGenerationEnabled();
+		for (int i = 0; i < posInput.size(); i++) {
+			for (int j = 0; j < negInput.size(); j++) {
+				final Literal[] lits = resolvents[i * negInput.size() + j];
+				if (lits != null) {
+					final Clause resolvent = new Clause(lits, mEngine.getAssertionStackLevel());
+					if (proofs) {
+						resolvent.setProof(new ResolutionNode(negInput.get(j),
+								new Antecedent[] { new Antecedent(atom, posInput.get(i)) }));
+					}
+					mEngine.addInputClause(resolvent);
+					mResolvents.add(resolvent);
+					addOccurrences(occurrences, resolvent);
+				}
+			}
+		}
+		final ArrayList<Clause> removed = new ArrayList<>(pos);
+		removed.addAll(neg);
+		for (final Clause c : removed) {
+			for (final Literal lit : c.mLiterals) {
+				final List<Clause> occ = occurrences.get(lit);
+				if (occ != null) {
+					occ.remove(c);
+				}
+			}
+			if (learned.contains(c)) {
+				c.doCleanup(mEngine);
+				mEngine.mNumClauses--;
+				if (c.mTier == Clause.TIER_CORE) {
+					mEliminatedClauses.add(c);
+				}
+				removeClause(c);
+			} else {
+				if (!mResolvents.remove(c)) {
+					mEliminatedClauses.add(c);
+				}
+				mEngine.removeInputClause(c);
+			}
+		}
+		mEngine.mAtoms.remove(atom);
+		mEliminatedAtoms.add(atom);
+		mNumEliminated++;
+	}
+
+	boolean hasEliminated() {
+		return !mEliminatedAtoms.isEmpty();
+	}
+
+	boolean isEliminated(final DPLLAtom atom) {
+		return mEliminatedAtoms.contains(atom);
+	}
+
+	/**
+	 * Undo the variable elimination. The removed irredundant clauses are added again as input clauses and the
+	 * resolvents are removed.
+	 */
+	void restoreEliminated() {
+		if (mEliminatedAtoms.isEmpty()) {
+			return;
+		}
+		for (final DPLLAtom atom : mEliminatedAtoms) {
+			mEngine.mAtoms.add(atom);
+		}
+		mEliminatedAtoms.clear();
+		for (final Clause resolvent : mResolvents) {
+			if (!isRemoved(resolvent)) {
+				mEngine.removeInputClause(resolvent);
+			}
+		}
+		mResolvents.clear();
+		for (final Clause c : mEliminatedClauses) {
+			/* create a fresh clause, since the watchers of the old clause may still be in some watch list */
+			final Clause copy = new Clause(c.mLiterals.clone(), c.mStacklevel);
+			copy.setProof(c.getProof());
+			mEngine.addInputClause(copy);
+		}
+		mEliminatedClauses.clear();
+	}
+
+	Object getStatistics() {
+		return new Object[][] { { "Rounds", mNumRounds }, { "Subsumed", mNumSubsumed },
+				{ "Vivified", mNumVivified }, { "Vivified_Lits", mNumVivifiedLits },
+				{ "Eliminated_Vars", mNumEliminated } };
+	}
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+/**
+ * The learning rate based heuristic. The reward of an atom is the fraction of conflicts it participated in while it
+ * was assigned.
+ */
+public class LRBHeuristic extends ERWAHeuristic {
+	@Override
+	double reward(final DPLLAtom atom) {
+		return (double) atom.mParticipated / (mConflicts - atom.mAssignedConflicts);
+	}
+}
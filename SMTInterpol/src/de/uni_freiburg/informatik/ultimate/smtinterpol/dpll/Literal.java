@@ -18,6 +18,8 @@
  */
 package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
 
+import java.util.Arrays;
+
 import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.Theory;
 
@@ -25,7 +27,18 @@ import de.uni_freiburg.informatik.ultimate.logic.Theory;
 public abstract class Literal implements ILiteral {
 	DPLLAtom mAtom;
 	protected Literal  mNegated;
-	Clause.WatchList mWatchers = new Clause.WatchList();
+	/**
+	 * The watchers watching this literal. This is created by the DPLLEngine when the first watcher is added.
+	 */
+	Clause.WatchList mWatchers;
+	/**
+	 * The binary watches of this literal. For every binary clause containing this literal, the other literal and the
+	 * clause are stored at the same index. They are checked when this literal is set to false. Only the clause of a
+	 * propagating or conflicting entry is ever touched.
+	 */
+	Literal[] mBinaryPartners;
+	Clause[] mBinaryClauses;
+	int mNumBinary;
 
 	private final int mHash;
 	@Override
@@ -37,6 +50,32 @@ public abstract class Literal implements ILiteral {
 		mHash = hash;
 	}
 
+	void addBinaryWatch(Literal other, Clause clause) {
+		if (mBinaryPartners == null) {
+			mBinaryPartners = new Literal[4];
+			mBinaryClauses = new Clause[4];
+		} else if (mNumBinary == mBinaryPartners.length) {
+			mBinaryPartners = Arrays.copyOf(mBinaryPartners, 2 * mNumBinary);
+			mBinaryClauses = Arrays.copyOf(mBinaryClauses, 2 * mNumBinary);
+		}
+		mBinaryPartners[mNumBinary] = other;
+		mBinaryClauses[mNumBinary] = clause;
+		mNumBinary++;
+	}
+
+	void removeBinaryWatch(Clause clause) {
+		for (int i = 0; i < mNumBinary; i++) {
+			if (mBinaryClauses[i] == clause) {
+				mNumBinary--;
+				mBinaryPartners[i] = mBinaryPartners[mNumBinary];
+				mBinaryClauses[i] = mBinaryClauses[mNumBinary];
+				mBinaryPartners[mNumBinary] = null;
+				mBinaryClauses[mNumBinary] = null;
+				return;
+			}
+		}
+	}
+
 	/**
 	 * Returns the underlying atom.  If this literal is an atom, it returns
 	 * itself.
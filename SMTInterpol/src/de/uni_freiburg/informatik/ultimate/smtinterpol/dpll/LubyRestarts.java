@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+
+/**
+ * Restart after a number of conflicts given by the Luby sequence times {@link Config#RESTART_FACTOR}.
+ */
+public class LubyRestarts implements IRestartStrategy {
+	private int mIteration;
+	private int mNextRestart;
+	private int mNumRestarts;
+
+	public LubyRestarts() {
+		reset();
+	}
+
+	private static final int luby_super(final int i) {
+		int power;
+
+		assert i > 0;
+		/* let 2^k be the least power of 2 >= (i+1) */
+		power = 2;
+		while (power < i + 1) {
+			power *= 2;
+		}
+		if (power == i + 1) {
+			return power / 2;
+		}
+		return luby_super(i - power / 2 + 1);
+	}
+
+	@Override
+	public void reset() {
+		mIteration = 1;
+		mNextRestart = Config.RESTART_FACTOR;
+	}
+
+	@Override
+	public void conflict(final int lbd, final int trailSize) {
+		mNextRestart--;
+	}
+
+	@Override
+	public boolean isRestartDue() {
+		return mNextRestart <= 0;
+	}
+
+	@Override
+	public void restarted() {
+		mNumRestarts++;
+		mIteration++;
+		mNextRestart = Config.RESTART_FACTOR * luby_super(mIteration);
+	}
+
+	@Override
+	public Object[][] getStatistics() {
+		return new Object[][] { { "Restarts", mNumRestarts } };
+	}
+}
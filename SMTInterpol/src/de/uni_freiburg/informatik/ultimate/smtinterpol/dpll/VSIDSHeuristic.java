@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+
+/**
+ * The variable state independent decaying sum heuristic. Every atom participating in a conflict is bumped by the
+ * current scale and the scale grows by {@link Config#ATOM_ACTIVITY_FACTOR} on every conflict, which decays all older
+ * bumps.
+ */
+public class VSIDSHeuristic implements IDecisionHeuristic {
+	private double mAtomScale = 1 - 1.0 / Config.ATOM_ACTIVITY_FACTOR;
+
+	@Override
+	public void clauseAdded() {
+		mAtomScale += 1.0 - 1.0 / Config.ATOM_ACTIVITY_FACTOR;
+	}
+
+	@Override
+	public void conflict() {
+		mAtomScale *= Config.ATOM_ACTIVITY_FACTOR;
+	}
+
+	@Override
+	public void bump(final DPLLAtom atom) {
+		atom.mActivity += mAtomScale;
+	}
+
+	@Override
+	public void assigned(final DPLLAtom atom) {
+		// nothing to do
+	}
+
+	@Override
+	public void unassigned(final DPLLAtom atom) {
+		// nothing to do
+	}
+
+	@Override
+	public void rescale(final Iterable<DPLLAtom> atoms) {
+		if (mAtomScale > Config.LIMIT) {
+			for (final DPLLAtom a : atoms) {
+				a.mActivity *= Double.MIN_NORMAL;
+			}
+			mAtomScale *= Double.MIN_NORMAL;
+		}
+	}
+
+	@Override
+	public double getScale() {
+		return mAtomScale;
+	}
+}
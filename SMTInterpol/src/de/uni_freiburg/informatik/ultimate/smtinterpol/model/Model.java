@@ -40,6 +40,7 @@ import de.uni_freiburg.informatik.ultimate.smtinterpol.model.FunctionValue.Index
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.ArrayTheory;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.CClosure;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure.DataTypeTheory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.difflogic.DifferenceLogicSolver;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.EprTheory;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.epr.EprTheorySettings;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve;
@@ -93,12 +94,15 @@ public class Model implements de.uni_freiburg.informatik.ultimate.logic.Model {
 		// Extract different theories
 		CClosure cc = null;
 		LinArSolve la = null;
+		DifferenceLogicSolver dl = null;
 		ArrayTheory array = null;
 		for (final ITheory theorySolver : clausifier.getEngine().getAttachedTheories()) {
 			if (theorySolver instanceof CClosure) {
 				cc = (CClosure) theorySolver;
 			} else if (theorySolver instanceof LinArSolve) {
 				la = (LinArSolve) theorySolver;
+			} else if (theorySolver instanceof DifferenceLogicSolver) {
+				dl = (DifferenceLogicSolver) theorySolver;
 			} else if (theorySolver instanceof ArrayTheory) {
 				array = (ArrayTheory) theorySolver;
 			} else if (theorySolver instanceof QuantifierTheory) {
@@ -119,6 +123,9 @@ public class Model implements de.uni_freiburg.informatik.ultimate.logic.Model {
 		if (la != null) {
 			la.fillInModel(this, theory, ste);
 		}
+		if (dl != null) {
+			dl.fillInModel(this, theory);
+		}
 		if (cc != null) {
 			cc.fillInModel(this, theory, ste, array);
 		}
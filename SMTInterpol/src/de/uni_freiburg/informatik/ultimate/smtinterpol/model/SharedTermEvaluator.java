@@ -38,6 +38,10 @@ public class SharedTermEvaluator {
 		SMTAffineTerm affine = SMTAffineTerm.create(term);
 		Rational value = affine.getConstant();
 		for (Entry<Term, Rational> entry : affine.getSummands().entrySet()) {
+			if (mClausifier.getDLSolver() != null) {
+				value = value.addmul(mClausifier.getDLSolver().realValue(entry.getKey()), entry.getValue());
+				continue;
+			}
 			LinVar var = mClausifier.getLinVar(entry.getKey());
 			value = value.addmul(mClausifier.getLASolver().realValue(var), entry.getValue());
 		}
@@ -49,4 +49,29 @@ public interface SMTInterpolConstants {
 	public String PROPAGATE_UNKNOWN_TERMS = ":propagate-unknown-terms";
 	public String PROPAGATE_UNKNOWN_AUX = ":propagate-unknown-aux";
 	public String SIMPLIFY_REPEATEDLY = ":simplify-repeatedly";
+	public String REDUCE_DB_FIRST = ":reduce-db-first";
+	public String REDUCE_DB_INCREMENT = ":reduce-db-increment";
+	public String ARRAY_WATCH_LISTS = ":array-watch-lists";
+	public String RESTART_STRATEGY = ":restart-strategy";
+	public String TRAIL_SAVING = ":trail-saving";
+	public String MINIMIZE_BINARY = ":minimize-binary";
+	public String INPROCESSING = ":inprocessing";
+	public String INPROCESS_INTERVAL = ":inprocess-interval";
+	public String DECISION_HEURISTIC = ":decision-heuristic";
+	public String TARGET_PHASES = ":target-phases";
+	public String REPHASE_INTERVAL = ":rephase-interval";
+	public String CHRONO_BACKTRACKING = ":chrono-backtracking";
+	public String CHRONO_BACKTRACK_THRESHOLD = ":chrono-backtrack-threshold";
+	public String CHRONO_BACKTRACK_MIN_CONFLICTS = ":chrono-backtrack-min-conflicts";
+	public String FLOAT_SIMPLEX = ":float-simplex";
+	public String DIFFERENCE_LOGIC = ":difference-logic";
+	public String INT_BRANCHING = ":int-branching";
+	public String INT_PRESOLVE = ":int-presolve";
+	public String KEEP_TABLEAU_ROWS = ":keep-tableau-rows";
+	public String PIVOT_RULE = ":pivot-rule";
+	public String PIVOT_THREADS = ":pivot-threads";
+	public String LAZY_ARRAY_LEMMAS = ":lazy-array-lemmas";
+	public String CC_EXPLANATION_CACHE = ":cc-explanation-cache";
+	public String CC_FEWEST_LITERALS = ":cc-fewest-literals";
+	public String CC_ACKERMANN_THRESHOLD = ":cc-ackermann-threshold";
 }
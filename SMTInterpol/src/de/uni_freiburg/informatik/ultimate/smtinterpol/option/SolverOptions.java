@@ -21,9 +21,13 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.option;
 import de.uni_freiburg.informatik.ultimate.logic.SMTLIBConstants;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.LogProxy;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine.DecisionHeuristic;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine.RestartStrategy;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.Transformations.AvailableTransformations;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol.CheckType;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol.ProofMode;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve.IntBranching;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve.PivotRule;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.quant.QuantifierTheory.InstantiationMethod;
 
 /**
@@ -47,6 +51,31 @@ public class SolverOptions {
 	private final EnumOption<CheckType> mSimpCheckType;
 	private final EnumOption<ProofMode> mProofLevel;
 	private final EnumOption<InstantiationMethod> mInstantiationMethod;
+	private final LongOption mReduceDBFirst;
+	private final LongOption mReduceDBIncrement;
+	private final BooleanOption mArrayWatchLists;
+	private final EnumOption<RestartStrategy> mRestartStrategy;
+	private final BooleanOption mTrailSaving;
+	private final BooleanOption mMinimizeBinary;
+	private final BooleanOption mInprocessing;
+	private final LongOption mInprocessInterval;
+	private final EnumOption<DecisionHeuristic> mDecisionHeuristic;
+	private final BooleanOption mTargetPhases;
+	private final LongOption mRephaseInterval;
+	private final BooleanOption mChronoBacktracking;
+	private final LongOption mChronoBacktrackThreshold;
+	private final LongOption mChronoBacktrackMinConflicts;
+	private final BooleanOption mFloatSimplex;
+	private final BooleanOption mDifferenceLogic;
+	private final EnumOption<IntBranching> mIntBranching;
+	private final BooleanOption mIntPresolve;
+	private final BooleanOption mKeepTableauRows;
+	private final EnumOption<PivotRule> mPivotRule;
+	private final LongOption mPivotThreads;
+	private final BooleanOption mLazyArrayLemmas;
+	private final BooleanOption mCCExplanationCache;
+	private final BooleanOption mCCFewestLiterals;
+	private final LongOption mCCAckermannThreshold;
 	private final OptionMap mOptions;
 
 	SolverOptions(final OptionMap options, final LogProxy logger) {
@@ -80,6 +109,67 @@ public class SolverOptions {
 		mInstantiationMethod = new EnumOption<>(InstantiationMethod.E_MATCHING_CONFLICT, false,
 				InstantiationMethod.class, "Quantifier Theory: Method to instantiate quantified formulas.");
 		mProofLevel = new EnumOption<>(ProofMode.NONE, false, ProofMode.class, "Proof level.");
+		mReduceDBFirst = new LongOption(Config.REDUCE_DB_FIRST, false,
+				"Number of conflicts before the learned clauses with high literal block distance are reduced first.");
+		mReduceDBIncrement = new LongOption(Config.REDUCE_DB_INCREMENT, false,
+				"Number of conflicts by which the interval between two reductions of the learned clauses grows.");
+		mArrayWatchLists = new BooleanOption(false, false,
+				"Store the clause watchers in arrays instead of linking them through the clauses.");
+		mRestartStrategy = new EnumOption<>(RestartStrategy.LUBY, false, RestartStrategy.class,
+				"Strategy to decide when to restart: after a Luby sequence of conflicts or Glucose style based on the "
+						+ "quality of the learned clauses.");
+		mTrailSaving = new BooleanOption(false, false,
+				"Save the literals removed by a restart and replay their propagations after the same decision.");
+		mMinimizeBinary = new BooleanOption(false, false,
+				"Strengthen learned clauses by resolution with the binary clauses of the asserting literal.");
+		mInprocessing = new BooleanOption(false, false, "Simplify the clause database during the search by "
+				+ "subsumption, vivification of learned clauses and elimination of Boolean variables.");
+		mInprocessInterval = new LongOption(Config.INPROCESS_INTERVAL, false,
+				"Number of conflicts between two rounds of inprocessing.");
+		mDecisionHeuristic = new EnumOption<>(DecisionHeuristic.VSIDS, false, DecisionHeuristic.class,
+				"Heuristic to score the atoms for decisions: VSIDS, learning rate based (LRB) or conflict history based "
+						+ "(CHB).");
+		mTargetPhases = new BooleanOption(false, false,
+				"Decide on the phases of the longest conflict free trail and periodically reset the saved phases.");
+		mRephaseInterval = new LongOption(Config.REPHASE_INTERVAL, false,
+				"Number of conflicts before the first reset of the saved phases; the interval grows by this amount.");
+		mChronoBacktracking = new BooleanOption(false, false,
+				"Backtrack only the conflict level instead of backjumping over many decision levels.");
+		mChronoBacktrackThreshold = new LongOption(Config.CHRONO_BACKTRACK_THRESHOLD, false,
+				"Number of decision levels a backjump must skip to backtrack chronologically instead.");
+		mChronoBacktrackMinConflicts = new LongOption(Config.CHRONO_BACKTRACK_MIN_CONFLICTS, false,
+				"Number of conflicts before chronological backtracking starts.");
+		mFloatSimplex = new BooleanOption(false, false, "Search a feasible basis with a floating point simplex "
+				+ "before the exact simplex certifies or repairs it.");
+		mDifferenceLogic = new BooleanOption(false, false,
+				"Use the graph based difference logic solver instead of the simplex for QF_IDL and QF_RDL.");
+		mIntBranching = new EnumOption<>(IntBranching.CUTS, false, IntBranching.class,
+				"How to make integer variables integral: cuts from proofs (CUTS) or branch and bound on the most "
+						+ "fractional variable (MOST_FRACTIONAL) or on the variable with the best pseudo cost "
+						+ "(PSEUDO_COST).");
+		mIntPresolve = new BooleanOption(false, false,
+				"Tighten the bounds of integer variables by bound propagation before every check-sat.");
+		mKeepTableauRows = new BooleanOption(false, false,
+				"Keep the rows of the linear arithmetic solver on pop and reuse them when a popped constraint is "
+						+ "asserted again.");
+		mPivotRule = new EnumOption<>(PivotRule.SOI, false, PivotRule.class,
+				"How the simplex chooses pivot steps: the greatest decrease of the sum of infeasibilities (SOI), "
+						+ "steepest edge with devex weights (STEEPEST_EDGE), or SOI with least recently pivoted "
+						+ "variables instead of Bland's rule on plateaus (LEAST_RECENTLY_PIVOTED).");
+		mPivotThreads = new LongOption(1, false,
+				"Number of threads that update the tableaux rows of large pivot steps of the simplex in parallel.");
+		mLazyArrayLemmas = new BooleanOption(false, false,
+				"Only create the literals of array lemmas that propagate or conflict under the current assignment; "
+						+ "defer the other lemmas until the final check.");
+		mCCExplanationCache = new BooleanOption(false, false,
+				"Cache the literals explaining congruence closure equalities until their decide level is backtracked.");
+		mCCFewestLiterals = new BooleanOption(false, false,
+				"Explain congruence closure equalities with the union-find algorithm of Nieuwenhuis and Oliveras, "
+						+ "which avoids explaining parts of the proof forest twice. Not used for proof production.");
+		mCCAckermannThreshold = new LongOption(0, false,
+				"Add the congruence axiom of two function applications as a clause after their congruence was used "
+						+ "this often in an explanation (dynamic Ackermannization). 0 disables it. Not used for proof "
+						+ "production.");
 
 		// general standard compliant options
 		options.addOption(SMTLIBConstants.VERBOSITY, new VerbosityOption(logger));
@@ -132,6 +222,33 @@ public class SolverOptions {
 		options.addOption(SMTInterpolConstants.PROPAGATE_UNKNOWN_AUX, new BooleanOption(false, false,
 				"Quantifier Theory: Allow propagation on atoms with non-existing @AUX applications."));
 
+		// DPLL options
+		options.addOption(SMTInterpolConstants.REDUCE_DB_FIRST, mReduceDBFirst);
+		options.addOption(SMTInterpolConstants.REDUCE_DB_INCREMENT, mReduceDBIncrement);
+		options.addOption(SMTInterpolConstants.ARRAY_WATCH_LISTS, mArrayWatchLists);
+		options.addOption(SMTInterpolConstants.RESTART_STRATEGY, mRestartStrategy);
+		options.addOption(SMTInterpolConstants.TRAIL_SAVING, mTrailSaving);
+		options.addOption(SMTInterpolConstants.MINIMIZE_BINARY, mMinimizeBinary);
+		options.addOption(SMTInterpolConstants.INPROCESSING, mInprocessing);
+		options.addOption(SMTInterpolConstants.INPROCESS_INTERVAL, mInprocessInterval);
+		options.addOption(SMTInterpolConstants.DECISION_HEURISTIC, mDecisionHeuristic);
+		options.addOption(SMTInterpolConstants.TARGET_PHASES, mTargetPhases);
+		options.addOption(SMTInterpolConstants.REPHASE_INTERVAL, mRephaseInterval);
+		options.addOption(SMTInterpolConstants.CHRONO_BACKTRACKING, mChronoBacktracking);
+		options.addOption(SMTInterpolConstants.CHRONO_BACKTRACK_THRESHOLD, mChronoBacktrackThreshold);
+		options.addOption(SMTInterpolConstants.CHRONO_BACKTRACK_MIN_CONFLICTS, mChronoBacktrackMinConflicts);
+		options.addOption(SMTInterpolConstants.FLOAT_SIMPLEX, mFloatSimplex);
+		options.addOption(SMTInterpolConstants.DIFFERENCE_LOGIC, mDifferenceLogic);
+		options.addOption(SMTInterpolConstants.INT_BRANCHING, mIntBranching);
+		options.addOption(SMTInterpolConstants.INT_PRESOLVE, mIntPresolve);
+		options.addOption(SMTInterpolConstants.KEEP_TABLEAU_ROWS, mKeepTableauRows);
+		options.addOption(SMTInterpolConstants.PIVOT_RULE, mPivotRule);
+		options.addOption(SMTInterpolConstants.PIVOT_THREADS, mPivotThreads);
+		options.addOption(SMTInterpolConstants.LAZY_ARRAY_LEMMAS, mLazyArrayLemmas);
+		options.addOption(SMTInterpolConstants.CC_EXPLANATION_CACHE, mCCExplanationCache);
+		options.addOption(SMTInterpolConstants.CC_FEWEST_LITERALS, mCCFewestLiterals);
+		options.addOption(SMTInterpolConstants.CC_ACKERMANN_THRESHOLD, mCCAckermannThreshold);
+
 		// simplifier options
 		options.addOption(SMTInterpolConstants.SIMPLIFY_CHECK_TYPE, mSimpCheckType);
 		options.addOption(SMTInterpolConstants.SIMPLIFY_REPEATEDLY, new BooleanOption(true, true,
@@ -159,6 +276,33 @@ public class SolverOptions {
 		mProofLevel = (EnumOption<ProofMode>) options.getOption(SMTInterpolConstants.PROOF_LEVEL);
 		mInstantiationMethod =
 				(EnumOption<InstantiationMethod>) options.getOption(SMTInterpolConstants.INSTANTIATION_METHOD);
+		mReduceDBFirst = (LongOption) options.getOption(SMTInterpolConstants.REDUCE_DB_FIRST);
+		mReduceDBIncrement = (LongOption) options.getOption(SMTInterpolConstants.REDUCE_DB_INCREMENT);
+		mArrayWatchLists = (BooleanOption) options.getOption(SMTInterpolConstants.ARRAY_WATCH_LISTS);
+		mRestartStrategy = (EnumOption<RestartStrategy>) options.getOption(SMTInterpolConstants.RESTART_STRATEGY);
+		mTrailSaving = (BooleanOption) options.getOption(SMTInterpolConstants.TRAIL_SAVING);
+		mMinimizeBinary = (BooleanOption) options.getOption(SMTInterpolConstants.MINIMIZE_BINARY);
+		mInprocessing = (BooleanOption) options.getOption(SMTInterpolConstants.INPROCESSING);
+		mInprocessInterval = (LongOption) options.getOption(SMTInterpolConstants.INPROCESS_INTERVAL);
+		mDecisionHeuristic =
+				(EnumOption<DecisionHeuristic>) options.getOption(SMTInterpolConstants.DECISION_HEURISTIC);
+		mTargetPhases = (BooleanOption) options.getOption(SMTInterpolConstants.TARGET_PHASES);
+		mRephaseInterval = (LongOption) options.getOption(SMTInterpolConstants.REPHASE_INTERVAL);
+		mChronoBacktracking = (BooleanOption) options.getOption(SMTInterpolConstants.CHRONO_BACKTRACKING);
+		mChronoBacktrackThreshold = (LongOption) options.getOption(SMTInterpolConstants.CHRONO_BACKTRACK_THRESHOLD);
+		mChronoBacktrackMinConflicts =
+				(LongOption) options.getOption(SMTInterpolConstants.CHRONO_BACKTRACK_MIN_CONFLICTS);
+		mFloatSimplex = (BooleanOption) options.getOption(SMTInterpolConstants.FLOAT_SIMPLEX);
+		mDifferenceLogic = (BooleanOption) options.getOption(SMTInterpolConstants.DIFFERENCE_LOGIC);
+		mIntBranching = (EnumOption<IntBranching>) options.getOption(SMTInterpolConstants.INT_BRANCHING);
+		mIntPresolve = (BooleanOption) options.getOption(SMTInterpolConstants.INT_PRESOLVE);
+		mKeepTableauRows = (BooleanOption) options.getOption(SMTInterpolConstants.KEEP_TABLEAU_ROWS);
+		mPivotRule = (EnumOption<PivotRule>) options.getOption(SMTInterpolConstants.PIVOT_RULE);
+		mPivotThreads = (LongOption) options.getOption(SMTInterpolConstants.PIVOT_THREADS);
+		mLazyArrayLemmas = (BooleanOption) options.getOption(SMTInterpolConstants.LAZY_ARRAY_LEMMAS);
+		mCCExplanationCache = (BooleanOption) options.getOption(SMTInterpolConstants.CC_EXPLANATION_CACHE);
+		mCCFewestLiterals = (BooleanOption) options.getOption(SMTInterpolConstants.CC_FEWEST_LITERALS);
+		mCCAckermannThreshold = (LongOption) options.getOption(SMTInterpolConstants.CC_ACKERMANN_THRESHOLD);
 		mOptions = options;
 	}
 
@@ -230,4 +374,104 @@ public class SolverOptions {
 		return mInstantiationMethod.getValue();
 	}
 
+	public final int getReduceDBFirst() {
+		return (int) mReduceDBFirst.getValue();
+	}
+
+	public final int getReduceDBIncrement() {
+		return (int) mReduceDBIncrement.getValue();
+	}
+
+	public final boolean isArrayWatchLists() {
+		return mArrayWatchLists.getValue();
+	}
+
+	public final RestartStrategy getRestartStrategy() {
+		return mRestartStrategy.getValue();
+	}
+
+	public final boolean isTrailSaving() {
+		return mTrailSaving.getValue();
+	}
+
+	public final boolean isMinimizeBinary() {
+		return mMinimizeBinary.getValue();
+	}
+
+	public final boolean isInprocessing() {
+		return mInprocessing.getValue();
+	}
+
+	public final int getInprocessInterval() {
+		return (int) mInprocessInterval.getValue();
+	}
+
+	public final DecisionHeuristic getDecisionHeuristic() {
+		return mDecisionHeuristic.getValue();
+	}
+
+	public final boolean isTargetPhases() {
+		return mTargetPhases.getValue();
+	}
+
+	public final int getRephaseInterval() {
+		return (int) mRephaseInterval.getValue();
+	}
+
+	public final boolean isChronoBacktracking() {
+		return mChronoBacktracking.getValue();
+	}
+
+	public final int getChronoBacktrackThreshold() {
+		return (int) mChronoBacktrackThreshold.getValue();
+	}
+
+	public final int getChronoBacktrackMinConflicts() {
+		return (int) mChronoBacktrackMinConflicts.getValue();
+	}
+
+	public final boolean isFloatSimplex() {
+		return mFloatSimplex.getValue();
+	}
+
+	public final boolean isDifferenceLogic() {
+		return mDifferenceLogic.getValue();
+	}
+
+	public final IntBranching getIntBranching() {
+		return mIntBranching.getValue();
+	}
+
+	public final boolean isIntPresolve() {
+		return mIntPresolve.getValue();
+	}
+
+	public final boolean isKeepTableauRows() {
+		return mKeepTableauRows.getValue();
+	}
+
+	public final PivotRule getPivotRule() {
+		return mPivotRule.getValue();
+	}
+
+	public final int getPivotThreads() {
+		return (int) mPivotThreads.getValue();
+	}
+
+	public final boolean isLazyArrayLemmas() {
+		return mLazyArrayLemmas.getValue();
+	}
+
+	public final boolean isCCExplanationCache() {
+		return mCCExplanationCache.getValue();
+	}
+
+	public final boolean isCCFewestLiterals() {
+		return mCCFewestLiterals.getValue();
+	}
+
+	public final int getCCAckermannThreshold() {
+		return (int) mCCAckermannThreshold.getValue();
+	}
+
 }
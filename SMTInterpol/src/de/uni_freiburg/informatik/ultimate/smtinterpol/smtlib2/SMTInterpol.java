@@ -610,6 +610,19 @@ public class SMTInterpol extends NoopScript {
 		try {
 			final ProofMode proofMode = getProofMode();
 			mEngine = new DPLLEngine(mLogger, mCancel);
+			mEngine.setReduceDB(mSolverOptions.getReduceDBFirst(), mSolverOptions.getReduceDBIncrement());
+			mEngine.setArrayWatchLists(mSolverOptions.isArrayWatchLists());
+			mEngine.setRestartStrategy(mSolverOptions.getRestartStrategy());
+			mEngine.setTrailSaving(mSolverOptions.isTrailSaving());
+			mEngine.setBinaryMinimization(mSolverOptions.isMinimizeBinary());
+			mEngine.setInprocessing(mSolverOptions.isInprocessing());
+			mEngine.setInprocessInterval(mSolverOptions.getInprocessInterval());
+			mEngine.setDecisionHeuristic(mSolverOptions.getDecisionHeuristic());
+			mEngine.setTargetPhases(mSolverOptions.isTargetPhases());
+			mEngine.setRephaseInterval(mSolverOptions.getRephaseInterval());
+			mEngine.setChronoBacktracking(mSolverOptions.isChronoBacktracking());
+			mEngine.setChronoBacktrackLimits(mSolverOptions.getChronoBacktrackThreshold(),
+					mSolverOptions.getChronoBacktrackMinConflicts());
 			mClausifier = new Clausifier(getTheory(), mEngine, proofMode);
 			// This has to be before set-logic since we need to capture
 			// initialization of CClosure.
@@ -618,6 +631,13 @@ public class SMTInterpol extends NoopScript {
 					mSolverOptions.getInstantiationMethod(), getBooleanOption(SMTInterpolConstants.UNKNOWN_TERM_DAWGS),
 					getBooleanOption(SMTInterpolConstants.PROPAGATE_UNKNOWN_TERMS),
 					getBooleanOption(SMTInterpolConstants.PROPAGATE_UNKNOWN_AUX));
+			mClausifier.setArithmeticOptions(mSolverOptions.isFloatSimplex(), mSolverOptions.isDifferenceLogic(),
+					mSolverOptions.getIntBranching(), mSolverOptions.isIntPresolve(),
+					mSolverOptions.isKeepTableauRows(), mSolverOptions.getPivotRule(),
+					mSolverOptions.getPivotThreads());
+			mClausifier.setArrayOptions(mSolverOptions.isLazyArrayLemmas());
+			mClausifier.setCClosureOptions(mSolverOptions.isCCExplanationCache(),
+					mSolverOptions.isCCFewestLiterals(), mSolverOptions.getCCAckermannThreshold());
 			mClausifier.setLogic(logic);
 			final boolean produceAssignments = getBooleanOption(SMTLIBConstants.PRODUCE_ASSIGNMENTS);
 			mClausifier.setAssignmentProduction(produceAssignments);
@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -60,7 +61,8 @@ import de.uni_freiburg.informatik.ultimate.util.HashUtils;
  * The function <code>checkpoint</code> computes the weak equivalent graph and collects the equalities that would appear
  * in the weak lemmas, i.e., the index disequalities and the propagated equality on the select terms. If there is only
  * one equality in a lemma it propagates the lemma. Otherwise, the mere creation of the equality literals, will force
- * the DPLL engine at some point to decide these literals.
+ * the DPLL engine at some point to decide these literals. The graph is only built again if the congruence closure
+ * merged or unmerged a class of an array or of an index since it was last built; other changes keep the graph.
  * </p>
  *
  * <p>
@@ -578,6 +580,10 @@ public class ArrayTheory implements ITheory {
 	private static class ArrayLemma {
 		RuleKind mRule;
 		SymmetricPair<CCTerm> mPropagatedEq;
+		/// The store indices on the weak path of the lemma, computed on demand.
+		Set<CCTerm> mStoreIndices;
+		/// All equality literals of the lemma; computed once, since the lemma may be taken over by a later checkpoint.
+		List<CCEquality> mLemmaLits;
 		Set<CCEquality> mUndecidedLits;
 
 		public ArrayLemma(final RuleKind rule, final CCTerm lhs, final CCTerm rhs) {
@@ -622,11 +628,30 @@ public class ArrayTheory implements ITheory {
 	private final ScopedLinkedHashSet<CCAppTerm> mConsts = new ScopedLinkedHashSet<>();
 
 	private final ArrayDeque<ArrayLemma> mPropClauses = new ArrayDeque<>();
+	/**
+	 * The lemmas that were found by the last checkpoint but are not instantiated yet, since they neither propagate nor
+	 * conflict under the current assignment. Only used in lazy mode; they are instantiated in the final check.
+	 */
+	private final ArrayList<ArrayLemma> mDeferredLemmas = new ArrayList<>();
+	/// True if lemmas are only instantiated when they propagate or conflict, see mDeferredLemmas.
+	private boolean mLazyLemmas = false;
 
 	private final LogProxy mLogger;
 
 	/// Cache for the congruence roots;
 	Map<CCTerm, ArrayNode> mCongRoots = null;
+	/**
+	 * The last weak equivalence graph that was built, together with the lemmas found while building it. It stays
+	 * usable after new literals are set or backtracked, as long as no congruence class of an array or of a store or
+	 * select index was merged since it was built. This is checked against the undo stack of the congruence closure.
+	 */
+	private Map<CCTerm, ArrayNode> mWeakEqRoots = null;
+	private List<ArrayLemma> mWeakEqLemmas;
+	/// The representatives of the array and index classes used by mWeakEqRoots.
+	private Set<CCTerm> mWeakEqReps;
+	/// The merge depth and undo marker of the congruence closure for which mWeakEqRoots was last validated.
+	private int mWeakEqDepth;
+	private Object mWeakEqMarker;
 	/**
 	 * The array models store for every array node the index-value map. The indices are all their own representative.
 	 * The value is the select cc term representative. If there is no select term for that index, the value is the
@@ -637,11 +662,15 @@ public class ArrayTheory implements ITheory {
 	// =============== STATISTICS ===============
 	private int mNumInstsSelect = 0;
 	private int mNumInstsEq = 0;
+	private int mNumDeferred = 0;
+	private int mNumDeferredInsts = 0;
 	private int mNumBuildWeakEQ = 0;
+	private int mNumReuseWeakEQ = 0;
 	private int mNumAddStores = 0;
 	private int mNumMerges = 0;
 	private int mNumModuloEdges = 0;
 	private long mTimeBuildWeakEq = 0;
+	private long mTimeReuseWeakEq = 0;
 	private long mTimeBuildWeakEqi = 0;
 	private long mTimePropagation = 0;
 	private long mTimeExplanations = 0;
@@ -666,7 +695,7 @@ public class ArrayTheory implements ITheory {
 	@Override
 	public Clause setLiteral(final Literal literal) {
 		if (literal instanceof CCEquality) {
-			cleanCaches();
+			invalidateWeakEq();
 		} else {
 			for (final ArrayLemma lemma : mPropClauses) {
 				if (lemma.mUndecidedLits.remove(literal.negate()) && lemma.mUndecidedLits.isEmpty()) {
@@ -679,12 +708,12 @@ public class ArrayTheory implements ITheory {
 
 	@Override
 	public void backtrackLiteral(final Literal literal) {
-		cleanCaches();
+		invalidateWeakEq();
 	}
 
 	@Override
 	public Clause checkpoint() {
-		if (mCongRoots == null && buildWeakEq()) {
+		if (mCongRoots == null && updateWeakEq()) {
 			for (final ArrayLemma lemma : mPropClauses) {
 				if (lemma.mUndecidedLits.isEmpty()) {
 					return explainPropagation(lemma);
@@ -694,12 +723,19 @@ public class ArrayTheory implements ITheory {
 		return null;
 	}
 
+	public void setLazyLemmas(final boolean lazyLemmas) {
+		mLazyLemmas = lazyLemmas;
+	}
+
 	@Override
 	public Clause computeConflictClause() {
 		final Clause conflict = checkpoint();
 		if (conflict != null) {
 			return conflict;
 		}
+		if (!mDeferredLemmas.isEmpty()) {
+			return instantiateDeferredLemmas();
+		}
 		if (mPropClauses.isEmpty()) {
 			final boolean foundLemma = computeWeakeqExt();
 			if (foundLemma) {
@@ -730,12 +766,12 @@ public class ArrayTheory implements ITheory {
 	public Clause getUnitClause(final Literal literal) {
 		assert literal instanceof CCEquality;
 		if (mCongRoots == null) {
-			buildWeakEq();
+			updateWeakEq();
 		}
 		for (final ArrayLemma lemma : mPropClauses) {
 			final Set<CCEquality> lits = lemma.mUndecidedLits;
 			if (lits.isEmpty() || (lits.size() == 1 && lits.contains(literal))) {
-				return explainPropagation(lemma);
+				return explainPropagation(lemma, literal);
 			}
 		}
 		throw new AssertionError("Cannot explain unit literal!");
@@ -747,10 +783,24 @@ public class ArrayTheory implements ITheory {
 	}
 
 	private Clause explainPropagation(final ArrayLemma lemma) {
+		return explainPropagation(lemma, null);
+	}
+
+	/**
+	 * Compute the clause for an array lemma.
+	 *
+	 * @param explained
+	 *            the propagated literal that the clause explains, or null if the literal is not yet set or the clause
+	 *            is a conflict.
+	 */
+	private Clause explainPropagation(final ArrayLemma lemma, final Literal explained) {
 		final SymmetricPair<CCTerm> equality = lemma.getEquality();
 		final long start = System.nanoTime();
 		mNumInstsSelect++;
 		final WeakCongruencePath path = new WeakCongruencePath(this);
+		if (explained != null) {
+			path.setExplainedLiteral(explained);
+		}
 		final Clause clause;
 		switch (lemma.getRule()) {
 		case READ_OVER_WEAKEQ:
@@ -783,11 +833,14 @@ public class ArrayTheory implements ITheory {
 	@Override
 	public void printStatistics(final LogProxy logger) {
 		if (logger.isInfoEnabled()) {
-			logger.info("Array: #Arrays: %d, #BuildWeakEQ: %d, #ModEdges: %d, " + "#addStores: %d, #merges: %d",
-					mArrays.size(), mNumBuildWeakEQ, mNumModuloEdges, mNumAddStores, mNumMerges);
-			logger.info("Insts: ReadOverWeakEQ: %d, WeakeqExt: %d", mNumInstsSelect, mNumInstsEq);
-			logger.info("Time: BuildWeakEq: %d.%03d ms, BuildWeakEqi: %d.%03d ms",
+			logger.info("Array: #Arrays: %d, #BuildWeakEQ: %d, #ReuseWeakEQ: %d, #ModEdges: %d, "
+					+ "#addStores: %d, #merges: %d", mArrays.size(), mNumBuildWeakEQ, mNumReuseWeakEQ,
+					mNumModuloEdges, mNumAddStores, mNumMerges);
+			logger.info("Insts: ReadOverWeakEQ: %d, WeakeqExt: %d, Deferred: %d, DeferredInsts: %d", mNumInstsSelect,
+					mNumInstsEq, mNumDeferred, mNumDeferredInsts);
+			logger.info("Time: BuildWeakEq: %d.%03d ms, ReuseWeakEq: %d.%03d ms, BuildWeakEqi: %d.%03d ms",
 					mTimeBuildWeakEq / 1000000, mTimeBuildWeakEq / 1000 % 1000,
+					mTimeReuseWeakEq / 1000000, mTimeReuseWeakEq / 1000 % 1000,
 					mTimeBuildWeakEqi / 1000000, mTimeBuildWeakEqi / 1000 % 1000);
 			logger.info("Time: Propagation %d.%03d ms, Explanations: %d.%03d ms",
 					mTimePropagation / 1000000, mTimePropagation / 1000 % 1000,
@@ -829,11 +882,13 @@ public class ArrayTheory implements ITheory {
 	@Override
 	public void backtrackAll() {
 		mPropClauses.clear();
+		mDeferredLemmas.clear();
 	}
 
 	@Override
 	public Clause backtrackComplete() {
 		mPropClauses.clear();
+		mDeferredLemmas.clear();
 		return null;
 	}
 
@@ -867,10 +922,12 @@ public class ArrayTheory implements ITheory {
 	public Object[] getStatistics() {
 		return new Object[] { ":Array",
 				new Object[][] { { "NumArrays", mArrays.size() }, { "BuildWeakEQ", mNumBuildWeakEQ },
-						{ "AddStores", mNumAddStores }, { "Merges", mNumMerges }, { "ModuloEdges", mNumModuloEdges },
+						{ "ReuseWeakEQ", mNumReuseWeakEQ }, { "AddStores", mNumAddStores }, { "Merges", mNumMerges }, { "ModuloEdges", mNumModuloEdges },
 						{ "ReadOverWeakeq", mNumInstsSelect }, { "WeakeqExt", mNumInstsEq },
+						{ "DeferredLemmas", mNumDeferred }, { "DeferredInsts", mNumDeferredInsts },
 						{ "Times",
 								new Object[][] { { "BuildWeakEq", mTimeBuildWeakEq },
+										{ "ReuseWeakEq", mTimeReuseWeakEq },
 										{ "BuildWeakEqi", mTimeBuildWeakEqi }, { "Propagation", mTimePropagation },
 										{ "Explanations", mTimeExplanations } } } } };
 	}
@@ -1244,96 +1301,158 @@ public class ArrayTheory implements ITheory {
 	}
 
 	private void createPropagatedClauses() {
-		for (final ArrayLemma lemma : mPropClauses) {
-			final CCTerm lhs = lemma.getEquality().getFirst();
-			final CCTerm rhs = lemma.getEquality().getSecond();
-			assert lhs.getRepresentative() != rhs.getRepresentative();
-			switch (lemma.getRule()) {
-			case READ_OVER_WEAKEQ: {
-				final CCAppTerm select1 = (CCAppTerm) lhs;
-				final CCAppTerm select2 = (CCAppTerm) rhs;
-				final CCTerm index1 = getIndexFromSelect(select1);
-				final CCTerm array1 = getArrayFromSelect(select1);
-				final CCTerm array2 = getArrayFromSelect(select2);
-				final Set<CCTerm> storeIndices = new LinkedHashSet<>();
-				computeStoreIndices(index1.getRepresentative(), array1, array2, storeIndices);
-				final Set<CCEquality> propClause = new LinkedHashSet<>();
-				for (final CCTerm idx : storeIndices) {
-					assert index1.getRepresentative() != idx.getRepresentative();
-					final CCEquality lit = getCClosure().createEquality(index1, idx, false);
-					if (lit != null) {
-						assert lit.getDecideStatus() != lit;
-						if (lit.getDecideStatus() == null) {
-							propClause.add(lit);
-						}
-					}
-				}
-				final CCEquality lit = getCClosure().createEquality(select1, select2, false);
-				if (lit != null) {
-					assert lit.getDecideStatus() != lit;
-					if (lit.getDecideStatus() == null) {
-						propClause.add(lit);
-					}
+		final Iterator<ArrayLemma> it = mPropClauses.iterator();
+		while (it.hasNext()) {
+			final ArrayLemma lemma = it.next();
+			assert lemma.getEquality().getFirst().getRepresentative() != lemma.getEquality().getSecond()
+					.getRepresentative();
+			if (lemma.mLemmaLits == null) {
+				if (mLazyLemmas && !isRelevant(lemma)) {
+					mNumDeferred++;
+					mDeferredLemmas.add(lemma);
+					it.remove();
+					continue;
 				}
-				lemma.mUndecidedLits = propClause;
-				break;
+				lemma.mLemmaLits = createLemmaLiterals(lemma);
 			}
-			case CONST_WEAKEQ: {
-				final CCEquality lit = getCClosure().createEquality(lhs, rhs, false);
-				assert lit == null || lit.getDecideStatus() != lit;
-				final Set<CCEquality> propClause = new LinkedHashSet<>();
-				if (lit != null && lit.getDecideStatus() == null) {
-					propClause.add(lit);
-				}
-				lemma.mUndecidedLits = propClause;
-				break;
+			computeUndecidedLits(lemma);
+		}
+	}
+
+	private void computeUndecidedLits(final ArrayLemma lemma) {
+		final Set<CCEquality> propClause = new LinkedHashSet<>();
+		for (final CCEquality lit : lemma.mLemmaLits) {
+			assert lit.getDecideStatus() != lit;
+			if (lit.getDecideStatus() == null) {
+				propClause.add(lit);
 			}
-			case READ_CONST_WEAKEQ: {
-				final CCAppTerm select1 = (CCAppTerm) lhs;
-				final CCTerm index1 = getIndexFromSelect(select1);
-				final CCTerm array1 = getArrayFromSelect(select1);
-				final CCTerm array2 = findConst(rhs);
-				final Set<CCTerm> storeIndices = new LinkedHashSet<>();
-				computeStoreIndices(index1.getRepresentative(), array1, array2, storeIndices);
-				final Set<CCEquality> propClause = new LinkedHashSet<>();
-				for (final CCTerm idx : storeIndices) {
-					assert index1.getRepresentative() != idx.getRepresentative();
-					final CCEquality lit = getCClosure().createEquality(index1, idx, false);
-					if (lit != null) {
-						assert lit.getDecideStatus() != lit;
-						if (lit.getDecideStatus() == null) {
-							propClause.add(lit);
-						}
-					}
+		}
+		lemma.mUndecidedLits = propClause;
+	}
+
+	/**
+	 * Instantiate the lemmas that were deferred by the checkpoints in lazy mode. This creates their literals, so the
+	 * DPLL engine has to decide them before the next final check.
+	 *
+	 * @return a conflict clause if one of the lemmas is violated, null otherwise.
+	 */
+	private Clause instantiateDeferredLemmas() {
+		for (final ArrayLemma lemma : mDeferredLemmas) {
+			mNumDeferredInsts++;
+			lemma.mLemmaLits = createLemmaLiterals(lemma);
+			computeUndecidedLits(lemma);
+			mPropClauses.add(lemma);
+		}
+		mDeferredLemmas.clear();
+		for (final ArrayLemma lemma : mPropClauses) {
+			if (lemma.mUndecidedLits.isEmpty()) {
+				return explainPropagation(lemma);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Check if a lemma is relevant under the current assignment, i.e., if the congruence closure already knows that
+	 * all but at most one of its equalities are false. Such a lemma propagates or conflicts as soon as it is
+	 * instantiated.
+	 *
+	 * @param lemma
+	 *            the array lemma.
+	 * @return true if the lemma should be instantiated immediately.
+	 */
+	private boolean isRelevant(final ArrayLemma lemma) {
+		final CCTerm lhs = lemma.getEquality().getFirst();
+		final CCTerm rhs = lemma.getEquality().getSecond();
+		int open = mCClosure.isDiseqSet(lhs, rhs) ? 0 : 1;
+		if (lemma.getRule() != RuleKind.CONST_WEAKEQ) {
+			final CCTerm index = getIndexFromSelect((CCAppTerm) lhs);
+			for (final CCTerm idx : getStoreIndices(lemma)) {
+				if (!mCClosure.isDiseqSet(index, idx) && ++open > 1) {
+					return false;
 				}
-				final CCEquality lit = getCClosure().createEquality(lhs, rhs, false);
+			}
+		}
+		return open <= 1;
+	}
+
+	/**
+	 * Get the store indices on the weak path between the arrays of a select lemma.
+	 *
+	 * @param lemma
+	 *            the array lemma, whose rule must not be CONST_WEAKEQ.
+	 * @return the set of store indices.
+	 */
+	private Set<CCTerm> getStoreIndices(final ArrayLemma lemma) {
+		if (lemma.mStoreIndices == null) {
+			final CCAppTerm select1 = (CCAppTerm) lemma.getEquality().getFirst();
+			final CCTerm rhs = lemma.getEquality().getSecond();
+			final CCTerm index1 = getIndexFromSelect(select1);
+			final CCTerm array1 = getArrayFromSelect(select1);
+			final CCTerm array2 = lemma.getRule() == RuleKind.READ_OVER_WEAKEQ
+					? getArrayFromSelect((CCAppTerm) rhs) : findConst(rhs);
+			final Set<CCTerm> storeIndices = new LinkedHashSet<>();
+			computeStoreIndices(index1.getRepresentative(), array1, array2, storeIndices);
+			lemma.mStoreIndices = storeIndices;
+		}
+		return lemma.mStoreIndices;
+	}
+
+	/**
+	 * Create the equality literals of a lemma, i.e., the index equalities with the store indices on the weak path and
+	 * the propagated equality.
+	 *
+	 * @param lemma
+	 *            the array lemma.
+	 * @return the list of equality literals.
+	 */
+	private List<CCEquality> createLemmaLiterals(final ArrayLemma lemma) {
+		final CCTerm lhs = lemma.getEquality().getFirst();
+		final CCTerm rhs = lemma.getEquality().getSecond();
+		final List<CCEquality> lits = new ArrayList<>();
+		switch (lemma.getRule()) {
+		case READ_OVER_WEAKEQ:
+		case READ_CONST_WEAKEQ: {
+			final CCTerm index1 = getIndexFromSelect((CCAppTerm) lhs);
+			for (final CCTerm idx : getStoreIndices(lemma)) {
+				assert index1.getRepresentative() != idx.getRepresentative();
+				final CCEquality lit = getCClosure().createEquality(index1, idx, false);
 				if (lit != null) {
-					assert lit.getDecideStatus() != lit;
-					if (lit.getDecideStatus() == null) {
-						propClause.add(lit);
-					}
+					lits.add(lit);
 				}
-				lemma.mUndecidedLits = propClause;
-				break;
-			}
-			default:
-				throw new AssertionError("Unknown Array Rule: " + lemma.getRule());
 			}
+			break;
 		}
+		case CONST_WEAKEQ:
+			break;
+		default:
+			throw new AssertionError("Unknown Array Rule: " + lemma.getRule());
+		}
+		final CCEquality lit = getCClosure().createEquality(lhs, rhs, false);
+		if (lit != null) {
+			lits.add(lit);
+		}
+		return lits;
 	}
 
 	private boolean buildWeakEq() {
 		mNumBuildWeakEQ++;
 		final long startTime = System.nanoTime();
 		mCongRoots = new LinkedHashMap<>();
+		final Set<CCTerm> reps = new HashSet<>();
 		for (final CCTerm array : mArrays) {
 			final CCTerm rep = array.getRepresentative();
 			if (!mCongRoots.containsKey(rep)) {
 				final ArrayNode node = new ArrayNode(rep);
 				node.computeSelects();
 				mCongRoots.put(rep, node);
+				reps.add(rep);
+				reps.addAll(node.mSelects.keySet());
 			}
 		}
+		for (final CCAppTerm store : mStores) {
+			reps.add(getIndexFromStore(store).getRepresentative());
+		}
 		for (final CCAppTerm term : mConsts) {
 			setConst(term);
 		}
@@ -1341,12 +1460,47 @@ public class ArrayTheory implements ITheory {
 			merge(store);
 		}
 
+		mWeakEqRoots = mCongRoots;
+		mWeakEqLemmas = new ArrayList<>(mPropClauses);
+		mWeakEqReps = reps;
+		mWeakEqDepth = mCClosure.getMergeDepth();
+		mWeakEqMarker = mCClosure.getUndoMarker();
 		createPropagatedClauses();
 
 		mTimeBuildWeakEq += (System.nanoTime() - startTime);
 		return !mPropClauses.isEmpty();
 	}
 
+	/**
+	 * Make the last weak equivalence graph current again, if the congruence closure did not merge or unmerge any
+	 * class it depends on since it was built. The lemmas found while building it are taken over, except for those
+	 * whose propagated equality holds by now. Otherwise the graph is built from scratch.
+	 *
+	 * @return true if there are lemmas to propagate.
+	 */
+	private boolean updateWeakEq() {
+		if (mWeakEqRoots != null) {
+			final long startTime = System.nanoTime();
+			if (mCClosure.isUntouchedSince(mWeakEqDepth, mWeakEqMarker, mWeakEqReps)) {
+				mNumReuseWeakEQ++;
+				mCongRoots = mWeakEqRoots;
+				mWeakEqDepth = mCClosure.getMergeDepth();
+				mWeakEqMarker = mCClosure.getUndoMarker();
+				for (final ArrayLemma lemma : mWeakEqLemmas) {
+					final SymmetricPair<CCTerm> equality = lemma.getEquality();
+					if (equality.getFirst().getRepresentative() != equality.getSecond().getRepresentative()) {
+						mPropClauses.add(lemma);
+					}
+				}
+				createPropagatedClauses();
+				mTimeReuseWeakEq += (System.nanoTime() - startTime);
+				return !mPropClauses.isEmpty();
+			}
+			mTimeReuseWeakEq += (System.nanoTime() - startTime);
+		}
+		return buildWeakEq();
+	}
+
 	/**
 	 * Make all const terms their own weak representative. This works since we already propagated equalities between
 	 * const arrays in the same weak equivalance class.
@@ -1452,8 +1606,21 @@ public class ArrayTheory implements ITheory {
 		return mConsts.contains(term);
 	}
 
-	public void cleanCaches() {
+	/**
+	 * Mark the weak equivalence graph as outdated after the congruence closure changed. It is validated again by
+	 * {@link #updateWeakEq()}.
+	 */
+	private void invalidateWeakEq() {
 		mCongRoots = null;
 		mPropClauses.clear();
+		mDeferredLemmas.clear();
+	}
+
+	public void cleanCaches() {
+		invalidateWeakEq();
+		mWeakEqRoots = null;
+		mWeakEqLemmas = null;
+		mWeakEqReps = null;
+		mWeakEqMarker = null;
 	}
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure;
+
+import de.uni_freiburg.informatik.ultimate.smtinterpol.util.CuckooHashSet;
+
+/**
+ * The signature table for congruence closure. It maps the signature of an application term, i.e., the representatives
+ * of its func and arg children, to an application term with this signature. Two application terms are congruent if
+ * and only if they have the same signature.
+ *
+ * Every application term has a valid entry for its current signature, i.e., the entry belongs to the term or to some
+ * other term with the same signature. When a class is merged into another, the parents of the merged class are
+ * registered under their new signature. The entries for their old signature are kept; they become stale, since their
+ * term no longer has that signature. Undoing the merge removes the entries of the merged signature, or hands them to a
+ * term that keeps the signature, and registers the parents under their old signature again. A stale entry is never
+ * used and is overwritten by the next term registered with that signature.
+ */
+public class CCSignatureHash extends CuckooHashSet<CCSignatureHash.Entry> {
+
+	static final class Entry {
+		final CCTerm mFunc, mArg;
+		CCAppTerm mAppTerm;
+
+		Entry(final CCTerm func, final CCTerm arg, final CCAppTerm appTerm) {
+			mFunc = func;
+			mArg = arg;
+			mAppTerm = appTerm;
+		}
+
+		boolean isValid() {
+			return mAppTerm.mLeftParInfo.inList() && mAppTerm.mFunc.mRepStar == mFunc
+					&& mAppTerm.mArg.mRepStar == mArg;
+		}
+
+		@Override
+		public int hashCode() {
+			return signatureHash(mFunc, mArg);
+		}
+
+		@Override
+		public String toString() {
+			return "Sig[" + mFunc + "," + mArg + "->" + mAppTerm + "]";
+		}
+	}
+
+	private static int signatureHash(final CCTerm func, final CCTerm arg) {
+		return hashJenkins(func.hashCode()) + arg.hashCode();
+	}
+
+	private Entry getEntry(final CCTerm func, final CCTerm arg) {
+		final int hash = hashJenkins(signatureHash(func, arg));
+		final int hash1 = hash1(hash);
+		Entry bucket = (Entry) mBuckets[hash1];
+		if (bucket != null && bucket.mFunc == func && bucket.mArg == arg) {
+			return bucket;
+		}
+		bucket = (Entry) mBuckets[hash2(hash) ^ hash1];
+		if (bucket != null && bucket.mFunc == func && bucket.mArg == arg) {
+			return bucket;
+		}
+		if (mStash != null && mStash.mFunc == func && mStash.mArg == arg) {
+			return mStash;
+		}
+		return null;
+	}
+
+	/**
+	 * Find an application term with the current signature of {@code CCAppTerm(func,arg)}.
+	 *
+	 * @return a congruent application term, or null if there is none.
+	 */
+	public CCAppTerm find(final CCTerm func, final CCTerm arg) {
+		final Entry entry = getEntry(func.mRepStar, arg.mRepStar);
+		return entry != null && entry.isValid() ? entry.mAppTerm : null;
+	}
+
+	/**
+	 * Register an application term under its current signature. If another term already has this signature, the table
+	 * is not changed.
+	 *
+	 * @param appTerm
+	 *            the application term.
+	 * @return a different application term with the same signature, or null if there is none.
+	 */
+	public CCAppTerm register(final CCAppTerm appTerm) {
+		final CCTerm func = appTerm.mFunc.mRepStar;
+		final CCTerm arg = appTerm.mArg.mRepStar;
+		final Entry entry = getEntry(func, arg);
+		if (entry == null) {
+			add(new Entry(func, arg, appTerm));
+			return null;
+		}
+		if (entry.mAppTerm != appTerm && entry.isValid()) {
+			return entry.mAppTerm;
+		}
+		entry.mAppTerm = appTerm;
+		return null;
+	}
+
+	/**
+	 * Search a different application term that currently has the signature {@code CCAppTerm(func,arg)}.
+	 *
+	 * @param appTerm
+	 *            the application term that should not be returned.
+	 * @param func
+	 *            the representative of the func part.
+	 * @param arg
+	 *            the representative of the arg part.
+	 * @return an application term other than appTerm with this signature, or null if there is none.
+	 */
+	private CCAppTerm findOtherTerm(final CCAppTerm appTerm, final CCTerm func, final CCTerm arg) {
+		final CCParentInfo info = arg.mCCPars.getExistingParentInfo(appTerm.mFunc.mParentPosition);
+		if (info == null) {
+			return null;
+		}
+		for (final CCAppTerm.Parent parent : info.mCCParents) {
+			final CCAppTerm other = parent.getData();
+			if (other != appTerm && other.mLeftParInfo.inList() && other.mFunc.mRepStar == func
+					&& other.mArg.mRepStar == arg) {
+				return other;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Remove the entry for a signature of an application term, if the term owns it. If another term still has this
+	 * signature, the entry is handed to that term instead. This is called when a merge that gave the term this
+	 * signature is undone, and when the term is removed.
+	 *
+	 * @param appTerm
+	 *            the application term.
+	 * @param func
+	 *            the representative of the func part in the signature.
+	 * @param arg
+	 *            the representative of the arg part in the signature.
+	 */
+	public void unregister(final CCAppTerm appTerm, final CCTerm func, final CCTerm arg) {
+		final Entry entry = getEntry(func, arg);
+		if (entry != null && entry.mAppTerm == appTerm) {
+			final CCAppTerm other = findOtherTerm(appTerm, func, arg);
+			if (other != null) {
+				entry.mAppTerm = other;
+			} else {
+				remove(entry);
+			}
+		}
+	}
+
+	/**
+	 * Remove the entry for the current signature of an application term, if the term owns it.
+	 *
+	 * @param appTerm
+	 *            the application term.
+	 */
+	public void unregister(final CCAppTerm appTerm) {
+		unregister(appTerm, appTerm.mFunc.mRepStar, appTerm.mArg.mRepStar);
+	}
+}
@@ -436,7 +436,7 @@ public abstract class CCTerm extends SimpleListable<CCTerm> {
 		long time;
 
 		src.mMergeTime = engine.getMergeDepth();
-		engine.recordMerge(lhs);
+		engine.recordMerge(lhs, src);
 		engine.getLogger().debug("M %s %s", this, lhs);
 
 		if (Config.PROFILE_TIME) {
@@ -511,31 +511,29 @@ public abstract class CCTerm extends SimpleListable<CCTerm> {
 		if (Config.PROFILE_TIME) {
 			time = System.nanoTime();
 		}
-		/* Compute congruence closure */
+		/*
+		 * Compute congruence closure. The signature of every parent of src changed, so we register them again in the
+		 * signature table, which finds the congruent parents of dest.
+		 */
+		for (CCParentInfo srcParentInfo = src.mCCPars.mNext; srcParentInfo != null;
+				srcParentInfo = srcParentInfo.mNext) {
+			for (final CCAppTerm.Parent t1 : srcParentInfo.mCCParents) {
+				if (t1.isMarked()) {
+					continue;
+				}
+				engine.incCcCount();
+				final CCAppTerm congruentTerm = engine.mSignatures.register(t1.getData());
+				if (congruentTerm != null) {
+					engine.addPendingCongruence(t1.getData(), congruentTerm);
+				}
+			}
+		}
 		if (mIsFunc) {
 			final CCParentInfo srcParentInfo = src.mCCPars.mNext;
 			final CCParentInfo destParentInfo = dest.mCCPars.mNext;
-			// assert (srcParentInfo == null || srcParentInfo.m_Next == null);
-			// assert (destParentInfo == null || destParentInfo.m_Next == null);
 			if (srcParentInfo != null) {
 				assert(srcParentInfo.mFuncSymbNr == destParentInfo.mFuncSymbNr);
 				assert srcParentInfo.mReverseTriggers.isEmpty();
-				tloop: for (final CCAppTerm.Parent t1 : srcParentInfo.mCCParents) {
-					if (t1.isMarked()) {
-							continue;
-						}
-					final CCAppTerm t = t1.getData();
-					for (final CCAppTerm.Parent u1 : destParentInfo.mCCParents) {
-						if (u1.isMarked()) {
-							continue;
-						}
-						engine.incCcCount();
-						if (t.mArg.mRepStar == u1.getData().mArg.mRepStar) {
-							engine.addPendingCongruence(t, u1.getData());
-							continue tloop;
-						}
-					}
-				}
 				destParentInfo.mCCParents.joinList(srcParentInfo.mCCParents);
 			}
 		} else {
@@ -548,22 +546,6 @@ public abstract class CCTerm extends SimpleListable<CCTerm> {
 					destParentInfo = destParentInfo.mNext;
 				} else {
 					assert(srcParentInfo.mFuncSymbNr == destParentInfo.mFuncSymbNr);
-					tloop: for (final CCAppTerm.Parent t1 : srcParentInfo.mCCParents) {
-						if (t1.isMarked()) {
-								continue;
-							}
-						final CCAppTerm t = t1.getData();
-						for (final CCAppTerm.Parent u1 : destParentInfo.mCCParents) {
-							if (u1.isMarked()) {
-								continue;
-							}
-							engine.incCcCount();
-							if (t.mFunc.mRepStar == u1.getData().mFunc.mRepStar) {
-								engine.addPendingCongruence(t, u1.getData());
-								continue tloop;
-							}
-						}
-					}
 					// E-Matching
 					if (!srcParentInfo.mReverseTriggers.isEmpty()) {
 						for (final CCAppTerm.Parent parent : destParentInfo.mCCParents) {
@@ -682,6 +664,20 @@ public abstract class CCTerm extends SimpleListable<CCTerm> {
 			t.mRepStar = src;
 		}
 		src.mRep = src;
+		/*
+		 * The parents of src lose the signature they got by this merge. The entries for this signature are removed or
+		 * handed to a term that keeps it, and the parents are registered under their old signature again.
+		 */
+		for (CCParentInfo srcParentInfo = src.mCCPars.mNext; srcParentInfo != null;
+				srcParentInfo = srcParentInfo.mNext) {
+			for (final CCAppTerm.Parent parent : srcParentInfo.mCCParents) {
+				final CCAppTerm app = parent.getData();
+				final CCTerm func = app.mFunc.mRepStar == src ? dest : app.mFunc.mRepStar;
+				final CCTerm arg = app.mArg.mRepStar == src ? dest : app.mArg.mRepStar;
+				engine.mSignatures.unregister(app, func, arg);
+				engine.mSignatures.register(app);
+			}
+		}
 
 		assert src.mMergeTime == engine.getMergeDepth();
 		src.mMergeTime = Integer.MAX_VALUE;
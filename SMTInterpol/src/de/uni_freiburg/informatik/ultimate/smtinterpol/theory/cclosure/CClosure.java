@@ -23,8 +23,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import de.uni_freiburg.informatik.ultimate.logic.ApplicationTerm;
 import de.uni_freiburg.informatik.ultimate.logic.FunctionSymbol;
@@ -98,6 +101,13 @@ public class CClosure implements ITheory {
 	 * @see CCTermPairHash, CCTermPairHash.Info
 	 */
 	final CCTermPairHash mPairHash = new CCTermPairHash();
+	/**
+	 * The signature table that maps the representatives of func and arg to an application term with these
+	 * representatives. It is used to find congruent application terms in constant time.
+	 *
+	 * @see CCSignatureHash
+	 */
+	final CCSignatureHash mSignatures = new CCSignatureHash();
 
 	/**
 	 * These are the list of literals that we can propagate. Each literal must be a consequence of the current
@@ -161,8 +171,37 @@ public class CClosure implements ITheory {
 	 */
 	final ArrayDeque<SymmetricPair<CCAppTerm>> mPendingCongruences = new ArrayDeque<>();
 
+	/**
+	 * Cache for the literals that explain the equality of two terms. It is only used without proof production. An
+	 * explanation stays valid until one of its literals is unset, so the entries are kept in buckets by the highest
+	 * decide level of their literals and are removed when that level is backtracked. Null if the cache is disabled.
+	 */
+	private HashMap<SymmetricPair<CCTerm>, Literal[]> mExplanationCache;
+	private final ArrayList<ArrayList<SymmetricPair<CCTerm>>> mExplanationCacheLevels = new ArrayList<>();
+	/**
+	 * True if explanations should use the union-find based algorithm of Nieuwenhuis and Oliveras, which skips parts of
+	 * the proof forest that are already explained by the collected literals.
+	 */
+	private boolean mFewestLiterals;
+	/**
+	 * The number of explanations a congruence between two application terms is used in, before its congruence axiom
+	 * is added as a clause (dynamic Ackermannization). Zero if this is disabled.
+	 */
+	private int mAckermannThreshold;
+	/**
+	 * For each pair of congruent application terms the number of explanations it was used in. The counts are reset on
+	 * pop, since the terms and the clauses added for them may be removed.
+	 */
+	private final HashMap<SymmetricPair<CCAppTerm>, Integer> mCongruenceUses = new HashMap<>();
+	/**
+	 * The pairs of application terms that reached the threshold. Their axioms are added in the next checkpoint.
+	 */
+	private final ArrayList<SymmetricPair<CCAppTerm>> mPendingAckermann = new ArrayList<>();
+
 	private long mInvertEdgeTime, mEqTime, mCcTime, mSetRepTime;
 	private long mCcCount, mMergeCount;
+	private long mExplCacheHits, mExplCacheMisses;
+	private long mAckermannAxioms;
 
 	public CClosure(final Clausifier clausifier) {
 		mClausifier = clausifier;
@@ -176,6 +215,152 @@ public class CClosure implements ITheory {
 		return mClausifier.getLogger();
 	}
 
+	public void setExplanationCache(final boolean explanationCache) {
+		mExplanationCache = explanationCache ? new HashMap<>() : null;
+		mExplanationCacheLevels.clear();
+	}
+
+	public void setFewestLiterals(final boolean fewestLiterals) {
+		mFewestLiterals = fewestLiterals;
+	}
+
+	public void setAckermannThreshold(final int ackermannThreshold) {
+		mAckermannThreshold = ackermannThreshold;
+	}
+
+	boolean isFewestLiterals() {
+		return mFewestLiterals;
+	}
+
+	boolean isExplanationCacheEnabled() {
+		return mExplanationCache != null;
+	}
+
+	/**
+	 * Look up a cached explanation for the equality of two terms. The entry is only returned if all its literals are
+	 * still set and were set before the given stack position, since an explanation for a propagated literal may only
+	 * use literals that were set before it. Literals can be unset without backtracking their decide level, when only
+	 * a part of the conflict level is backtracked, so the entries are checked here.
+	 *
+	 * @param stackPosition
+	 *            the stack position of the explained literal, or Integer.MAX_VALUE when explaining a conflict.
+	 * @return the literals explaining the equality, or null if there is no usable cache entry.
+	 */
+	Literal[] getCachedExplanation(final SymmetricPair<CCTerm> pair, final int stackPosition) {
+		final Literal[] explanation = mExplanationCache.get(pair);
+		if (explanation == null) {
+			return null;
+		}
+		for (final Literal lit : explanation) {
+			if (lit.getAtom().getDecideStatus() != lit || lit.getAtom().getStackPosition() >= stackPosition) {
+				return null;
+			}
+		}
+		mExplCacheHits++;
+		return explanation;
+	}
+
+	/**
+	 * Remember the literals explaining the equality of two terms. The entry is removed when the highest decide level
+	 * of the literals is backtracked.
+	 */
+	void cacheExplanation(final SymmetricPair<CCTerm> pair, final Literal[] explanation) {
+		mExplCacheMisses++;
+		int level = 0;
+		for (final Literal lit : explanation) {
+			if (lit.getAtom().getDecideStatus() != lit) {
+				// not an explanation under the current assignment
+				return;
+			}
+			level = Math.max(level, lit.getAtom().getDecideLevel());
+		}
+		while (mExplanationCacheLevels.size() <= level) {
+			mExplanationCacheLevels.add(new ArrayList<>());
+		}
+		mExplanationCache.put(pair, explanation);
+		mExplanationCacheLevels.get(level).add(pair);
+	}
+
+	/**
+	 * Count the use of the congruence between two application terms in an explanation. The congruence axiom is added
+	 * in the next checkpoint when the count reaches the threshold.
+	 */
+	void countCongruence(final CCAppTerm lhs, final CCAppTerm rhs) {
+		if (mAckermannThreshold <= 0 || isProofGenerationEnabled()) {
+			return;
+		}
+		final SymmetricPair<CCAppTerm> pair = new SymmetricPair<>(lhs, rhs);
+		if (mCongruenceUses.merge(pair, 1, Integer::sum) == mAckermannThreshold) {
+			mPendingAckermann.add(pair);
+		}
+	}
+
+	/**
+	 * Add the congruence axioms {@code a1 != b1 \/ ... \/ an != bn \/ f(a1,...,an) = f(b1,...,bn)} for the pending
+	 * pairs of application terms as clauses, so that the DPLL engine can propagate and learn on them directly.
+	 */
+	private void addAckermannAxioms() {
+		for (final SymmetricPair<CCAppTerm> pair : mPendingAckermann) {
+			final LinkedHashSet<Literal> lits = new LinkedHashSet<>();
+			if (createAckermannLiterals(pair.getFirst(), pair.getSecond(), lits)) {
+				getLogger().debug("Ackermann axiom for %s: %s", pair, lits);
+				getEngine().addFormulaClause(lits.toArray(new Literal[lits.size()]), null);
+				mAckermannAxioms++;
+			}
+		}
+		mPendingAckermann.clear();
+	}
+
+	/**
+	 * Collect the literals of the congruence axiom for two application terms. Arguments that are equal in several
+	 * positions, like in {@code h(a,b)} and {@code h(b,a)}, give the same literal, which is only added once, since the
+	 * DPLL engine does not allow duplicate literals in a clause.
+	 *
+	 * @return false if the axiom is trivially true and should not be added.
+	 */
+	private boolean createAckermannLiterals(CCAppTerm lhs, CCAppTerm rhs, final Set<Literal> lits) {
+		final CCTerm lhsApp = lhs;
+		final CCTerm rhsApp = rhs;
+		if (lhsApp.getFlatTerm() == null || rhsApp.getFlatTerm() == null) {
+			return false;
+		}
+		while (true) {
+			if (lhs.mArg != rhs.mArg) {
+				if (lhs.mArg.getFlatTerm() == null || rhs.mArg.getFlatTerm() == null) {
+					return false;
+				}
+				final CCEquality eq = createEquality(lhs.mArg, rhs.mArg, false);
+				if (eq == null) {
+					return false;
+				}
+				lits.add(eq.negate());
+			}
+			/* partial function applications have no equality edges, so their func parts are equal or congruent */
+			if (lhs.mFunc == rhs.mFunc) {
+				break;
+			}
+			lhs = (CCAppTerm) lhs.mFunc;
+			rhs = (CCAppTerm) rhs.mFunc;
+		}
+		final CCEquality eq = createEquality(lhsApp, rhsApp, false);
+		if (eq == null || lits.contains(eq.negate())) {
+			return false;
+		}
+		lits.add(eq);
+		return true;
+	}
+
+	private void backtrackExplanationCache(final int decideLevel) {
+		if (mExplanationCache == null) {
+			return;
+		}
+		while (mExplanationCacheLevels.size() > decideLevel + 1) {
+			for (final SymmetricPair<CCTerm> pair : mExplanationCacheLevels.remove(mExplanationCacheLevels.size() - 1)) {
+				mExplanationCache.remove(pair);
+			}
+		}
+	}
+
 	public boolean isProofGenerationEnabled() {
 		return getEngine().isProofGenerationEnabled();
 	}
@@ -306,6 +491,7 @@ public class CClosure implements ITheory {
 		}
 		mAllTerms.add(term);
 		term.addParentInfo(this);
+		mSignatures.register(term);
 		final CCAppTerm congruentTerm = findCongruentAppTerm(func, arg);
 		getLogger().debug("createAppTerm %s congruent: %s", term, congruentTerm);
 		if (congruentTerm != null) {
@@ -837,7 +1023,7 @@ public class CClosure implements ITheory {
 			throw new AssertionError("Cannot find explanation for " + laeq);
 		} else if (lit instanceof CCEquality) {
 			final CCEquality eq = (CCEquality) lit;
-			return computeCycle(eq);
+			return computeCycle(eq, eq);
 		} else {
 			/* ComputeAntiCycle */
 			final CCEquality eq = (CCEquality) lit.negate();
@@ -855,9 +1041,10 @@ public class CClosure implements ITheory {
 	 * CCTerm.mergeInternal.
 	 *
 	 * @param oldRep the old representative (of the smaller class) that was merged.
+	 * @param src the representative of the class that was merged into the other class.
 	 */
-	void recordMerge(final CCTerm oldRep) {
-		mUndoStack.push(new MergeUndoInfo(oldRep));
+	void recordMerge(final CCTerm oldRep, final CCTerm src) {
+		mUndoStack.push(new MergeUndoInfo(oldRep, src));
 	}
 
 	/**
@@ -870,6 +1057,48 @@ public class CClosure implements ITheory {
 		return mUndoStack.size();
 	}
 
+	/**
+	 * Get the top element of the undo stack. Together with the merge depth it identifies the current state of the
+	 * congruence classes: if the same element is still on the stack at the same depth, none of the merges before it
+	 * were undone.
+	 *
+	 * @return an opaque marker for the current undo stack.
+	 */
+	Object getUndoMarker() {
+		return mUndoStack.peek();
+	}
+
+	/**
+	 * Check if the congruence classes with the given representatives were left untouched since the undo stack had the
+	 * given depth and top element. Separations and merges of two classes that are both not in {@code reps} are
+	 * ignored.
+	 *
+	 * @param depth
+	 *            the merge depth returned by {@link #getMergeDepth()}.
+	 * @param marker
+	 *            the marker returned by {@link #getUndoMarker()} at the same time.
+	 * @param reps
+	 *            the representatives of the classes to check.
+	 * @return true if no merge was undone since then and no class in {@code reps} was merged since then.
+	 */
+	boolean isUntouchedSince(final int depth, final Object marker, final Set<CCTerm> reps) {
+		int newEntries = mUndoStack.size() - depth;
+		if (newEntries < 0) {
+			return false;
+		}
+		final Iterator<UndoInfo> it = mUndoStack.iterator();
+		while (newEntries-- > 0) {
+			final UndoInfo top = it.next();
+			if (top instanceof MergeUndoInfo) {
+				final CCTerm src = ((MergeUndoInfo) top).getMergedRep();
+				if (reps.contains(src) || reps.contains(src.mRep)) {
+					return false;
+				}
+			}
+		}
+		return (it.hasNext() ? it.next() : null) == marker;
+	}
+
 	@Override
 	public Clause setLiteral(final Literal literal) {
 		if (!(literal.getAtom() instanceof CCEquality)) {
@@ -954,7 +1183,20 @@ public class CClosure implements ITheory {
 	}
 
 	public Clause computeCycle(final CCEquality eq) {
+		return computeCycle(eq, null);
+	}
+
+	/**
+	 * Compute the clause explaining the equality eq by the path between its sides.
+	 *
+	 * @param explained
+	 *            the propagated literal that the clause explains, or null if the clause is a conflict.
+	 */
+	private Clause computeCycle(final CCEquality eq, final Literal explained) {
 		final CongruencePath congPath = new CongruencePath(this);
+		if (explained != null) {
+			congPath.setExplainedLiteral(explained);
+		}
 		final Clause res = congPath.computeCycle(eq, isProofGenerationEnabled());
 		assert (res.getSize() != 2 || res.getLiteral(0).negate() != res.getLiteral(1));
 		return res;
@@ -978,7 +1220,7 @@ public class CClosure implements ITheory {
 		left.mOldRep = left.mRepStar;
 		assert left.mOldRep.mReasonLiteral == null;
 		left.mOldRep.mReasonLiteral = eq;
-		final Clause c = computeCycle(diseq);
+		final Clause c = computeCycle(diseq, eq.negate());
 		assert left.mEqualEdge == right && left.mOldRep == left.mRepStar;
 		left.mOldRep.mReasonLiteral = null;
 		left.mOldRep = null;
@@ -1034,7 +1276,11 @@ public class CClosure implements ITheory {
 
 	@Override
 	public Clause checkpoint() {
-		return buildCongruence();
+		final Clause conflict = buildCongruence();
+		if (conflict == null && !mPendingAckermann.isEmpty()) {
+			addAckermannAxioms();
+		}
+		return conflict;
 	}
 
 	public CCEquality createEquality(final CCTerm t1, final CCTerm t2, final boolean createLAEquality) {
@@ -1107,6 +1353,12 @@ public class CClosure implements ITheory {
 	public void printStatistics(final LogProxy logger) {
 		logger.info("CCTimes: iE " + mInvertEdgeTime + " eq " + mEqTime + " cc " + mCcTime + " setRep " + mSetRepTime);
 		logger.info("Merges: " + mMergeCount + ", cc:" + mCcCount);
+		if (mExplanationCache != null) {
+			logger.info("Explanation cache hits: " + mExplCacheHits + ", misses: " + mExplCacheMisses);
+		}
+		if (mAckermannThreshold > 0) {
+			logger.info("Ackermann axioms: " + mAckermannAxioms + ", counted congruences: " + mCongruenceUses.size());
+		}
 	}
 
 	@Override
@@ -1120,6 +1372,7 @@ public class CClosure implements ITheory {
 		final int mergeStackLevel = mDecideLevelToUndoStackSize.pop();
 		assert mDecideLevelToUndoStackSize.size() == currentDecideLevel;
 		backtrackStack(mergeStackLevel);
+		backtrackExplanationCache(currentDecideLevel);
 	}
 
 	@Override
@@ -1324,6 +1577,7 @@ public class CClosure implements ITheory {
 		}
 		if (t instanceof CCAppTerm) {
 			final CCAppTerm at = (CCAppTerm) t;
+			mSignatures.unregister(at);
 			at.unlinkParentInfos();
 		}
 	}
@@ -1336,6 +1590,7 @@ public class CClosure implements ITheory {
 		mRecheckOnBacktrackCongs.clear();
 		mRecheckOnBacktrackLits.clear();
 		mPendingCongruences.clear();
+		backtrackExplanationCache(-1);
 	}
 
 	@Override
@@ -1345,6 +1600,8 @@ public class CClosure implements ITheory {
 		assert mRecheckOnBacktrackCongs.isEmpty();
 		assert mRecheckOnBacktrackLits.isEmpty();
 		assert mPendingCongruences.isEmpty();
+		mCongruenceUses.clear();
+		mPendingAckermann.clear();
 		mNumFunctionPositions = mNumFunctionPositionsStack.remove(mNumFunctionPositionsStack.size() - 1);
 		for (final CCTerm t : mAllTerms.currentScope()) {
 			removeTerm(t);
@@ -1364,6 +1621,8 @@ public class CClosure implements ITheory {
 	public Object[] getStatistics() {
 		return new Object[] { ":CC",
 				new Object[][] { { "Merges", mMergeCount }, { "Closure", mCcCount },
+						{ "ExplCacheHits", mExplCacheHits }, { "ExplCacheMisses", mExplCacheMisses },
+						{ "AckermannAxioms", mAckermannAxioms },
 						{ "Times", new Object[][] { { "Invert", mInvertEdgeTime }, { "Eq", mEqTime },
 								{ "Closure", mCcTime }, { "SetRep", mSetRepTime } } } } };
 	}
@@ -1403,14 +1662,20 @@ public class CClosure implements ITheory {
 
 	private static class MergeUndoInfo extends UndoInfo {
 		final CCTerm mOldRep;
+		final CCTerm mMergedRep;
 
-		public MergeUndoInfo(final CCTerm oldRep) {
+		public MergeUndoInfo(final CCTerm oldRep, final CCTerm mergedRep) {
 			mOldRep = oldRep;
+			mMergedRep = mergedRep;
 		}
 
 		public CCTerm getOldRep() {
 			return mOldRep;
 		}
+
+		public CCTerm getMergedRep() {
+			return mMergedRep;
+		}
 	}
 
 	private static class SepUndoInfo extends UndoInfo {
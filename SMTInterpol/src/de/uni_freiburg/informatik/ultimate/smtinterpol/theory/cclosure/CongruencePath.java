@@ -20,6 +20,7 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -106,6 +107,21 @@ public class CongruencePath {
 	final ArrayDeque<SubPath> mAllPaths;
 	final ArrayDeque<SymmetricPair<CCTerm>> mTodo;
 	final Set<Literal> mAllLiterals;
+	/**
+	 * The union-find for the fewest literals mode. It maps a term to a higher term on its path to the root of the proof
+	 * forest, such that all equality edges in between are already explained. Terms that are not in the map are their
+	 * own highest node.
+	 */
+	private HashMap<CCTerm, CCTerm> mExplainedUpTo;
+	/// The depth of terms in the proof forest, for the fewest literals mode.
+	private HashMap<CCTerm, Integer> mDepths;
+	/// True if the congruences on the path are counted for dynamic Ackermannization.
+	private boolean mCountCongruences = true;
+	/**
+	 * The stack position of the literal that is explained by a unit clause. Cached explanations are only used if all
+	 * their literals were set before this position. Integer.MAX_VALUE when explaining a conflict.
+	 */
+	private int mExplainedPosition = Integer.MAX_VALUE;
 
 	public CongruencePath(final CClosure closure) {
 		mClosure = closure;
@@ -115,6 +131,17 @@ public class CongruencePath {
 		mAllPaths = new ArrayDeque<>();
 	}
 
+	/**
+	 * Restrict the explanation to literals that were set before the given literal, since it is the unit clause for
+	 * the literal. Without this, a cached explanation may contain literals that were set later.
+	 *
+	 * @param explained
+	 *            the propagated literal that is explained.
+	 */
+	public void setExplainedLiteral(final Literal explained) {
+		mExplainedPosition = explained.getAtom().getStackPosition();
+	}
+
 	private CCAnnotation createAnnotation(final SymmetricPair<CCTerm> diseq) {
 		return new CCAnnotation(diseq, mAllPaths, CCAnnotation.RuleKind.CC);
 	}
@@ -149,6 +176,9 @@ public class CongruencePath {
 	 * @param end the other function application term.
 	 */
 	private void computeCCPath(CCAppTerm start, CCAppTerm end) {
+		if (mCountCongruences) {
+			mClosure.countCongruence(start, end);
+		}
 		while (true) {
 			/* Compute path and interpolation info for func and arg */
 			mTodo.addFirst(new SymmetricPair<>(start.mArg, end.mArg));
@@ -299,6 +329,42 @@ public class CongruencePath {
 	 *            the right end of the congruence chain that should be evaluated.
 	 */
 	public void computePath(final CCTerm left, final CCTerm right) {
+		if (left == right) {
+			return;
+		}
+		if (mClosure.isProofGenerationEnabled()
+				|| !mClosure.isExplanationCacheEnabled() && !mClosure.isFewestLiterals()) {
+			computePathUncached(left, right);
+			return;
+		}
+		if (mClosure.isExplanationCacheEnabled()) {
+			final SymmetricPair<CCTerm> key = new SymmetricPair<>(left, right);
+			Literal[] explanation = mClosure.getCachedExplanation(key, mExplainedPosition);
+			if (explanation == null) {
+				// explain the pair on its own, since our visited pairs are not part of its literals
+				final CongruencePath single = new CongruencePath(mClosure);
+				single.mExplainedPosition = mExplainedPosition;
+				single.explainWithoutProof(left, right);
+				explanation = single.mAllLiterals.toArray(new Literal[single.mAllLiterals.size()]);
+				mClosure.cacheExplanation(key, explanation);
+			}
+			Collections.addAll(mAllLiterals, explanation);
+		} else {
+			explainWithoutProof(left, right);
+		}
+		// callers expect the path for left and right on top of mAllPaths; without proofs it is empty.
+		mAllPaths.addFirst(new SubPath(left, false));
+	}
+
+	private void explainWithoutProof(final CCTerm left, final CCTerm right) {
+		if (mClosure.isFewestLiterals()) {
+			explainFewestLiterals(left, right);
+		} else {
+			computePathUncached(left, right);
+		}
+	}
+
+	private void computePathUncached(final CCTerm left, final CCTerm right) {
 		final HashSet<SymmetricPair<CCTerm>> added = new HashSet<>();
 		mTodo.add(new SymmetricPair<>(left, right));
 		while (!mTodo.isEmpty()) {
@@ -312,6 +378,9 @@ public class CongruencePath {
 			// check if we already visited this path
 			final SubPath path = mVisited.get(pathEnds);
 			if (path == null) {
+				if (addCachedExplanation(pathEnds)) {
+					continue;
+				}
 				// if we did not visit it yet, enqueue again for later and visit the path
 				mTodo.addFirst(pathEnds);
 				computePathNonRecursive(pathEnds.getFirst(), pathEnds.getSecond());
@@ -324,6 +393,132 @@ public class CongruencePath {
 		}
 	}
 
+	/**
+	 * Add the literals of a cached explanation for the given pair, if the cache is enabled and has an entry.
+	 *
+	 * @return true if the literals were added.
+	 */
+	private boolean addCachedExplanation(final SymmetricPair<CCTerm> pair) {
+		if (mClosure.isProofGenerationEnabled() || !mClosure.isExplanationCacheEnabled()) {
+			return false;
+		}
+		final Literal[] explanation = mClosure.getCachedExplanation(pair, mExplainedPosition);
+		if (explanation == null) {
+			return false;
+		}
+		Collections.addAll(mAllLiterals, explanation);
+		return true;
+	}
+
+	/**
+	 * Explain the equality of left and right with the algorithm of Nieuwenhuis and Oliveras. Every equality edge of the
+	 * proof forest that is explained is merged in a union-find structure, so later paths jump over the edges that are
+	 * already explained by the collected literals. For a congruence edge, the arguments are explained in turn. Their
+	 * paths only use edges that are older than the congruence edge, so this never jumps over an edge whose explanation
+	 * depends on the pair being explained. This does not collect the sub paths needed for proof production.
+	 *
+	 * @param left
+	 *            the left end of the equality.
+	 * @param right
+	 *            the right end of the equality.
+	 */
+	private void explainFewestLiterals(final CCTerm left, final CCTerm right) {
+		if (mExplainedUpTo == null) {
+			mExplainedUpTo = new HashMap<>();
+			mDepths = new HashMap<>();
+		}
+		mTodo.add(new SymmetricPair<>(left, right));
+		while (!mTodo.isEmpty()) {
+			final SymmetricPair<CCTerm> pair = mTodo.removeFirst();
+			final CCTerm first = pair.getFirst();
+			final CCTerm second = pair.getSecond();
+			if (first == second || addCachedExplanation(pair)) {
+				continue;
+			}
+			// find the nearest common ancestor in the proof forest
+			int firstDepth = getDepth(first);
+			int secondDepth = getDepth(second);
+			CCTerm ancestor1 = first;
+			CCTerm ancestor2 = second;
+			while (firstDepth > secondDepth) {
+				ancestor1 = ancestor1.mEqualEdge;
+				firstDepth--;
+			}
+			while (secondDepth > firstDepth) {
+				ancestor2 = ancestor2.mEqualEdge;
+				secondDepth--;
+			}
+			while (ancestor1 != ancestor2) {
+				ancestor1 = ancestor1.mEqualEdge;
+				ancestor2 = ancestor2.mEqualEdge;
+				firstDepth--;
+			}
+			explainAlongPath(first, ancestor1, firstDepth);
+			explainAlongPath(second, ancestor1, firstDepth);
+		}
+	}
+
+	/**
+	 * Explain the equality edges from a term up to its ancestor in the proof forest, skipping the edges that are already
+	 * explained.
+	 *
+	 * @param term
+	 *            the start of the path.
+	 * @param ancestor
+	 *            the end of the path; an ancestor of term.
+	 * @param ancestorDepth
+	 *            the depth of ancestor.
+	 */
+	private void explainAlongPath(final CCTerm term, final CCTerm ancestor, final int ancestorDepth) {
+		CCTerm node = findHighestNode(term);
+		while (getDepth(node) > ancestorDepth) {
+			final CCTerm parent = node.mEqualEdge;
+			final CCEquality reason = node.mOldRep.mReasonLiteral;
+			if (reason != null) {
+				mAllLiterals.add(reason);
+			} else {
+				computeCCPath((CCAppTerm) node, (CCAppTerm) parent);
+			}
+			mExplainedUpTo.put(node, parent);
+			node = findHighestNode(parent);
+		}
+	}
+
+	private CCTerm findHighestNode(final CCTerm term) {
+		CCTerm node = term;
+		CCTerm next;
+		while ((next = mExplainedUpTo.get(node)) != null) {
+			node = next;
+		}
+		// path compression
+		CCTerm compress = term;
+		while (compress != node) {
+			next = mExplainedUpTo.get(compress);
+			mExplainedUpTo.put(compress, node);
+			compress = next;
+		}
+		return node;
+	}
+
+	private int getDepth(final CCTerm term) {
+		// walk up until we find a term with known depth or the root, then fill in the depths on the way back.
+		final ArrayList<CCTerm> path = new ArrayList<>();
+		CCTerm node = term;
+		Integer depth;
+		while ((depth = mDepths.get(node)) == null && node.mEqualEdge != null) {
+			path.add(node);
+			node = node.mEqualEdge;
+		}
+		int result = depth == null ? 0 : depth;
+		if (depth == null) {
+			mDepths.put(node, 0);
+		}
+		for (int i = path.size() - 1; i >= 0; i--) {
+			mDepths.put(path.get(i), ++result);
+		}
+		return result;
+	}
+
 	public Clause computeCycle(final CCEquality eq, final boolean produceProofs) {
 		final CCTerm lhs = eq.getLhs();
 		final CCTerm rhs = eq.getRhs();
@@ -391,6 +586,8 @@ public class CongruencePath {
 	 * @return the earliest decide level.
 	 */
 	public int computeDecideLevel(final CCTerm lhs, final CCTerm rhs) {
+		// this is not an explanation, so it does not count for dynamic Ackermannization
+		mCountCongruences = false;
 		computePath(lhs, rhs);
 		int depth = 0;
 		for (final Literal l : mAllLiterals) {
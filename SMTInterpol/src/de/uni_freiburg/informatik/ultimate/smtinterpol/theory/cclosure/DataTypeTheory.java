@@ -479,6 +479,7 @@ public class DataTypeTheory implements ITheory {
 		final DataTypeLemma lemma = mEqualityReasons.get(new SymmetricPair<>(eq.getLhs(), eq.getRhs()));
 		final boolean isProofEnabled = mClausifier.getEngine().isProofGenerationEnabled();
 		final CongruencePath cp = new CongruencePath(mCClosure);
+		cp.setExplainedLiteral(literal);
 		return cp.computeDTLemma(eq, lemma, isProofEnabled);
 	}
 
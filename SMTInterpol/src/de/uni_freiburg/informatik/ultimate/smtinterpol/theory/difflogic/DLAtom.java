@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.difflogic;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.convert.SMTAffineTerm;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLAtom;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LAEquality;
+import de.uni_freiburg.informatik.ultimate.util.HashUtils;
+
+/**
+ * An atom of the difference logic solver. It is either the bound x - y <= c or the equality x - y = c. Either x or y
+ * may be the zero node.
+ *
+ * <p>
+ * The bound activates the edge from y to x with weight c if it is true and the edge from x to y with weight -c-1
+ * (integers) or -c-epsilon (reals) if it is false. The equality activates the edges from y to x with weight c and
+ * from x to y with weight -c if it is true. If it is false, it is a disequality that is checked in the final check.
+ */
+public class DLAtom extends DPLLAtom {
+	final DLNode mTarget;
+	final DLNode mSource;
+	final Rational mBound;
+	final boolean mIsEquality;
+	final boolean mIsInt;
+	/** The edges activated by the atom. */
+	final DLEdge[] mEdges;
+	/** The edge activated by the negated atom, null for equalities. */
+	final DLEdge mNegatedEdge;
+
+	public DLAtom(final DLNode target, final DLNode source, final Rational bound, final boolean isEquality,
+			final boolean isInt, final int assertionstacklevel) {
+		super(HashUtils.hashJenkins(target.hashCode(), source, bound), assertionstacklevel);
+		assert target != source;
+		assert !isInt || bound.isIntegral();
+		mTarget = target;
+		mSource = source;
+		mBound = bound;
+		mIsEquality = isEquality;
+		mIsInt = isInt;
+		final DLEdge upper = new DLEdge(source, target, bound, 0, this);
+		if (isEquality) {
+			mEdges = new DLEdge[] { upper, new DLEdge(target, source, bound.negate(), 0, this) };
+			mNegatedEdge = null;
+		} else {
+			mEdges = new DLEdge[] { upper };
+			mNegatedEdge = isInt ? new DLEdge(target, source, bound.negate().sub(Rational.ONE), 0, negate())
+					: new DLEdge(target, source, bound.negate(), -1, negate());
+		}
+	}
+
+	public DLNode getTarget() {
+		return mTarget;
+	}
+
+	public DLNode getSource() {
+		return mSource;
+	}
+
+	public Rational getBound() {
+		return mBound;
+	}
+
+	public boolean isEquality() {
+		return mIsEquality;
+	}
+
+	@Override
+	public Term getSMTFormula(final Theory smtTheory, final boolean quoted) {
+		final Sort sort = smtTheory.getSort(mIsInt ? "Int" : "Real");
+		final SMTAffineTerm diff = new SMTAffineTerm();
+		if (!mTarget.isZero()) {
+			diff.add(Rational.ONE, mTarget.getTerm());
+		}
+		if (!mSource.isZero()) {
+			diff.add(Rational.MONE, mSource.getTerm());
+		}
+		diff.add(mBound.negate());
+		final Term res = smtTheory.term(mIsEquality ? "=" : "<=", diff.toTerm(sort), Rational.ZERO.toTerm(sort));
+		return quoted ? smtTheory.annotatedTerm(LAEquality.QUOTED_LA, res) : res;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + hashCode() + "]" + mTarget + " - " + mSource + (mIsEquality ? " = " : " <= ") + mBound;
+	}
+
+	@Override
+	public String toStringNegated() {
+		return "[" + hashCode() + "]" + mTarget + " - " + mSource + (mIsEquality ? " != " : " > ") + mBound;
+	}
+}
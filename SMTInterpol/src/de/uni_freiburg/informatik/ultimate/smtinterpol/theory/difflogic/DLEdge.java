@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.difflogic;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Literal;
+
+/**
+ * An edge of the constraint graph. The edge from u to v with weight w stands for the constraint v - u <= w. The weight
+ * is a rational plus a multiple of an infinitesimal epsilon. The epsilon part is not normalized, since the sum of
+ * several strict edges must stay strict.
+ */
+public class DLEdge {
+	final DLNode mFrom;
+	final DLNode mTo;
+	final Rational mWeight;
+	final int mWeightEps;
+	/** The literal that activates this edge. */
+	final Literal mLiteral;
+	/** True if the edge is currently part of the graph. */
+	boolean mActive;
+	/** The position in the atom edge list of the target node, or -1 if the atom of this edge is decided. */
+	int mAtomEdgePos = -1;
+
+	public DLEdge(final DLNode from, final DLNode to, final Rational weight, final int weightEps,
+			final Literal literal) {
+		mFrom = from;
+		mTo = to;
+		mWeight = weight;
+		mWeightEps = weightEps;
+		mLiteral = literal;
+	}
+
+	@Override
+	public String toString() {
+		return mTo + " - " + mFrom + " <= " + mWeight + (mWeightEps == 0 ? "" : " + " + mWeightEps + "eps");
+	}
+}
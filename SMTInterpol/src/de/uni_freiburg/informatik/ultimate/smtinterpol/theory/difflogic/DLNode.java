@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.difflogic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+
+/**
+ * A node of the constraint graph of the difference logic solver. Every node stands for a numeric term. The special
+ * zero node stands for the constant 0 and is used for constraints on a single term.
+ *
+ * <p>
+ * The potential of the nodes is a feasible assignment for the active edges: for every active edge from u to v with
+ * weight w we have potential(v) - potential(u) <= w. Potentials are pairs of a rational and a multiple of an
+ * infinitesimal epsilon.
+ */
+public class DLNode {
+	/** The term this node stands for, or null for the zero node. */
+	final Term mTerm;
+	final int mIndex;
+
+	Rational mPotential = Rational.ZERO;
+	int mPotentialEps;
+
+	/** The active edges starting and ending in this node. */
+	final ArrayList<DLEdge> mOutgoing = new ArrayList<>();
+	final ArrayList<DLEdge> mIncoming = new ArrayList<>();
+	/**
+	 * The edges of undecided atoms that end in this node. They are used to find candidates for theory propagation.
+	 */
+	final ArrayList<DLEdge> mAtomEdges = new ArrayList<>();
+	/**
+	 * The atoms this - other <= c and this - other = c indexed by the other node and the constant c. Equalities are
+	 * stored at both nodes.
+	 */
+	final HashMap<DLNode, HashMap<Rational, DLAtom>> mBoundAtoms = new HashMap<>();
+	final HashMap<DLNode, HashMap<Rational, DLAtom>> mEqualityAtoms = new HashMap<>();
+
+	/**
+	 * Scratch fields for the shortest path searches. The forward fields are also used by the negative cycle detection.
+	 * A field is only valid if the corresponding stamp matches the stamp of the current search.
+	 */
+	Rational mDist;
+	int mDistEps;
+	DLEdge mPred;
+	int mStamp;
+	boolean mSettled;
+	Rational mBackDist;
+	int mBackDistEps;
+	DLEdge mBackPred;
+	int mBackStamp;
+	boolean mBackSettled;
+	int mHeapPos = -1;
+
+	public DLNode(final Term term, final int index) {
+		mTerm = term;
+		mIndex = index;
+	}
+
+	public Term getTerm() {
+		return mTerm;
+	}
+
+	public boolean isZero() {
+		return mTerm == null;
+	}
+
+	@Override
+	public String toString() {
+		return mTerm == null ? "0" : mTerm.toString();
+	}
+}
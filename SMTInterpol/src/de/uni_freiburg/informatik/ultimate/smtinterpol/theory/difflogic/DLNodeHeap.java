@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.difflogic;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of nodes for the shortest path searches. The key is either the forward or the backward distance
+ * of the node. The position of a node in the heap is stored in the node to support decreasing its key.
+ */
+class DLNodeHeap {
+	private DLNode[] mHeap = new DLNode[16];
+	private int mSize;
+	private boolean mBackward;
+
+	/**
+	 * Empty the heap and choose the key for the next search.
+	 *
+	 * @param backward
+	 *            true if the heap is ordered by the backward distance.
+	 */
+	void reset(final boolean backward) {
+		for (int i = 0; i < mSize; i++) {
+			mHeap[i].mHeapPos = -1;
+			mHeap[i] = null;
+		}
+		mSize = 0;
+		mBackward = backward;
+	}
+
+	boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	boolean contains(final DLNode node) {
+		return node.mHeapPos >= 0;
+	}
+
+	void add(final DLNode node) {
+		if (mSize == mHeap.length) {
+			mHeap = Arrays.copyOf(mHeap, 2 * mSize);
+		}
+		mHeap[mSize] = node;
+		node.mHeapPos = mSize++;
+		siftUp(node);
+	}
+
+	/**
+	 * Restore the heap order after the key of a node in the heap decreased.
+	 */
+	void decreased(final DLNode node) {
+		siftUp(node);
+	}
+
+	DLNode poll() {
+		final DLNode top = mHeap[0];
+		top.mHeapPos = -1;
+		final DLNode last = mHeap[--mSize];
+		mHeap[mSize] = null;
+		if (mSize > 0) {
+			mHeap[0] = last;
+			last.mHeapPos = 0;
+			siftDown(last);
+		}
+		return top;
+	}
+
+	private boolean less(final DLNode first, final DLNode second) {
+		return mBackward
+				? DifferenceLogicSolver.compare(first.mBackDist, first.mBackDistEps, second.mBackDist,
+						second.mBackDistEps) < 0
+				: DifferenceLogicSolver.compare(first.mDist, first.mDistEps, second.mDist, second.mDistEps) < 0;
+	}
+
+	private void siftUp(final DLNode node) {
+		int pos = node.mHeapPos;
+		while (pos > 0) {
+			final int parentPos = (pos - 1) / 2;
+			final DLNode parent = mHeap[parentPos];
+			if (!less(node, parent)) {
+				break;
+			}
+			mHeap[pos] = parent;
+			parent.mHeapPos = pos;
+			pos = parentPos;
+		}
+		mHeap[pos] = node;
+		node.mHeapPos = pos;
+	}
+
+	private void siftDown(final DLNode node) {
+		int pos = node.mHeapPos;
+		while (true) {
+			int childPos = 2 * pos + 1;
+			if (childPos >= mSize) {
+				break;
+			}
+			if (childPos + 1 < mSize && less(mHeap[childPos + 1], mHeap[childPos])) {
+				childPos++;
+			}
+			final DLNode child = mHeap[childPos];
+			if (!less(child, node)) {
+				break;
+			}
+			mHeap[pos] = child;
+			child.mHeapPos = pos;
+			pos = childPos;
+		}
+		mHeap[pos] = node;
+		node.mHeapPos = pos;
+	}
+}
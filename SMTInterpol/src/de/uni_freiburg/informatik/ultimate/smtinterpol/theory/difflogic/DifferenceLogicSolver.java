@@ -0,0 +1,844 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.difflogic;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import de.uni_freiburg.informatik.ultimate.logic.ApplicationTerm;
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.LogProxy;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.convert.Clausifier;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.convert.SMTAffineTerm;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLAtom;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.ITheory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Literal;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.model.Model;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.model.NumericSortInterpretation;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.util.ScopedArrayList;
+import de.uni_freiburg.informatik.ultimate.util.datastructures.ScopedHashMap;
+
+/**
+ * A theory solver for difference logic. The atoms are bounds x - y <= c and equalities x - y = c. The solver keeps a
+ * graph with an edge for every asserted bound and a feasible potential for its nodes.
+ *
+ * <p>
+ * The consistency check is the incremental negative cycle detection by Cotton and Maler: when an edge violates the
+ * potential, a Dijkstra search on the reduced costs repairs the potential of the nodes reachable from its target. If
+ * the search reaches the source of the edge, the edge closes a negative cycle, and the negated literals of the cycle
+ * are the conflict. Removing edges keeps the potential feasible, so backtracking is free.
+ *
+ * <p>
+ * After adding an edge, a bounded search forward from its target and backward from its source finds atoms implied by
+ * a path over the new edge. Disequalities are checked in the final check by splitting them into two strict bounds.
+ */
+public class DifferenceLogicSolver implements ITheory {
+	private final Clausifier mClausifier;
+	private final LogProxy mLogger;
+
+	private final ScopedArrayList<DLNode> mNodes = new ScopedArrayList<>();
+	private final ScopedHashMap<Term, DLNode> mTermNodes = new ScopedHashMap<>();
+	/** The node for the constant 0. */
+	private final DLNode mZero;
+
+	/** The literals implied by the graph and their explanations. */
+	private final ArrayDeque<Literal> mProplist = new ArrayDeque<>();
+	private final HashMap<Literal, Literal[]> mPropReasons = new HashMap<>();
+	private final ArrayDeque<Literal> mSuggestions = new ArrayDeque<>();
+	/** The equality atoms that are currently false. */
+	private final ArrayList<DLAtom> mDisequalities = new ArrayList<>();
+
+	private final DLNodeHeap mHeap = new DLNodeHeap();
+	private final ArrayList<DLNode> mSettled = new ArrayList<>();
+	private final ArrayList<DLNode> mBackSettled = new ArrayList<>();
+	private int mStamp;
+	/** The value of the infinitesimal epsilon in the model. */
+	private Rational mModelEps = Rational.ONE;
+
+	private int mNumConflicts;
+	private int mNumPropagations;
+	private int mNumSplits;
+	private long mCheckTime;
+	private long mPropTime;
+
+	public DifferenceLogicSolver(final Clausifier clausifier) {
+		mClausifier = clausifier;
+		mLogger = clausifier.getLogger();
+		mZero = new DLNode(null, 0);
+		mNodes.add(mZero);
+	}
+
+	DPLLEngine getEngine() {
+		return mClausifier.getEngine();
+	}
+
+	/**
+	 * Compare two numbers given by a rational and a multiple of epsilon.
+	 */
+	static int compare(final Rational real1, final int eps1, final Rational real2, final int eps2) {
+		final int cmp = real1.compareTo(real2);
+		return cmp != 0 ? cmp : Integer.compare(eps1, eps2);
+	}
+
+	private DLNode getNode(final Term term) {
+		DLNode node = mTermNodes.get(term);
+		if (node == null) {
+			node = new DLNode(term, mNodes.size());
+			mNodes.add(node);
+			mTermNodes.put(term, node);
+		}
+		return node;
+	}
+
+	/**
+	 * Check if an affine term is a difference, i.e., it has the form a*x - a*y + c or +-a*x + c. Only constraints on
+	 * differences can be handled by this solver.
+	 *
+	 * @param affine
+	 *            the affine term.
+	 * @return true if the term is a difference.
+	 */
+	public static boolean isDifference(final SMTAffineTerm affine) {
+		final Map<Term, Rational> summands = affine.getSummands();
+		if (summands.size() != 2) {
+			return summands.size() == 1;
+		}
+		final Iterator<Rational> it = summands.values().iterator();
+		return it.next().negate().equals(it.next());
+	}
+
+	/**
+	 * Split an affine term into the nodes of a difference. The term must have the form a*x - a*y + c or +-a*x + c.
+	 *
+	 * @return the target node x, the source node y and the coefficient a. Missing nodes are the zero node.
+	 */
+	private Object[] splitDifference(final SMTAffineTerm affine) {
+		DLNode target = mZero;
+		DLNode source = mZero;
+		Rational coeff = null;
+		for (final Map.Entry<Term, Rational> summand : affine.getSummands().entrySet()) {
+			final Rational factor = summand.getValue();
+			if (coeff == null) {
+				coeff = factor.abs();
+			} else if (!factor.abs().equals(coeff)) {
+				throw new UnsupportedOperationException("Unsupported non-difference arithmetic: " + affine);
+			}
+			if (factor.signum() > 0 && target == mZero) {
+				target = getNode(summand.getKey());
+			} else if (factor.signum() < 0 && source == mZero) {
+				source = getNode(summand.getKey());
+			} else {
+				throw new UnsupportedOperationException("Unsupported non-difference arithmetic: " + affine);
+			}
+		}
+		assert coeff != null : "Constant difference constraint";
+		return new Object[] { target, source, coeff };
+	}
+
+	/**
+	 * Create the literal for (<= sum 0).
+	 *
+	 * @param sum
+	 *            an affine term with at most two summands whose coefficients only differ in their sign.
+	 * @return the literal for the constraint.
+	 */
+	public Literal createLeq0(final SMTAffineTerm sum) {
+		final Object[] diff = splitDifference(sum);
+		final boolean isInt = sum.isAllIntSummands();
+		Rational bound = sum.getConstant().negate().div((Rational) diff[2]);
+		if (isInt) {
+			bound = bound.floor();
+		}
+		return getBoundLiteral((DLNode) diff[0], (DLNode) diff[1], bound, isInt);
+	}
+
+	/**
+	 * Create the atom for (= diff 0).
+	 *
+	 * @param diff
+	 *            an affine term with at most two summands whose coefficients only differ in their sign.
+	 * @return the equality atom.
+	 */
+	public DLAtom createEquality(final SMTAffineTerm diff) {
+		final Object[] split = splitDifference(diff);
+		final DLNode target = (DLNode) split[0];
+		final DLNode source = (DLNode) split[1];
+		final boolean isInt = diff.isAllIntSummands();
+		final Rational bound = diff.getConstant().negate().div((Rational) split[2]);
+		final HashMap<Rational, DLAtom> atoms = target.mEqualityAtoms.get(source);
+		DLAtom atom = atoms == null ? null : atoms.get(bound);
+		if (atom == null) {
+			atom = new DLAtom(target, source, bound, true, isInt, mClausifier.getStackLevel());
+			registerAtom(atom);
+		}
+		return atom;
+	}
+
+	/**
+	 * Get the literal for target - source <= bound. For integers this reuses the negation of source - target <=
+	 * -bound-1 if it exists.
+	 */
+	private Literal getBoundLiteral(final DLNode target, final DLNode source, final Rational bound,
+			final boolean isInt) {
+		HashMap<Rational, DLAtom> atoms = target.mBoundAtoms.get(source);
+		if (atoms != null && atoms.containsKey(bound)) {
+			return atoms.get(bound);
+		}
+		if (isInt) {
+			atoms = source.mBoundAtoms.get(target);
+			final DLAtom complement = atoms == null ? null : atoms.get(bound.negate().sub(Rational.ONE));
+			if (complement != null) {
+				return complement.negate();
+			}
+		}
+		final DLAtom atom = new DLAtom(target, source, bound, false, isInt, mClausifier.getStackLevel());
+		registerAtom(atom);
+		return atom;
+	}
+
+	private void registerAtom(final DLAtom atom) {
+		if (atom.mIsEquality) {
+			atom.mTarget.mEqualityAtoms.computeIfAbsent(atom.mSource, n -> new HashMap<>()).put(atom.mBound, atom);
+			atom.mSource.mEqualityAtoms.computeIfAbsent(atom.mTarget, n -> new HashMap<>()).put(atom.mBound.negate(),
+					atom);
+		} else {
+			atom.mTarget.mBoundAtoms.computeIfAbsent(atom.mSource, n -> new HashMap<>()).put(atom.mBound, atom);
+		}
+		addAtomEdges(atom);
+		getEngine().addAtom(atom);
+	}
+
+	private static void addAtomEdges(final DLAtom atom) {
+		for (final DLEdge edge : atom.mEdges) {
+			addAtomEdge(edge);
+		}
+		if (atom.mNegatedEdge != null) {
+			addAtomEdge(atom.mNegatedEdge);
+		}
+	}
+
+	private static void addAtomEdge(final DLEdge edge) {
+		if (edge.mAtomEdgePos < 0) {
+			edge.mAtomEdgePos = edge.mTo.mAtomEdges.size();
+			edge.mTo.mAtomEdges.add(edge);
+		}
+	}
+
+	private static void removeAtomEdges(final DLAtom atom) {
+		for (final DLEdge edge : atom.mEdges) {
+			removeAtomEdge(edge);
+		}
+		if (atom.mNegatedEdge != null) {
+			removeAtomEdge(atom.mNegatedEdge);
+		}
+	}
+
+	private static void removeAtomEdge(final DLEdge edge) {
+		final int pos = edge.mAtomEdgePos;
+		if (pos >= 0) {
+			final ArrayList<DLEdge> list = edge.mTo.mAtomEdges;
+			final DLEdge last = list.remove(list.size() - 1);
+			if (last != edge) {
+				list.set(pos, last);
+				last.mAtomEdgePos = pos;
+			}
+			edge.mAtomEdgePos = -1;
+		}
+	}
+
+	@Override
+	public void removeAtom(final DPLLAtom atom) {
+		if (atom instanceof DLAtom) {
+			final DLAtom dlAtom = (DLAtom) atom;
+			if (dlAtom.mIsEquality) {
+				dlAtom.mTarget.mEqualityAtoms.get(dlAtom.mSource).remove(dlAtom.mBound);
+				dlAtom.mSource.mEqualityAtoms.get(dlAtom.mTarget).remove(dlAtom.mBound.negate());
+			} else {
+				dlAtom.mTarget.mBoundAtoms.get(dlAtom.mSource).remove(dlAtom.mBound);
+			}
+			removeAtomEdges(dlAtom);
+		}
+	}
+
+	/// --- Consistency check ---
+
+	/**
+	 * Add an edge to the graph and repair the potential.
+	 *
+	 * @param propagate
+	 *            true if atoms implied by the new edge should be propagated.
+	 * @return a conflict clause if the edge closes a negative cycle, null otherwise.
+	 */
+	private Clause addEdge(final DLEdge edge, final boolean propagate) {
+		final DLNode from = edge.mFrom;
+		final DLNode to = edge.mTo;
+		final Rational gamma = from.mPotential.add(edge.mWeight).sub(to.mPotential);
+		final int gammaEps = from.mPotentialEps + edge.mWeightEps - to.mPotentialEps;
+		if (compare(gamma, gammaEps, Rational.ZERO, 0) < 0) {
+			final Clause conflict = repairPotential(edge, gamma, gammaEps);
+			if (conflict != null) {
+				return conflict;
+			}
+		}
+		edge.mActive = true;
+		from.mOutgoing.add(edge);
+		to.mIncoming.add(edge);
+		if (propagate && Config.DL_PROPAGATION_LIMIT > 0) {
+			final long time = System.nanoTime();
+			propagate(edge);
+			mPropTime += System.nanoTime() - time;
+		}
+		return null;
+	}
+
+	/**
+	 * Compute the new potential for the nodes reachable from the target of a new edge that violates the current
+	 * potential. The distance of a node is the (negative) change of its potential. The potential is only changed if
+	 * no negative cycle is found.
+	 *
+	 * @return a conflict clause if the edge closes a negative cycle, null otherwise.
+	 */
+	private Clause repairPotential(final DLEdge edge, final Rational gamma, final int gammaEps) {
+		final int stamp = ++mStamp;
+		final DLNode start = edge.mTo;
+		mHeap.reset(false);
+		mSettled.clear();
+		start.mStamp = stamp;
+		start.mSettled = false;
+		start.mDist = gamma;
+		start.mDistEps = gammaEps;
+		start.mPred = edge;
+		mHeap.add(start);
+		while (!mHeap.isEmpty()) {
+			final DLNode node = mHeap.poll();
+			node.mSettled = true;
+			mSettled.add(node);
+			final Rational base = node.mPotential.add(node.mDist);
+			final int baseEps = node.mPotentialEps + node.mDistEps;
+			for (final DLEdge out : node.mOutgoing) {
+				final DLNode next = out.mTo;
+				final Rational bound = base.add(out.mWeight);
+				final int boundEps = baseEps + out.mWeightEps;
+				if (compare(bound, boundEps, next.mPotential, next.mPotentialEps) >= 0) {
+					continue;
+				}
+				if (next == edge.mFrom) {
+					mHeap.reset(false);
+					return explainCycle(edge, out);
+				}
+				final Rational dist = bound.sub(next.mPotential);
+				final int distEps = boundEps - next.mPotentialEps;
+				if (next.mStamp != stamp) {
+					next.mStamp = stamp;
+					next.mSettled = false;
+					next.mDist = dist;
+					next.mDistEps = distEps;
+					next.mPred = out;
+					mHeap.add(next);
+				} else if (!next.mSettled && compare(dist, distEps, next.mDist, next.mDistEps) < 0) {
+					next.mDist = dist;
+					next.mDistEps = distEps;
+					next.mPred = out;
+					mHeap.decreased(next);
+				}
+			}
+		}
+		for (final DLNode node : mSettled) {
+			node.mPotential = node.mPotential.add(node.mDist);
+			node.mPotentialEps += node.mDistEps;
+		}
+		return null;
+	}
+
+	/**
+	 * Build the conflict clause for the negative cycle consisting of the new edge, the search path from its target,
+	 * and the closing edge back to its source.
+	 */
+	private Clause explainCycle(final DLEdge edge, final DLEdge closing) {
+		mNumConflicts++;
+		final LinkedHashSet<Literal> cycle = new LinkedHashSet<>();
+		cycle.add(edge.mLiteral.negate());
+		cycle.add(closing.mLiteral.negate());
+		DLNode node = closing.mFrom;
+		while (node != edge.mTo) {
+			cycle.add(node.mPred.mLiteral.negate());
+			node = node.mPred.mFrom;
+		}
+		return new Clause(cycle.toArray(new Literal[cycle.size()]));
+	}
+
+	private void removeEdge(final DLEdge edge) {
+		edge.mActive = false;
+		removeFromEnd(edge.mFrom.mOutgoing, edge);
+		removeFromEnd(edge.mTo.mIncoming, edge);
+	}
+
+	private static <E> void removeFromEnd(final ArrayList<E> list, final E elem) {
+		for (int i = list.size() - 1; i >= 0; i--) {
+			if (list.get(i) == elem) {
+				list.remove(i);
+				return;
+			}
+		}
+		throw new AssertionError("Element not found: " + elem);
+	}
+
+	/// --- Theory propagation ---
+
+	/**
+	 * Search atoms implied by a path over a new edge. The path starts at a node found by a bounded backward search
+	 * from the source of the edge and ends at a node found by a bounded forward search from its target. The searches
+	 * use the reduced costs with respect to the potential, which are never negative.
+	 */
+	private void propagate(final DLEdge edge) {
+		final int stamp = ++mStamp;
+		forwardSearch(edge.mTo, stamp);
+		backwardSearch(edge.mFrom, stamp);
+		/*
+		 * Turn the reduced distances into real path lengths, such that the path from source over the new edge to target
+		 * has length source.mBackDist + target.mDist. This saves the reduced cost computation for every candidate.
+		 */
+		for (final DLNode target : mSettled) {
+			target.mDist = target.mDist.add(target.mPotential);
+			target.mDistEps += target.mPotentialEps;
+		}
+		final Rational edgeCost = reducedCost(edge);
+		final int edgeCostEps = reducedCostEps(edge);
+		for (final DLNode source : mBackSettled) {
+			source.mBackDist = source.mBackDist.sub(source.mPotential).add(edgeCost);
+			source.mBackDistEps += edgeCostEps - source.mPotentialEps;
+		}
+		for (final DLNode target : mSettled) {
+			for (final DLEdge atomEdge : target.mAtomEdges) {
+				final DLNode source = atomEdge.mFrom;
+				if (source.mBackStamp != stamp || !source.mBackSettled) {
+					continue;
+				}
+				final DLAtom atom = (DLAtom) atomEdge.mLiteral.getAtom();
+				assert atom.getDecideStatus() == null;
+				final int cmp = compare(source.mBackDist.add(target.mDist), source.mBackDistEps + target.mDistEps,
+						atomEdge.mWeight, atomEdge.mWeightEps);
+				if (cmp > 0 || (cmp == 0 && atom.mIsEquality)) {
+					continue;
+				}
+				/* a path shorter than one half of an equality implies the disequality */
+				final Literal implied = atom.mIsEquality ? atom.negate() : atomEdge.mLiteral;
+				final LinkedHashSet<Literal> reason = new LinkedHashSet<>();
+				for (DLNode node = source; node.mBackPred != null; node = node.mBackPred.mTo) {
+					reason.add(node.mBackPred.mLiteral);
+				}
+				reason.add(edge.mLiteral);
+				for (DLNode node = target; node.mPred != null; node = node.mPred.mFrom) {
+					reason.add(node.mPred.mLiteral);
+				}
+				mPropReasons.put(implied, reason.toArray(new Literal[reason.size()]));
+				mProplist.add(implied);
+				mNumPropagations++;
+			}
+		}
+	}
+
+	private static Rational reducedCost(final DLEdge edge) {
+		return edge.mWeight.add(edge.mFrom.mPotential).sub(edge.mTo.mPotential);
+	}
+
+	private static int reducedCostEps(final DLEdge edge) {
+		return edge.mWeightEps + edge.mFrom.mPotentialEps - edge.mTo.mPotentialEps;
+	}
+
+	/**
+	 * Compute the shortest reduced distances from a node for at most {@link Config#DL_PROPAGATION_LIMIT} nodes. The
+	 * settled nodes are collected in mSettled.
+	 */
+	private void forwardSearch(final DLNode start, final int stamp) {
+		mHeap.reset(false);
+		mSettled.clear();
+		start.mStamp = stamp;
+		start.mSettled = false;
+		start.mDist = Rational.ZERO;
+		start.mDistEps = 0;
+		start.mPred = null;
+		mHeap.add(start);
+		while (!mHeap.isEmpty() && mSettled.size() < Config.DL_PROPAGATION_LIMIT) {
+			final DLNode node = mHeap.poll();
+			node.mSettled = true;
+			mSettled.add(node);
+			for (final DLEdge out : node.mOutgoing) {
+				final DLNode next = out.mTo;
+				if (next.mStamp == stamp && next.mSettled) {
+					continue;
+				}
+				final Rational dist = node.mDist.add(reducedCost(out));
+				final int distEps = node.mDistEps + reducedCostEps(out);
+				if (next.mStamp != stamp) {
+					next.mStamp = stamp;
+					next.mSettled = false;
+					next.mDist = dist;
+					next.mDistEps = distEps;
+					next.mPred = out;
+					mHeap.add(next);
+				} else if (compare(dist, distEps, next.mDist, next.mDistEps) < 0) {
+					next.mDist = dist;
+					next.mDistEps = distEps;
+					next.mPred = out;
+					mHeap.decreased(next);
+				}
+			}
+		}
+		mHeap.reset(true);
+	}
+
+	/**
+	 * Compute the shortest reduced distances to a node for at most {@link Config#DL_PROPAGATION_LIMIT} nodes. The
+	 * settled nodes are collected in mBackSettled.
+	 */
+	private void backwardSearch(final DLNode start, final int stamp) {
+		mHeap.reset(true);
+		mBackSettled.clear();
+		start.mBackStamp = stamp;
+		start.mBackSettled = false;
+		start.mBackDist = Rational.ZERO;
+		start.mBackDistEps = 0;
+		start.mBackPred = null;
+		mHeap.add(start);
+		while (!mHeap.isEmpty() && mBackSettled.size() < Config.DL_PROPAGATION_LIMIT) {
+			final DLNode node = mHeap.poll();
+			node.mBackSettled = true;
+			mBackSettled.add(node);
+			for (final DLEdge in : node.mIncoming) {
+				final DLNode prev = in.mFrom;
+				if (prev.mBackStamp == stamp && prev.mBackSettled) {
+					continue;
+				}
+				final Rational dist = node.mBackDist.add(reducedCost(in));
+				final int distEps = node.mBackDistEps + reducedCostEps(in);
+				if (prev.mBackStamp != stamp) {
+					prev.mBackStamp = stamp;
+					prev.mBackSettled = false;
+					prev.mBackDist = dist;
+					prev.mBackDistEps = distEps;
+					prev.mBackPred = in;
+					mHeap.add(prev);
+				} else if (compare(dist, distEps, prev.mBackDist, prev.mBackDistEps) < 0) {
+					prev.mBackDist = dist;
+					prev.mBackDistEps = distEps;
+					prev.mBackPred = in;
+					mHeap.decreased(prev);
+				}
+			}
+		}
+		mHeap.reset(false);
+	}
+
+	/// --- ITheory interface ---
+
+	@Override
+	public Clause startCheck() {
+		return null;
+	}
+
+	@Override
+	public void endCheck() {
+	}
+
+	@Override
+	public Clause setLiteral(final Literal literal) {
+		if (!(literal.getAtom() instanceof DLAtom)) {
+			return null;
+		}
+		final long time = System.nanoTime();
+		final DLAtom atom = (DLAtom) literal.getAtom();
+		removeAtomEdges(atom);
+		/* an edge propagated by this solver does not shorten any path, so it cannot imply new atoms */
+		final boolean propagate = atom.mExplanation != this;
+		Clause conflict = null;
+		if (literal == atom) {
+			for (final DLEdge edge : atom.mEdges) {
+				conflict = addEdge(edge, propagate);
+				if (conflict != null) {
+					break;
+				}
+			}
+		} else if (atom.mIsEquality) {
+			mDisequalities.add(atom);
+		} else {
+			conflict = addEdge(atom.mNegatedEdge, propagate);
+		}
+		mCheckTime += System.nanoTime() - time;
+		return conflict;
+	}
+
+	@Override
+	public void backtrackLiteral(final Literal literal) {
+		if (!(literal.getAtom() instanceof DLAtom)) {
+			return;
+		}
+		final DLAtom atom = (DLAtom) literal.getAtom();
+		mPropReasons.remove(literal);
+		addAtomEdges(atom);
+		if (literal == atom) {
+			for (int i = atom.mEdges.length - 1; i >= 0; i--) {
+				if (atom.mEdges[i].mActive) {
+					removeEdge(atom.mEdges[i]);
+				}
+			}
+		} else if (atom.mIsEquality) {
+			removeFromEnd(mDisequalities, atom);
+		} else if (atom.mNegatedEdge.mActive) {
+			removeEdge(atom.mNegatedEdge);
+		}
+	}
+
+	@Override
+	public Clause checkpoint() {
+		return null;
+	}
+
+	/**
+	 * Check the disequalities. If the potential of a disequality x - y != c is exactly c, the disequality is split
+	 * into x - y < c and x - y > c. If both strict bounds are already false, the clause x - y = c or x - y < c or x -
+	 * y > c is a conflict. Otherwise the missing bound atoms are created and suggested.
+	 */
+	@Override
+	public Clause computeConflictClause() {
+		final long time = System.nanoTime();
+		try {
+			for (final DLAtom diseq : new ArrayList<>(mDisequalities)) {
+				final DLNode target = diseq.mTarget;
+				final DLNode source = diseq.mSource;
+				if (target.mPotentialEps != source.mPotentialEps
+						|| !target.mPotential.sub(source.mPotential).equals(diseq.mBound)) {
+					continue;
+				}
+				/* lower means x - y >= c, upper means x - y <= c */
+				final Literal lower = getBoundLiteral(source, target, diseq.mBound.negate(), diseq.mIsInt);
+				final Literal upper = getBoundLiteral(target, source, diseq.mBound, diseq.mIsInt);
+				assert lower.getAtom().getDecideStatus() != lower.negate();
+				assert upper.getAtom().getDecideStatus() != upper.negate();
+				if (lower.getAtom().getDecideStatus() == lower && upper.getAtom().getDecideStatus() == upper) {
+					mNumConflicts++;
+					return new Clause(new Literal[] { diseq, lower.negate(), upper.negate() });
+				}
+				mNumSplits++;
+				if (lower.getAtom().getDecideStatus() == null) {
+					mSuggestions.add(lower.negate());
+				}
+				if (upper.getAtom().getDecideStatus() == null) {
+					mSuggestions.add(upper.negate());
+				}
+			}
+			return null;
+		} finally {
+			mCheckTime += System.nanoTime() - time;
+		}
+	}
+
+	@Override
+	public Literal getPropagatedLiteral() {
+		while (!mProplist.isEmpty()) {
+			final Literal lit = mProplist.remove();
+			if (lit.getAtom().getDecideStatus() == null) {
+				return lit;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Clause getUnitClause(final Literal literal) {
+		final Literal[] reason = mPropReasons.get(literal);
+		assert reason != null : "No explanation for " + literal;
+		final Literal[] lits = new Literal[reason.length + 1];
+		lits[0] = literal;
+		for (int i = 0; i < reason.length; i++) {
+			lits[i + 1] = reason[i].negate();
+		}
+		return new Clause(lits);
+	}
+
+	@Override
+	public Literal getSuggestion() {
+		while (!mSuggestions.isEmpty()) {
+			final Literal lit = mSuggestions.remove();
+			if (lit.getAtom().getDecideStatus() == null) {
+				return lit;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public int checkCompleteness() {
+		return DPLLEngine.COMPLETE;
+	}
+
+	@Override
+	public void increasedDecideLevel(final int currentDecideLevel) {
+	}
+
+	@Override
+	public void decreasedDecideLevel(final int currentDecideLevel) {
+	}
+
+	@Override
+	public Clause backtrackComplete() {
+		mProplist.clear();
+		return null;
+	}
+
+	@Override
+	public void backtrackAll() {
+		mProplist.clear();
+		mPropReasons.clear();
+		mSuggestions.clear();
+	}
+
+	@Override
+	public void restart(final int iteration) {
+	}
+
+	@Override
+	public void push() {
+		mNodes.beginScope();
+		mTermNodes.beginScope();
+	}
+
+	@Override
+	public void pop() {
+		mNodes.endScope();
+		mTermNodes.endScope();
+		mProplist.clear();
+		mSuggestions.clear();
+	}
+
+	/// --- Model ---
+
+	/**
+	 * Choose a positive value for epsilon such that the potential satisfies all active edges and all disequalities.
+	 */
+	private void prepareModel() {
+		Rational eps = Rational.ONE;
+		for (final DLNode node : mNodes) {
+			for (final DLEdge edge : node.mOutgoing) {
+				/* potential(to) - potential(from) - weight is real + epsCoeff * eps and must not be positive */
+				final Rational real = edge.mTo.mPotential.sub(edge.mFrom.mPotential).sub(edge.mWeight);
+				final int epsCoeff = edge.mTo.mPotentialEps - edge.mFrom.mPotentialEps - edge.mWeightEps;
+				if (epsCoeff > 0) {
+					assert real.signum() < 0;
+					final Rational max = real.negate().div(Rational.valueOf(epsCoeff, 1));
+					if (max.compareTo(eps) < 0) {
+						eps = max;
+					}
+				}
+			}
+		}
+		eps = eps.div(Rational.TWO);
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (final DLAtom diseq : mDisequalities) {
+				final Rational real = diseq.mTarget.mPotential.sub(diseq.mSource.mPotential).sub(diseq.mBound);
+				final int epsCoeff = diseq.mTarget.mPotentialEps - diseq.mSource.mPotentialEps;
+				if (epsCoeff != 0 && real.add(eps.mul(Rational.valueOf(epsCoeff, 1))).signum() == 0) {
+					eps = eps.div(Rational.TWO);
+					changed = true;
+				}
+			}
+		}
+		mModelEps = eps;
+	}
+
+	private Rational getValue(final DLNode node) {
+		final Rational real = node.mPotential.sub(mZero.mPotential);
+		final int epsCoeff = node.mPotentialEps - mZero.mPotentialEps;
+		return epsCoeff == 0 ? real : real.add(mModelEps.mul(Rational.valueOf(epsCoeff, 1)));
+	}
+
+	/**
+	 * Get the value of a term in the model. The model must have been computed by fillInModel.
+	 */
+	public Rational realValue(final Term term) {
+		final DLNode node = mTermNodes.get(term);
+		return node == null ? Rational.ZERO : getValue(node);
+	}
+
+	public void fillInModel(final Model model, final Theory t) {
+		prepareModel();
+		for (final DLNode node : mNodes) {
+			if (node.mTerm instanceof ApplicationTerm && ((ApplicationTerm) node.mTerm).getParameters().length == 0) {
+				final NumericSortInterpretation si =
+						(NumericSortInterpretation) model.provideSortInterpretation(node.mTerm.getSort());
+				model.map(((ApplicationTerm) node.mTerm).getFunction(), si.extend(getValue(node), node.mTerm.getSort()));
+			}
+		}
+	}
+
+	@Override
+	public void dumpModel(final LogProxy logger) {
+		prepareModel();
+		logger.info("Difference logic assignments:");
+		for (final DLNode node : mNodes) {
+			if (!node.isZero()) {
+				logger.info("%s = %s", node, getValue(node));
+			}
+		}
+	}
+
+	/// --- Statistics ---
+
+	@Override
+	public void printStatistics(final LogProxy logger) {
+		if (logger.isInfoEnabled()) {
+			logger.info("Number of difference logic nodes: " + mNodes.size());
+			logger.info("Conflicts: " + mNumConflicts + " propagations: " + mNumPropagations + " splits: "
+					+ mNumSplits);
+			logger.info("Time for consistency check: " + mCheckTime / 1000000);
+			logger.info("Time for propagation      : " + mPropTime / 1000000);
+		}
+	}
+
+	@Override
+	public Object[] getStatistics() {
+		return new Object[] {
+			":DL", new Object[][] {
+				{"Nodes", mNodes.size()},
+				{"Conflicts", mNumConflicts},
+				{"Propagations", mNumPropagations},
+				{"Splits", mNumSplits},
+				{"Times", new Object[][]{
+					{"Check", mCheckTime / 1000000},
+					{"Propagation", mPropTime / 1000000}}
+				}
+			}};
+	}
+
+	@Override
+	public String toString() {
+		return "DifferenceLogicSolver";
+	}
+}
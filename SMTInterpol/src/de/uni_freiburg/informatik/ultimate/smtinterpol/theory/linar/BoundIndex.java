@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.util.Arrays;
+
+/**
+ * Data structure that stores the bound constraints or equalities of a linear variable sorted by their bound. The
+ * bounds and the atoms are kept in two parallel arrays, so that a range of bounds can be visited by a loop over the
+ * indices between two binary searches, without allocating a view or iterator. Atoms are created and removed in stack
+ * order, hence insertions and removals usually only move few entries at the end of the arrays.
+ *
+ * @param <E>
+ *            the type of the stored atoms.
+ */
+public class BoundIndex<E> {
+	private static final int INITIAL_SIZE = 4;
+	private static final InfinitesimalNumber[] EMPTY_BOUNDS = new InfinitesimalNumber[0];
+	private static final Object[] EMPTY_ATOMS = new Object[0];
+
+	private InfinitesimalNumber[] mBounds = EMPTY_BOUNDS;
+	private Object[] mAtoms = EMPTY_ATOMS;
+	private int mSize;
+
+	private int find(final InfinitesimalNumber bound) {
+		return Arrays.binarySearch(mBounds, 0, mSize, bound);
+	}
+
+	/**
+	 * Get the atom for the given bound.
+	 *
+	 * @return the atom or null if there is no atom with this bound.
+	 */
+	@SuppressWarnings("unchecked")
+	public E get(final InfinitesimalNumber bound) {
+		final int idx = find(bound);
+		return idx >= 0 ? (E) mAtoms[idx] : null;
+	}
+
+	public boolean containsKey(final InfinitesimalNumber bound) {
+		return find(bound) >= 0;
+	}
+
+	/**
+	 * Store an atom for the given bound. An existing atom for the same bound is replaced.
+	 */
+	public void put(final InfinitesimalNumber bound, final E atom) {
+		int idx = find(bound);
+		if (idx >= 0) {
+			mAtoms[idx] = atom;
+			return;
+		}
+		idx = -idx - 1;
+		if (mSize == mBounds.length) {
+			final int newSize = mSize == 0 ? INITIAL_SIZE : 2 * mSize;
+			mBounds = Arrays.copyOf(mBounds, newSize);
+			mAtoms = Arrays.copyOf(mAtoms, newSize);
+		}
+		System.arraycopy(mBounds, idx, mBounds, idx + 1, mSize - idx);
+		System.arraycopy(mAtoms, idx, mAtoms, idx + 1, mSize - idx);
+		mBounds[idx] = bound;
+		mAtoms[idx] = atom;
+		mSize++;
+	}
+
+	/**
+	 * Remove the atom for the given bound, if there is one.
+	 */
+	public void remove(final InfinitesimalNumber bound) {
+		final int idx = find(bound);
+		if (idx < 0) {
+			return;
+		}
+		mSize--;
+		System.arraycopy(mBounds, idx + 1, mBounds, idx, mSize - idx);
+		System.arraycopy(mAtoms, idx + 1, mAtoms, idx, mSize - idx);
+		mBounds[mSize] = null;
+		mAtoms[mSize] = null;
+	}
+
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	public int size() {
+		return mSize;
+	}
+
+	/**
+	 * Get the index of the first atom whose bound is greater or equal to the given bound. This is {@link #size()} if
+	 * there is no such atom. The atoms with smaller bounds are exactly those below the returned index.
+	 */
+	public int ceilingIndex(final InfinitesimalNumber bound) {
+		final int idx = find(bound);
+		return idx >= 0 ? idx : -idx - 1;
+	}
+
+	/**
+	 * Get the index of the first atom whose bound is strictly greater than the given bound. This is {@link #size()} if
+	 * there is no such atom.
+	 */
+	public int higherIndex(final InfinitesimalNumber bound) {
+		final int idx = find(bound);
+		return idx >= 0 ? idx + 1 : -idx - 1;
+	}
+
+	public InfinitesimalNumber getBound(final int i) {
+		assert i < mSize;
+		return mBounds[i];
+	}
+
+	@SuppressWarnings("unchecked")
+	public E getAtom(final int i) {
+		assert i < mSize;
+		return (E) mAtoms[i];
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("{");
+		for (int i = 0; i < mSize; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(mBounds[i]).append('=').append(mAtoms[i]);
+		}
+		return sb.append('}').toString();
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Map.Entry;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
+
+/**
+ * A steepest edge pivot rule that approximates the edge norms by the devex reference weights of Forrest and Goldfarb.
+ * It chooses the column variable with the largest squared gradient of the sum of infeasibilities divided by its weight
+ * and only does the ratio test for this column. If this gives a degenerate step, it falls back to the greatest
+ * decrease of {@link SOIPivotRule}, which only returns a degenerate step if there is no better one.
+ *
+ * <p>
+ * The weights are stored in {@link LinVar#mDevexWeight} and updated after every pivot step from the new row of the
+ * entering variable. They are reset to one when they grow larger than {@link Config#DEVEX_MAX_WEIGHT}.
+ */
+public class DevexPivotRule implements IPivotRule {
+	@Override
+	public SOIPivoter.FreedomLimiter selectPivot(final SOIPivoter pivoter) {
+		LinVar bestColumn = null;
+		Rational bestCoeff = null;
+		double bestScore = -1;
+		for (final Entry<LinVar, Rational> entry : pivoter.getSOIVar().entrySet()) {
+			final LinVar colVar = entry.getKey();
+			final Rational coeff = entry.getValue();
+			if (!pivoter.isImproving(colVar, coeff)) {
+				continue;
+			}
+			final double gradient = toDouble(coeff.numerator(), coeff.denominator());
+			final double score = gradient * gradient / colVar.mDevexWeight;
+			if (score > bestScore) {
+				bestScore = score;
+				bestColumn = colVar;
+				bestCoeff = coeff;
+			}
+		}
+		if (bestColumn == null) {
+			return null;
+		}
+		final SOIPivoter.FreedomLimiter limiter = pivoter.ratioTest(bestColumn, bestCoeff);
+		if (limiter != null && limiter.mFreedom.signum() > 0) {
+			return limiter;
+		}
+		return pivoter.findGreatestDecrease();
+	}
+
+	@Override
+	public boolean useLeastRecentlyPivoted() {
+		return false;
+	}
+
+	@Override
+	public void pivoted(final LinArSolve solver, final LinVar leaving, final LinVar entering) {
+		// The row of the entering variable is entering = sum -coeff_j/head * x_j. The weight of a column variable
+		// must be at least the weight of the entering variable times its squared coefficient.
+		final TableauxRow row = solver.mTableaux.get(entering.mMatrixpos);
+		final BigInteger head = row.getRawCoeff(0);
+		final double enteringWeight = entering.mDevexWeight;
+		boolean reset = false;
+		for (int i = 1; i < row.size(); i++) {
+			final LinVar colVar = solver.mLinvars.get(row.getRawIndex(i));
+			final double coeff = toDouble(row.getRawCoeff(i), head);
+			final double weight = coeff * coeff * enteringWeight;
+			if (colVar == leaving) {
+				colVar.mDevexWeight = Math.max(weight, 1.0);
+			} else if (weight > colVar.mDevexWeight) {
+				colVar.mDevexWeight = weight;
+			}
+			reset |= colVar.mDevexWeight > Config.DEVEX_MAX_WEIGHT;
+		}
+		if (reset) {
+			// start a new reference framework
+			for (final LinVar var : solver.mLinvars) {
+				var.mDevexWeight = 1.0;
+			}
+		}
+	}
+
+	private static double toDouble(final BigInteger num, final BigInteger denom) {
+		if (num.bitLength() < 53 && denom.bitLength() < 53) {
+			return num.doubleValue() / denom.doubleValue();
+		}
+		return new BigDecimal(num).divide(new BigDecimal(denom), MathContext.DECIMAL64).doubleValue();
+	}
+}
@@ -108,6 +108,15 @@ public class ExactInfinitesimalNumber implements Comparable<ExactInfinitesimalNu
 	public ExactInfinitesimalNumber mul(final Rational c) {
 		return new ExactInfinitesimalNumber(mReal.mul(c), mEps.mul(c));
 	}
+	/**
+	 * Computes {@code this + fac1 * fac2} without creating the intermediate product.
+	 * @param fac1 one of the factors.
+	 * @param fac2 the other factor.
+	 * @return the result of the computation.
+	 */
+	public ExactInfinitesimalNumber addmul(final ExactInfinitesimalNumber fac1, final Rational fac2) {
+		return new ExactInfinitesimalNumber(mReal.addmul(fac1.mReal, fac2), mEps.addmul(fac1.mEps, fac2));
+	}
 	public ExactInfinitesimalNumber div(final Rational d) {
 		return new ExactInfinitesimalNumber(mReal.div(d), mEps.div(d));
 	}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
+/**
+ * A simplex in floating point arithmetic that searches a feasible basis for the current bounds. It works on a copy of
+ * the tableaux and never changes the exact state of the solver. The caller pivots the exact tableaux into the basis
+ * found here and moves the column variables to the bounds chosen here. The exact pivoter then either certifies that
+ * the basis is feasible or repairs it, so rounding errors can only cost time, but never soundness.
+ *
+ * <p>
+ * The algorithm is the simplex by Dutertre and de Moura with Bland's rule. Values and bounds are pairs of doubles for
+ * the real and the infinitesimal part. Values within a relative tolerance are considered equal.
+ */
+public class FloatSimplex {
+	/** Relative tolerance for comparing values with bounds. */
+	private static final double TOLERANCE = 1e-9;
+	/** Coefficients below this absolute value are dropped from the tableaux. */
+	private static final double ZERO_TOLERANCE = 1e-11;
+
+	/**
+	 * The tableaux rows indexed by matrix position. mRowCols holds the sorted matrix positions of the column variables
+	 * and mRowCoeffs the coefficients such that the row variable equals the sum of the coefficients times the column
+	 * variables. Both are null for column variables.
+	 */
+	private final int[][] mRowCols;
+	private final double[][] mRowCoeffs;
+	/** The current value of each variable: real part and infinitesimal part. */
+	private final double[] mValue, mValueEps;
+	/** The bounds of each variable: real part and infinitesimal part. Infinite if there is no bound. */
+	private final double[] mLower, mLowerEps, mUpper, mUpperEps;
+	private int mNumPivots;
+
+	public FloatSimplex(final LinArSolve solver) {
+		final int size = solver.mLinvars.size();
+		mRowCols = new int[size][];
+		mRowCoeffs = new double[size][];
+		mValue = new double[size];
+		mValueEps = new double[size];
+		mLower = new double[size];
+		mLowerEps = new double[size];
+		mUpper = new double[size];
+		mUpperEps = new double[size];
+		for (final LinVar var : solver.mLinvars) {
+			final int pos = var.mMatrixpos;
+			mValue[pos] = toDouble(var.getValue().getRealValue());
+			mValueEps[pos] = toDouble(var.getValue().getEpsilon());
+			final InfinitesimalNumber lower = var.getLowerBound();
+			mLower[pos] = toDouble(lower.mReal);
+			mLowerEps[pos] = lower.mEps;
+			final InfinitesimalNumber upper = var.getUpperBound();
+			mUpper[pos] = toDouble(upper.mReal);
+			mUpperEps[pos] = upper.mEps;
+			if (var.mBasic) {
+				final TableauxRow row = solver.mTableaux.get(pos);
+				final double headCoeff = -row.getRawCoeff(0).doubleValue();
+				final int[] cols = new int[row.size() - 1];
+				final double[] coeffs = new double[row.size() - 1];
+				for (int i = 1; i < row.size(); i++) {
+					cols[i - 1] = row.getRawIndex(i);
+					coeffs[i - 1] = row.getRawCoeff(i).doubleValue() / headCoeff;
+				}
+				mRowCols[pos] = cols;
+				mRowCoeffs[pos] = coeffs;
+			}
+		}
+	}
+
+	private static double toDouble(final Rational r) {
+		if (r.denominator().signum() == 0) {
+			return r.numerator().signum() * Double.POSITIVE_INFINITY;
+		}
+		if (r.numerator().bitLength() < 53 && r.denominator().bitLength() < 53) {
+			return r.numerator().doubleValue() / r.denominator().doubleValue();
+		}
+		return new BigDecimal(r.numerator()).divide(new BigDecimal(r.denominator()), MathContext.DECIMAL64)
+				.doubleValue();
+	}
+
+	/**
+	 * Check if the first value is definitely smaller than the second value.
+	 */
+	private static boolean less(final double real1, final double eps1, final double real2, final double eps2) {
+		if (real1 == real2) {
+			return eps1 < eps2;
+		}
+		if (Double.isInfinite(real1) || Double.isInfinite(real2)) {
+			return real1 < real2;
+		}
+		final double tolerance = TOLERANCE * Math.max(1.0, Math.max(Math.abs(real1), Math.abs(real2)));
+		if (Math.abs(real1 - real2) <= tolerance) {
+			return eps1 < eps2 - TOLERANCE;
+		}
+		return real1 < real2;
+	}
+
+	public int getNumPivots() {
+		return mNumPivots;
+	}
+
+	/**
+	 * Check if a variable is a row variable in the current basis.
+	 *
+	 * @param pos
+	 *            the matrix position of the variable.
+	 */
+	public boolean isBasic(final int pos) {
+		return mRowCols[pos] != null;
+	}
+
+	/**
+	 * Check at which bound a column variable is.
+	 *
+	 * @param pos
+	 *            the matrix position of the column variable.
+	 * @return -1 if it is at its lower bound, 1 if it is at its upper bound, 0 otherwise.
+	 */
+	public int getBoundStatus(final int pos) {
+		assert !isBasic(pos);
+		if (!less(mLower[pos], mLowerEps[pos], mValue[pos], mValueEps[pos])) {
+			return -1;
+		}
+		if (!less(mValue[pos], mValueEps[pos], mUpper[pos], mUpperEps[pos])) {
+			return 1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Search a feasible basis.
+	 *
+	 * @param maxPivots
+	 *            the maximal number of pivot steps.
+	 * @return true if the current basis is feasible (up to rounding), false if the simplex gave up or found a row that
+	 *         cannot be fixed.
+	 */
+	public boolean solve(final int maxPivots) {
+		while (mNumPivots < maxPivots) {
+			int rowPos = -1;
+			boolean increase = false;
+			for (int pos = 0; pos < mRowCols.length; pos++) {
+				if (mRowCols[pos] == null) {
+					continue;
+				}
+				if (less(mValue[pos], mValueEps[pos], mLower[pos], mLowerEps[pos])) {
+					rowPos = pos;
+					increase = true;
+					break;
+				}
+				if (less(mUpper[pos], mUpperEps[pos], mValue[pos], mValueEps[pos])) {
+					rowPos = pos;
+					increase = false;
+					break;
+				}
+			}
+			if (rowPos < 0) {
+				return true;
+			}
+			final int colIdx = findColumn(rowPos, increase);
+			if (colIdx < 0) {
+				return false;
+			}
+			pivotAndUpdate(rowPos, colIdx, increase);
+		}
+		return false;
+	}
+
+	/**
+	 * Find the first column in a row that can be changed to move the row variable towards its violated bound.
+	 *
+	 * @return the index of the column in the row, or -1 if there is none.
+	 */
+	private int findColumn(final int rowPos, final boolean increase) {
+		final int[] cols = mRowCols[rowPos];
+		final double[] coeffs = mRowCoeffs[rowPos];
+		for (int i = 0; i < cols.length; i++) {
+			final int col = cols[i];
+			final boolean colIncrease = (coeffs[i] > 0) == increase;
+			if (colIncrease ? less(mValue[col], mValueEps[col], mUpper[col], mUpperEps[col])
+					: less(mLower[col], mLowerEps[col], mValue[col], mValueEps[col])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Set the row variable to its violated bound by changing the column variable and exchange the two in the basis.
+	 */
+	private void pivotAndUpdate(final int rowPos, final int colIdx, final boolean increase) {
+		mNumPivots++;
+		final int[] rowCols = mRowCols[rowPos];
+		final double[] rowCoeffs = mRowCoeffs[rowPos];
+		final int colPos = rowCols[colIdx];
+		final double coeff = rowCoeffs[colIdx];
+		final double target = increase ? mLower[rowPos] : mUpper[rowPos];
+		final double targetEps = increase ? mLowerEps[rowPos] : mUpperEps[rowPos];
+		final double theta = (target - mValue[rowPos]) / coeff;
+		final double thetaEps = (targetEps - mValueEps[rowPos]) / coeff;
+		mValue[colPos] += theta;
+		mValueEps[colPos] += thetaEps;
+		mValue[rowPos] = target;
+		mValueEps[rowPos] = targetEps;
+
+		/* express the column variable by the row variable and the other columns */
+		final int[] newCols = new int[rowCols.length];
+		final double[] newCoeffs = new double[rowCols.length];
+		int j = 0;
+		boolean inserted = false;
+		for (int i = 0; i < rowCols.length; i++) {
+			if (i == colIdx) {
+				continue;
+			}
+			if (!inserted && rowCols[i] > rowPos) {
+				newCols[j] = rowPos;
+				newCoeffs[j++] = 1 / coeff;
+				inserted = true;
+			}
+			newCols[j] = rowCols[i];
+			newCoeffs[j++] = -rowCoeffs[i] / coeff;
+		}
+		if (!inserted) {
+			newCols[j] = rowPos;
+			newCoeffs[j] = 1 / coeff;
+		}
+		mRowCols[rowPos] = null;
+		mRowCoeffs[rowPos] = null;
+		mRowCols[colPos] = newCols;
+		mRowCoeffs[colPos] = newCoeffs;
+
+		/* eliminate the column variable from the other rows */
+		for (int pos = 0; pos < mRowCols.length; pos++) {
+			final int[] cols = mRowCols[pos];
+			if (cols == null || pos == colPos) {
+				continue;
+			}
+			final int idx = Arrays.binarySearch(cols, colPos);
+			if (idx < 0) {
+				continue;
+			}
+			final double factor = mRowCoeffs[pos][idx];
+			mValue[pos] += factor * theta;
+			mValueEps[pos] += factor * thetaEps;
+			substitute(pos, idx, factor, newCols, newCoeffs);
+		}
+	}
+
+	/**
+	 * Replace the column at index idx of a row by factor times the given row.
+	 */
+	private void substitute(final int pos, final int idx, final double factor, final int[] otherCols,
+			final double[] otherCoeffs) {
+		final int[] cols = mRowCols[pos];
+		final double[] coeffs = mRowCoeffs[pos];
+		final int[] resultCols = new int[cols.length + otherCols.length - 1];
+		final double[] resultCoeffs = new double[resultCols.length];
+		int i = 0;
+		int k = 0;
+		int n = 0;
+		while (i < cols.length || k < otherCols.length) {
+			if (i == idx) {
+				i++;
+				continue;
+			}
+			int col;
+			double value;
+			if (k == otherCols.length || (i < cols.length && cols[i] < otherCols[k])) {
+				col = cols[i];
+				value = coeffs[i++];
+			} else if (i == cols.length || cols[i] > otherCols[k]) {
+				col = otherCols[k];
+				value = factor * otherCoeffs[k++];
+			} else {
+				col = cols[i];
+				value = coeffs[i++] + factor * otherCoeffs[k++];
+			}
+			if (Math.abs(value) >= ZERO_TOLERANCE) {
+				resultCols[n] = col;
+				resultCoeffs[n++] = value;
+			}
+		}
+		mRowCols[pos] = Arrays.copyOf(resultCols, n);
+		mRowCoeffs[pos] = Arrays.copyOf(resultCoeffs, n);
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+/**
+ * A rule that selects the pivot steps of the {@link SOIPivoter}. The pivoter computes the sum of infeasibilities
+ * expressed over the current column variables. The rule chooses a column variable that decreases this sum and, by a
+ * ratio test, the row variable that leaves the basis. The rule also decides how degenerate steps are chosen, when the
+ * sum cannot be decreased by any single step.
+ */
+public interface IPivotRule {
+	/**
+	 * Select the next pivot step that decreases the sum of infeasibilities. A step with zero freedom may only be
+	 * returned if no column variable can decrease the sum.
+	 *
+	 * @param pivoter
+	 *            the pivoter with the current sum of infeasibilities.
+	 * @return the limiter describing the step, or null if the sum of infeasibilities cannot be decreased.
+	 */
+	SOIPivoter.FreedomLimiter selectPivot(SOIPivoter pivoter);
+
+	/**
+	 * Check if degenerate steps should use the least recently pivoted variables instead of Bland's rule. The pivoter
+	 * switches to Bland's rule after too many degenerate steps in a row to ensure termination.
+	 */
+	boolean useLeastRecentlyPivoted();
+
+	/**
+	 * Called after the pivoter exchanged a row and a column variable.
+	 *
+	 * @param solver
+	 *            the linear arithmetic solver.
+	 * @param leaving
+	 *            the variable that left the basis and is now a column variable.
+	 * @param entering
+	 *            the variable that entered the basis and is now a row variable.
+	 */
+	void pivoted(LinArSolve solver, LinVar leaving, LinVar entering);
+}
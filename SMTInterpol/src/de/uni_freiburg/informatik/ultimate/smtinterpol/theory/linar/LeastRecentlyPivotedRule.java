@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+/**
+ * A pivot rule that chooses the same steps as {@link SOIPivotRule}, but uses the least recently pivoted variables for
+ * degenerate steps. Unlike Bland's rule, this does not prefer the variables that were created first, so it usually
+ * leaves a plateau faster. Termination is ensured by the pivoter, which falls back to Bland's rule after
+ * {@link de.uni_freiburg.informatik.ultimate.smtinterpol.Config#BLAND_USE_FACTOR} steps per variable.
+ */
+public class LeastRecentlyPivotedRule extends SOIPivotRule {
+	@Override
+	public boolean useLeastRecentlyPivoted() {
+		return true;
+	}
+}
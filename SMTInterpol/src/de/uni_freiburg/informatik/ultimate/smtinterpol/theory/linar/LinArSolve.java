@@ -34,9 +34,12 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import de.uni_freiburg.informatik.ultimate.logic.ApplicationTerm;
 import de.uni_freiburg.informatik.ultimate.logic.FunctionSymbol;
+import de.uni_freiburg.informatik.ultimate.logic.MutableRational;
 import de.uni_freiburg.informatik.ultimate.logic.Rational;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.Theory;
@@ -86,9 +89,57 @@ import de.uni_freiburg.informatik.ultimate.util.datastructures.ScopedHashMap;
  * the bound.  Then we can use this composite reason as a source for bound
  * propagation and propagate all bounds that are weaker than the composite.
  *
+ * Integer variables are made integral in the final check, either by the cuts
+ * from proofs of the {@link CutCreator} or by branch and bound, see
+ * {@link IntBranching}.  Optionally, a presolve step tightens the bounds of the
+ * integer variables once per check-sat before the search starts.
+ *
  * @author Juergen Christ, Jochen Hoenicke
  */
 public class LinArSolve implements ITheory {
+	/**
+	 * The strategies to make the integer variables integral in the final check.
+	 */
+	public static enum IntBranching {
+		/** Use the cuts from proofs of the {@link CutCreator}. */
+		CUTS,
+		/** Branch on the integer variable whose value is furthest away from an integer. */
+		MOST_FRACTIONAL,
+		/**
+		 * Branch on the integer variable with the highest pseudo cost times fractionality. The pseudo cost of a
+		 * variable is the average decrease of the integer infeasibility observed after branching on it.
+		 */
+		PSEUDO_COST
+	}
+
+	/**
+	 * The rules to select the pivot steps of the {@link SOIPivoter}.
+	 */
+	public static enum PivotRule {
+		/** Choose the step that decreases the sum of infeasibilities the most. */
+		SOI {
+			@Override
+			IPivotRule create() {
+				return new SOIPivotRule();
+			}
+		},
+		/** Choose the column with the steepest edge, approximated by devex weights. */
+		STEEPEST_EDGE {
+			@Override
+			IPivotRule create() {
+				return new DevexPivotRule();
+			}
+		},
+		/** Like SOI, but degenerate steps use the least recently pivoted variables instead of Bland's rule. */
+		LEAST_RECENTLY_PIVOTED {
+			@Override
+			IPivotRule create() {
+				return new LeastRecentlyPivotedRule();
+			}
+		};
+		abstract IPivotRule create();
+	}
+
 	/** The Clausifier. */
 	final Clausifier mClausifier;
 	/** The list of all variables (basic and nonbasic, integer and reals) indexed by their matrix position. */
@@ -99,11 +150,11 @@ public class LinArSolve implements ITheory {
 	 */
 	final ArrayList<TableauxRow> mTableaux;
 	/**
-	 * The tableaux row occurence. For each column variable gives the set of row variables (represented as bitset
-	 * indexed with matrix position), where the tableaux row contains the column variable. The entries for row variables
-	 * must be null.
+	 * The tableaux columns indexed by matrix position. For each column variable gives the sorted matrix positions of
+	 * the row variables, where the tableaux row contains the column variable. The entries for row variables must be
+	 * null.
 	 */
-	final ArrayList<BitSet> mDependentRows;
+	final ArrayList<TableauxColumn> mTableauxColumns;
 	/** All non-basic integer variables. */
 	final Set<LinVar> mIntVars;
 	/** The literals that will be propagated. */
@@ -120,12 +171,23 @@ public class LinArSolve implements ITheory {
 	int mNumPivots;
 	/** Pivot counter. */
 	int mNumPivotsBland;
+	/** Number of pivots and time to select them for each pivot rule. */
+	final int[] mNumPivotsRule = new int[PivotRule.values().length];
+	final long[] mPivotRuleTime = new long[PivotRule.values().length];
+	/** Number of pivots whose rows were updated in parallel. */
+	int mNumParallelPivots;
+	/** Number of pivots in the floating point simplex. */
+	int mNumFloatPivots;
+	/** Number of checks where the basis of the floating point simplex was feasible. */
+	int mNumFloatCertified;
 	/** Time needed for pivoting operations. */
 	long mPivotTime;
 	/** Time needed for fixOobs (including searching for pivot). */
 	long mFixTime;
 	/** Number of literals created due to composites. */
 	int mCompositeCreateLit;
+	/** Number of bounds propagated from the composite bounds of a row. */
+	int mNumCompositeBounds;
 
 	int mCountGetUpperBound;
 	long mTimeGetUpperBound;
@@ -147,11 +209,53 @@ public class LinArSolve implements ITheory {
 	 * The variables for which we need to recompute the composite bounds.
 	 */
 	private final BitSet mDirty;
+	/**
+	 * Scratch accumulators for the real part of the composite bounds. They are reused for every row to avoid
+	 * allocating intermediate numbers.
+	 */
+	private final MutableRational mUpperScratch = new MutableRational(0, 1);
+	private final MutableRational mLowerScratch = new MutableRational(0, 1);
 	private LinVar mConflictVar;
 	private Rational mEps;
 
 	/** Are we in a check-sat? */
 	private boolean mInCheck = false;
+	/** Should the floating point simplex search a basis before the exact pivoter runs? */
+	private boolean mFloatSimplex = false;
+	/** The strategy to make the integer variables integral. */
+	private IntBranching mIntBranching = IntBranching.CUTS;
+	/** Should the integer bounds be tightened before the search? */
+	private boolean mPresolve = false;
+	/** The number of threads that update the tableaux rows in a pivot step. */
+	private int mPivotThreads = 1;
+	/** The rule to select the pivot steps. */
+	private PivotRule mPivotRuleKind = PivotRule.SOI;
+	IPivotRule mPivotRule = mPivotRuleKind.create();
+	/**
+	 * Should row variables created in a popped scope stay in the tableaux? They are only kept if they only use
+	 * variables of the remaining scopes. If they are created again, they are reused with their current row.
+	 */
+	private boolean mKeepRows = false;
+	/**
+	 * The kept row variables that were reused, by the scope they were reused in. They become dormant again when that
+	 * scope is popped.
+	 */
+	private final ScopedArrayList<LinVar> mReusedRows = new ScopedArrayList<>();
+	/** Number of row variables kept on pop and number of kept row variables that were reused. */
+	int mNumKeptRows;
+	int mNumReusedRows;
+	/** The number of presolve rounds left in the current check-sat. */
+	private int mPresolveRounds = 0;
+	/**
+	 * The variable of the last branch and the integer infeasibility before the branch. They are used to update the
+	 * pseudo cost of the variable at the next branch.
+	 */
+	private LinVar mLastBranchVar;
+	private double mLastBranchFrac;
+	private double mLastInfeasibility;
+	/** Number of bounds tightened and number of free singleton columns moved into the basis by the presolve step. */
+	int mNumPresolveBounds;
+	int mNumPresolvePivots;
 	/**
 	 * Basic initialization.
 	 * @param engine DPLLEngine this theory is used in.
@@ -160,7 +264,7 @@ public class LinArSolve implements ITheory {
 		mClausifier = clausifier;
 		mLinvars = new ScopedArrayList<>();
 		mTableaux = new ArrayList<>();
-		mDependentRows = new ArrayList<>();
+		mTableauxColumns = new ArrayList<>();
 		mIntVars = new LinkedHashSet<>();
 		mDirty = new BitSet();
 		mProplist = new ArrayDeque<>();
@@ -185,6 +289,74 @@ public class LinArSolve implements ITheory {
 		return mClausifier.getLogger();
 	}
 
+	/**
+	 * Enable or disable the floating point simplex.
+	 *
+	 * @param floatSimplex
+	 *            true if a floating point simplex should search a feasible basis before the exact pivoter runs.
+	 */
+	public void setFloatSimplex(final boolean floatSimplex) {
+		mFloatSimplex = floatSimplex;
+	}
+
+	/**
+	 * Configure the handling of integer variables.
+	 *
+	 * @param branching
+	 *            the strategy to make the integer variables integral.
+	 * @param presolve
+	 *            true if the integer bounds should be tightened once per check-sat before the search.
+	 */
+	public void setIntegerOptions(final IntBranching branching, final boolean presolve) {
+		mIntBranching = branching;
+		mPresolve = presolve;
+	}
+
+	/**
+	 * Enable or disable keeping the rows of popped scopes. This must not be changed after the first push.
+	 *
+	 * @param keepRows
+	 *            true if the row variables created in a popped scope should stay in the tableaux for reuse.
+	 */
+	public void setKeepRows(final boolean keepRows) {
+		mKeepRows = keepRows;
+	}
+
+	/**
+	 * Set the rule that selects the pivot steps.
+	 *
+	 * @param rule
+	 *            the pivot rule.
+	 */
+	public void setPivotRule(final PivotRule rule) {
+		mPivotRuleKind = rule;
+		mPivotRule = rule.create();
+	}
+
+	/**
+	 * Set the number of threads that update the dependent tableaux rows of large pivot steps in parallel.
+	 *
+	 * @param threads
+	 *            the number of threads; 1 updates the rows sequentially.
+	 */
+	public void setPivotThreads(final int threads) {
+		mPivotThreads = Math.max(threads, 1);
+	}
+
+	/**
+	 * Count a pivot step chosen by the current pivot rule.
+	 */
+	void countRulePivot() {
+		mNumPivotsRule[mPivotRuleKind.ordinal()]++;
+	}
+
+	/**
+	 * Add the time the current pivot rule needed to choose a step.
+	 */
+	void addPivotRuleTime(final long time) {
+		mPivotRuleTime[mPivotRuleKind.ordinal()] += time;
+	}
+
 	/// --- Assertion check routines ---
 	private boolean checkClean() {
 		if (Config.EXPENSIVE_ASSERTS) {
@@ -202,6 +374,7 @@ public class LinArSolve implements ITheory {
 						|| v.getDiseq(v.getTightUpperBound().mReal) == null;
 				assert v.checkReasonChains();
 			}
+			assert checkColumns();
 		}
 		return true;
 	}
@@ -216,6 +389,38 @@ public class LinArSolve implements ITheory {
 		return true;
 	}
 
+	/**
+	 * Check that the column index agrees with the tableaux rows. Every column must contain exactly the row variables
+	 * whose row has an entry for this column.
+	 *
+	 * @return true if the column index is consistent.
+	 */
+	boolean checkColumns() {
+		int numRowEntries = 0;
+		int numColumnEntries = 0;
+		for (final LinVar v : mLinvars) {
+			if (v.mBasic) {
+				if (mTableauxColumns.get(v.mMatrixpos) != null) {
+					return false;
+				}
+				final TableauxRow row = mTableaux.get(v.mMatrixpos);
+				for (int i = 1; i < row.size(); i++) {
+					final TableauxColumn column = mTableauxColumns.get(row.getRawIndex(i));
+					if (column == null || !column.contains(v.mMatrixpos)) {
+						return false;
+					}
+				}
+				numRowEntries += row.size() - 1;
+			} else {
+				if (mTableaux.get(v.mMatrixpos) != null) {
+					return false;
+				}
+				numColumnEntries += mTableauxColumns.get(v.mMatrixpos).size();
+			}
+		}
+		return numRowEntries == numColumnEntries;
+	}
+
 	/// --- Introduction of variables ---
 	/**
 	 * Add a new non-basic variable.
@@ -228,7 +433,7 @@ public class LinArSolve implements ITheory {
 		mClausifier.getLogger().debug("Creating var %s", name);
 		final LinVar var = new LinVar(name, isint, level, mLinvars.size());
 		mLinvars.add(var);
-		mDependentRows.add(new BitSet());
+		mTableauxColumns.add(new TableauxColumn());
 		mTableaux.add(null);
 		if (isint) {
 			mIntVars.add(var);
@@ -250,6 +455,15 @@ public class LinArSolve implements ITheory {
 			return var;
 		}
 		LinVar var = mBasics.get(factors);
+		if (var != null && var.mDormant) {
+			// The row survived a pop. It is still up to date, but its bounds must be refined again.
+			var.mDormant = false;
+			mReusedRows.add(var);
+			mNumReusedRows++;
+			if (var.mBasic) {
+				mDirty.set(var.mMatrixpos);
+			}
+		}
 		if (var == null) {
 			// Linear combination not known yet
 			final LinVar[] vars = new LinVar[factors.size()];
@@ -269,19 +483,21 @@ public class LinArSolve implements ITheory {
 			var = new LinVar(new LinTerm(vars, coeffs), isInt, mClausifier.getStackLevel(), index);
 			mBasics.put(factors, var);
 			mLinvars.add(var);
-			mDependentRows.add(null);
+			mTableauxColumns.add(null);
 			mTableaux.add(new TableauxRow(var, curcoeffs));
 			mDirty.set(index);
 			mClausifier.getLogger().debug("Generated LinVar %1$s", var);
 			var.mBasic = true;
-			ExactInfinitesimalNumber curValue = ExactInfinitesimalNumber.ZERO;
+			final MutableRational realValue = new MutableRational(0, 1);
+			final MutableRational epsValue = new MutableRational(0, 1);
 			for (final MatrixEntry entry : var.getTableauxRow(this)) {
 				final LinVar colVar = entry.getColumn();
-				final Rational coeff = Rational.valueOf(entry.getCoeff(), entry.getHeadCoeff().negate());
-				curValue = curValue.add(colVar.getValue().mul(coeff));
-				mDependentRows.get(colVar.mMatrixpos).set(var.mMatrixpos);
+				final Rational coeff = entry.getRationalCoeff();
+				realValue.addmul(colVar.getValue().getRealValue(), coeff);
+				epsValue.addmul(colVar.getValue().getEpsilon(), coeff);
+				mTableauxColumns.get(colVar.mMatrixpos).add(var.mMatrixpos);
 			}
-			var.setValue(curValue);
+			var.setValue(new ExactInfinitesimalNumber(realValue.toRational(), epsValue.toRational()));
 			assert var.checkCoeffChain(this);
 		}
 		return var;
@@ -321,8 +537,7 @@ public class LinArSolve implements ITheory {
 		for (final MatrixEntry entry : updateVar.getTableauxColumn(this)) {
 			final LinVar var = entry.getRow();
 			assert var.mBasic;
-			final Rational coeff = Rational.valueOf(entry.getCoeff(), entry.getHeadCoeff().negate());
-			var.addValue(diff.mul(coeff));
+			var.addValue(diff, entry.getRationalCoeff());
 			assert !var.getValue().getRealValue().denominator().equals(BigInteger.ZERO);
 			if (var.outOfBounds()) {
 				mOob.add(var);
@@ -349,14 +564,15 @@ public class LinArSolve implements ITheory {
 		}
 
 		assert !(updateVar.getValue().getRealValue().denominator().equals(BigInteger.ZERO));
-		final BitSet dependencies = mDependentRows.get(updateVar.mMatrixpos);
-		mDirty.or(dependencies);
+		final TableauxColumn column = mTableauxColumns.get(updateVar.mMatrixpos);
+		for (int i = 0; i < column.size(); i++) {
+			mDirty.set(column.getRow(i));
+		}
 		for (final MatrixEntry entry : updateVar.getTableauxColumn(this)) {
 			final LinVar var = entry.getRow();
 			assert var.mBasic;
-			final Rational coeff = Rational.valueOf(entry.getCoeff(), entry.getHeadCoeff().negate());
 			if (changeVar) {
-				var.addValue(diff.mul(coeff));
+				var.addValue(diff, entry.getRationalCoeff());
 			}
 			assert !var.getValue().getRealValue().denominator().equals(BigInteger.ZERO);
 			if (var.outOfBounds()) {
@@ -516,25 +732,35 @@ public class LinArSolve implements ITheory {
 		// recheck bound propagations
 		for (final LinVar lv : mLinvars) {
 			if (lv.hasTightUpperBound()) {
-				for (final BoundConstraint bc : lv.mConstraints.tailMap(lv.getTightUpperBound(), true).values()) {
+				final BoundIndex<BoundConstraint> constraints = lv.mConstraints;
+				for (int i = constraints.ceilingIndex(lv.getTightUpperBound()); i < constraints.size(); i++) {
+					final BoundConstraint bc = constraints.getAtom(i);
 					assert lv.getTightUpperBound().lesseq(bc.getBound());
 					if (bc.getDecideStatus() == null) {
 						mProplist.add(bc);
 					}
 				}
-				for (final LAEquality laeq : lv.mEqualities.tailMap(lv.getTightUpperBound(), false).values()) {
+				final BoundIndex<LAEquality> equalities = lv.mEqualities;
+				for (int i = equalities.higherIndex(lv.getTightUpperBound()); i < equalities.size(); i++) {
+					final LAEquality laeq = equalities.getAtom(i);
 					if (laeq.getDecideStatus() == null) {
 						mProplist.add(laeq.negate());
 					}
 				}
 			}
 			if (lv.hasTightLowerBound()) {
-				for (final BoundConstraint bc : lv.mConstraints.headMap(lv.getTightLowerBound(), false).values()) {
+				final BoundIndex<BoundConstraint> constraints = lv.mConstraints;
+				final int endConstraints = constraints.ceilingIndex(lv.getTightLowerBound());
+				for (int i = 0; i < endConstraints; i++) {
+					final BoundConstraint bc = constraints.getAtom(i);
 					if (bc.getDecideStatus() == null) {
 						mProplist.add(bc.negate());
 					}
 				}
-				for (final LAEquality laeq : lv.mEqualities.headMap(lv.getTightLowerBound(), false).values()) {
+				final BoundIndex<LAEquality> equalities = lv.mEqualities;
+				final int endEqualities = equalities.ceilingIndex(lv.getTightLowerBound());
+				for (int i = 0; i < endEqualities; i++) {
+					final LAEquality laeq = equalities.getAtom(i);
 					if (laeq.getDecideStatus() == null) {
 						mProplist.add(laeq.negate());
 					}
@@ -551,7 +777,7 @@ public class LinArSolve implements ITheory {
 			final int matrixPos = mDirty.nextSetBit(0);
 			final LinVar var = mLinvars.get(matrixPos);
 			mDirty.clear(matrixPos);
-			if (!var.mBasic) {
+			if (!var.mBasic || var.mDormant) {
 				continue;
 			}
 			long time;
@@ -563,7 +789,7 @@ public class LinArSolve implements ITheory {
 			final TableauxRow row = mTableaux.get(var.mMatrixpos);
 			final int sign = -row.getRawCoeff(0).signum();
 			for (int i = 1; i < row.size(); i++) {
-				final int coeffSign = row.getRawCoeff(i).signum();
+				final int coeffSign = row.getRawCoeffSignum(i);
 				final LinVar colvar = mLinvars.get(row.getRawIndex(i));
 				if (hasUpper) {
 					final InfinitesimalNumber colBound = coeffSign == sign ? colvar.getUpperBound()
@@ -585,29 +811,40 @@ public class LinArSolve implements ITheory {
 				time = System.nanoTime();
 			}
 			if (hasUpper || hasLower) {
-				InfinitesimalNumber upperBound = InfinitesimalNumber.ZERO;
-				InfinitesimalNumber lowerBound = InfinitesimalNumber.ZERO;
-				for (final MatrixEntry entry : var.getTableauxRow(this)) {
-					final Rational coeff = Rational.valueOf(entry.getCoeff(), entry.getHeadCoeff().negate());
-					final LinVar colvar = entry.getColumn();
+				prepareRowCache(var);
+				final LinVar[] rowVars = var.mCachedRowVars;
+				final Rational[] coeffs = var.mCachedRowCoeffs;
+				/*
+				 * All summands of the epsilon part have the same sign (upper bounds have non-positive epsilons, lower
+				 * bounds non-negative epsilons), so we can sum them up as int and normalize once at the end.
+				 */
+				mUpperScratch.setValue(Rational.ZERO);
+				mLowerScratch.setValue(Rational.ZERO);
+				int upperEps = 0;
+				int lowerEps = 0;
+				for (int i = 0; i < rowVars.length; i++) {
+					final Rational coeff = coeffs[i];
+					final LinVar colvar = rowVars[i];
 					if (hasUpper) {
 						final InfinitesimalNumber colBound = coeff.signum() > 0 ? colvar.getUpperBound()
 								: colvar.getLowerBound();
-						upperBound = upperBound.add(colBound.mul(coeff));
+						mUpperScratch.addmul(colBound.mReal, coeff);
+						upperEps += colBound.mEps * coeff.signum();
 					}
 					if (hasLower) {
 						final InfinitesimalNumber colBound = coeff.signum() > 0 ? colvar.getLowerBound()
 								: colvar.getUpperBound();
-						lowerBound = lowerBound.add(colBound.mul(coeff));
+						mLowerScratch.addmul(colBound.mReal, coeff);
+						lowerEps += colBound.mEps * coeff.signum();
 					}
 				}
 				Clause conflict = null;
 				if (hasUpper) {
-					conflict = propagateBound(var, upperBound, true);
+					conflict = propagateBound(var, mUpperScratch, upperEps, true);
 				}
 				if (hasLower) {
 					if (conflict == null) {
-						conflict = propagateBound(var, lowerBound, false);
+						conflict = propagateBound(var, mLowerScratch, lowerEps, false);
 					} else {
 						mDirty.set(var.mMatrixpos);
 					}
@@ -918,15 +1155,17 @@ public class LinArSolve implements ITheory {
 				mOob.add(var);
 			}
 
-			for (final BoundConstraint bc
-					: var.mConstraints.subMap(bound, oldBound).values()) {
+			final BoundIndex<BoundConstraint> constraints = var.mConstraints;
+			final int endConstraints = constraints.ceilingIndex(oldBound);
+			for (int i = constraints.ceilingIndex(bound); i < endConstraints; i++) {
+				final BoundConstraint bc = constraints.getAtom(i);
 				assert var.getTightUpperBound().lesseq(bc.getBound());
 				mProplist.add(bc);
 			}
-			for (final LAEquality laeq
-					: var.mEqualities.subMap(bound.add(var.getEpsilon()),
-							oldBound.add(var.getEpsilon())).values()) {
-				mProplist.add(laeq.negate());
+			final BoundIndex<LAEquality> equalities = var.mEqualities;
+			final int endEqualities = equalities.ceilingIndex(oldBound.add(var.getEpsilon()));
+			for (int i = equalities.ceilingIndex(bound.add(var.getEpsilon())); i < endEqualities; i++) {
+				mProplist.add(equalities.getAtom(i).negate());
 			}
 		} else {
 			// lower
@@ -960,14 +1199,17 @@ public class LinArSolve implements ITheory {
 				mOob.add(var);
 			}
 
-			for (final BoundConstraint bc
-					: var.mConstraints.subMap(oldBound, bound).values()) {
+			final BoundIndex<BoundConstraint> constraints = var.mConstraints;
+			final int endConstraints = constraints.ceilingIndex(bound);
+			for (int i = constraints.ceilingIndex(oldBound); i < endConstraints; i++) {
+				final BoundConstraint bc = constraints.getAtom(i);
 				assert bc.getInverseBound().lesseq(var.getTightLowerBound());
 				mProplist.add(bc.negate());
 			}
-			for (final LAEquality laeq
-					: var.mEqualities.subMap(oldBound, bound).values()) {
-				mProplist.add(laeq.negate());
+			final BoundIndex<LAEquality> equalities = var.mEqualities;
+			final int endEqualities = equalities.ceilingIndex(bound);
+			for (int i = equalities.ceilingIndex(oldBound); i < endEqualities; i++) {
+				mProplist.add(equalities.getAtom(i).negate());
 			}
 		}
 		final InfinitesimalNumber ubound = var.getTightUpperBound();
@@ -1098,6 +1340,17 @@ public class LinArSolve implements ITheory {
 			if (!mInCheck) {
 				return null;
 			}
+			if (mPresolveRounds > 0) {
+				// let the engine assert the propagated bounds before the next round
+				mPresolveRounds--;
+				conflict = presolveRound();
+				if (conflict != null) {
+					return conflict;
+				}
+				if (checkPendingPropagation()) {
+					return null;
+				}
+			}
 			conflict = fixOobs();
 			if (conflict != null) {
 				return conflict;
@@ -1200,6 +1453,7 @@ public class LinArSolve implements ITheory {
 		if (logger.isInfoEnabled()) {
 			logger.info("Number of Bland pivoting-Operations: "
 					+ mNumPivotsBland + "/" + mNumPivots);
+			logger.info("Pivots of rule " + mPivotRuleKind + ": " + mNumPivotsRule[mPivotRuleKind.ordinal()]);
 			int basicVars = 0;
 			for (final LinVar var : mLinvars) {
 				if (!var.isInitiallyBasic()) {
@@ -1214,10 +1468,13 @@ public class LinArSolve implements ITheory {
 			logger.info("Time for bound setting    : " + mPropBoundSetTime / 1000000);
 			logger.info("Time for bound comp(back) : " + mBacktrackPropTime / 1000000);
 			logger.info("Composite::createLit: " + mCompositeCreateLit);
+			logger.info("Composite bounds: " + mNumCompositeBounds);
 			logger.info("Number of cuts: " + mNumCuts);
 			logger.info("Time for cut-generation: " + mCutGenTime / 1000000);
 			logger.info("Count/Time for getUpperBound: %d / %d.%03d", mCountGetUpperBound, mTimeGetUpperBound / 1000000000, mTimeGetUpperBound / 1000000 % 1000);
 			logger.info("Number of branchings: " + mNumBranches);
+			logger.info("Presolve bounds/pivots: " + mNumPresolveBounds + "/" + mNumPresolvePivots);
+			logger.info("Kept/reused rows: " + mNumKeptRows + "/" + mNumReusedRows);
 		}
 	}
 
@@ -1236,6 +1493,7 @@ public class LinArSolve implements ITheory {
 		}
 		final LinVar basic = mLinvars.get(rowMatrixPos);
 		final LinVar nonbasic = mLinvars.get(colMatrixPos);
+		basic.mLastPivot = nonbasic.mLastPivot = mNumPivots;
 		final TableauxRow row = mTableaux.get(rowMatrixPos);
 		if (mClausifier.getLogger().isDebugEnabled()) {
 			mClausifier.getLogger().debug("pivot " + basic + " / " + nonbasic);
@@ -1255,13 +1513,15 @@ public class LinArSolve implements ITheory {
 		mTableaux.set(rowMatrixPos, null);
 		row.swapRowCol(colMatrixPos);
 		mTableaux.set(colMatrixPos, row);
-		final BitSet todo = mDependentRows.set(colMatrixPos, null);
-		mDependentRows.set(rowMatrixPos, new BitSet());
+		final TableauxColumn todo = mTableauxColumns.set(colMatrixPos, null);
+		mTableauxColumns.set(rowMatrixPos, new TableauxColumn());
 		for (int i = 1; i < row.size(); i++) {
-			final BitSet dependencies = mDependentRows.get(row.getRawIndex(i));
-			assert row.getRawIndex(i) == rowMatrixPos || dependencies.get(rowMatrixPos);
-			dependencies.clear(rowMatrixPos);
-			dependencies.set(colMatrixPos);
+			final int colPos = row.getRawIndex(i);
+			if (colPos == rowMatrixPos) {
+				mTableauxColumns.get(colPos).add(colMatrixPos);
+			} else {
+				mTableauxColumns.get(colPos).replace(rowMatrixPos, colMatrixPos);
+			}
 		}
 		basic.mCachedRowVars = null;
 		basic.mCachedRowCoeffs = null;
@@ -1270,13 +1530,18 @@ public class LinArSolve implements ITheory {
 		assert nonbasic.mCachedRowCoeffs == null;
 		assert nonbasic.checkCoeffChain(this);
 
-		todo.clear(rowMatrixPos);
+		todo.remove(rowMatrixPos);
 		// Eliminate nonbasic from all equations
-		while (!todo.isEmpty()) {
-			final int rowIdx = todo.nextSetBit(0);
+		final boolean parallel = mPivotThreads > 1 && (long) todo.size() * row.size() >= Config.PARALLEL_PIVOT_MIN_WORK;
+		if (parallel) {
+			addRowParallel(todo, row);
+		}
+		for (int i = 0; i < todo.size(); i++) {
+			final int rowIdx = todo.getRow(i);
 			final LinVar rowVar = mLinvars.get(rowIdx);
-			todo.clear(rowIdx);
-			mTableaux.get(rowIdx).addRow(this, row);
+			if (!parallel) {
+				mTableaux.get(rowIdx).addRow(this, row);
+			}
 			rowVar.mCachedRowVars = null;
 			rowVar.mCachedRowCoeffs = null;
 			mDirty.set(rowVar.mMatrixpos);
@@ -1288,6 +1553,47 @@ public class LinArSolve implements ITheory {
 		// mClausifier.getLogger().debug("Pivoting took " + (System.nanoTime() - starttime));
 	}
 
+	/**
+	 * The pool that runs the row updates of parallel pivot steps. It is shared by all solver instances, so it needs no
+	 * shutdown when a solver is discarded. Its worker threads are daemon threads that terminate when they are idle.
+	 * The pool is created on the first parallel pivot step.
+	 */
+	private static class PivotPool {
+		static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Add the pivot row to all dependent rows in parallel. Every task updates every n-th row and records the changes
+	 * of the tableaux columns, which are applied afterwards, since the columns are shared between the rows.
+	 *
+	 * @param todo
+	 *            the matrix positions of the dependent rows.
+	 * @param pivotRow
+	 *            the new row of the variable that entered the basis.
+	 */
+	private void addRowParallel(final TableauxColumn todo, final TableauxRow pivotRow) {
+		mNumParallelPivots++;
+		final int numTasks = Math.min(mPivotThreads, todo.size());
+		final TableauxRow.ColumnChanges[] changes = new TableauxRow.ColumnChanges[numTasks];
+		final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[numTasks];
+		for (int t = 0; t < numTasks; t++) {
+			final int firstRow = t;
+			final TableauxRow.ColumnChanges taskChanges = new TableauxRow.ColumnChanges();
+			changes[t] = taskChanges;
+			tasks[t] = PivotPool.POOL.submit(() -> {
+				for (int i = firstRow; i < todo.size(); i += numTasks) {
+					mTableaux.get(todo.getRow(i)).addRow(this, pivotRow, taskChanges);
+				}
+			});
+		}
+		for (final ForkJoinTask<?> task : tasks) {
+			task.join();
+		}
+		for (final TableauxRow.ColumnChanges taskChanges : changes) {
+			taskChanges.apply(this);
+		}
+	}
+
 	/**
 	 * Ensure that all integer variables have integral values.
 	 * @return Conflict clause or <code>null</code> if formula is satisfiable.
@@ -1312,6 +1618,9 @@ public class LinArSolve implements ITheory {
 
 		// Satisfiable in the reals
 		assert mOob.isEmpty();
+		if (mIntBranching != IntBranching.CUTS && branch()) {
+			return null;
+		}
 		long start;
 		if (Config.PROFILE_TIME) {
 			start = System.nanoTime();
@@ -1332,6 +1641,231 @@ public class LinArSolve implements ITheory {
 		return null;
 	}
 
+	/**
+	 * Suggest the branch <code>x <= floor(value)</code> for a fractional integer variable x. The variable is chosen
+	 * according to {@link #mIntBranching}. Before choosing, the pseudo cost of the previous branch variable is updated
+	 * with the change of the integer infeasibility, i.e., the sum of the distances of the integer variables to the
+	 * nearest integer.
+	 *
+	 * Only variables with a lower and an upper bound are chosen, since branch and bound need not terminate for
+	 * unbounded variables. If no such variable is fractional, the cuts from proofs are used instead.
+	 *
+	 * @return true if a branch was suggested.
+	 */
+	private boolean branch() {
+		double infeasibility = 0;
+		double avgCostSum = 0;
+		int avgCostCount = 0;
+		for (final LinVar lv : mIntVars) {
+			infeasibility += fractionality(lv.getValue());
+			if (lv.mPseudoCostCount > 0) {
+				avgCostSum += lv.mPseudoCostSum / lv.mPseudoCostCount;
+				avgCostCount++;
+			}
+		}
+		if (mLastBranchVar != null) {
+			mLastBranchVar.mPseudoCostSum += Math.max(0, mLastInfeasibility - infeasibility) / mLastBranchFrac;
+			mLastBranchVar.mPseudoCostCount++;
+		}
+		// Variables without history get the average pseudo cost.
+		final double defaultCost = avgCostCount == 0 ? 1.0 : avgCostSum / avgCostCount;
+		LinVar best = null;
+		double bestFrac = 0;
+		double bestScore = -1;
+		for (final LinVar lv : mIntVars) {
+			final double frac = fractionality(lv.getValue());
+			if (frac == 0 || lv.getTightUpperBound().isInfinity() || lv.getTightLowerBound().isInfinity()) {
+				continue;
+			}
+			double score = frac;
+			if (mIntBranching == IntBranching.PSEUDO_COST) {
+				score *= lv.mPseudoCostCount == 0 ? defaultCost : lv.mPseudoCostSum / lv.mPseudoCostCount;
+			}
+			if (score > bestScore || (score == bestScore && frac > bestFrac)) {
+				best = lv;
+				bestFrac = frac;
+				bestScore = score;
+			}
+		}
+		if (best == null) {
+			mLastBranchVar = null;
+			return false;
+		}
+		final ExactInfinitesimalNumber value = best.getValue();
+		Rational floor = value.getRealValue().floor();
+		if (value.getRealValue().isIntegral() && value.getEpsilon().signum() < 0) {
+			floor = floor.sub(Rational.ONE);
+		}
+		final Literal branch = generateConstraint(best, floor, false, false);
+		assert branch.getAtom().getDecideStatus() == null;
+		mClausifier.getLogger().debug("branch on %s", branch);
+		mSuggestions.add(branch);
+		mNumBranches++;
+		mLastBranchVar = best;
+		mLastBranchFrac = bestFrac;
+		mLastInfeasibility = infeasibility;
+		return true;
+	}
+
+	/**
+	 * Compute the distance of a value to the nearest integer. A value that is only an infinitesimal away from an
+	 * integer gets a tiny positive distance.
+	 */
+	private static double fractionality(final ExactInfinitesimalNumber value) {
+		final Rational frac = value.getRealValue().frac();
+		if (frac.signum() == 0) {
+			return value.getEpsilon().signum() == 0 ? 0 : Double.MIN_NORMAL;
+		}
+		final Rational dist = frac.compareTo(Rational.ONE.sub(frac)) <= 0 ? frac : Rational.ONE.sub(frac);
+		return dist.numerator().doubleValue() / dist.denominator().doubleValue();
+	}
+
+	/**
+	 * Move every free column variable that occurs in only one row into the basis. It has no bounds and no
+	 * constraints, so the row can always be satisfied by this variable and is never chosen by the pivoter again.
+	 */
+	private void pivotFreeSingletons() {
+		for (int col = 0; col < mLinvars.size(); col++) {
+			final LinVar var = mLinvars.get(col);
+			if (!var.mBasic && var.isCurrentlyUnconstrained() && var.unconstrained()
+					&& (var.mDisequalities == null || var.mDisequalities.isEmpty())
+					&& mTableauxColumns.get(col).size() == 1) {
+				final int row = mTableauxColumns.get(col).getRow(0);
+				if (!var.mIsInt || isIntegralPivot(row, col)) {
+					final LinVar rowVar = mLinvars.get(row);
+					pivot(row, col);
+					mNumPresolvePivots++;
+					// the old row variable is now a column variable and must respect its bounds
+					if (rowVar.outOfBounds()) {
+						final InfinitesimalNumber bound = rowVar.getValue().compareTo(rowVar.getUpperBound()) > 0
+								? rowVar.getUpperBound() : rowVar.getLowerBound();
+						updateVariableValue(rowVar, new ExactInfinitesimalNumber(bound));
+					}
+					mOob.remove(rowVar);
+				}
+			}
+		}
+	}
+
+	/**
+	 * One round of the integer presolve. Every row <code>sum d_j y_j = 0</code> (including the row variable) is
+	 * used to derive bounds <code>y_k <= -sum_{j != k} d_j/d_k y_j</code> (resp. <code>>=</code>) for its integer
+	 * column variables <code>y_k</code>. The derived bounds are rounded to integers and stored as composite reasons,
+	 * so they are explained like the bound refinements of the row variables and are removed on backtracking. As for
+	 * the bound refinements, only the literal bounds are used. The bound atoms implied by the derived bounds are
+	 * propagated by the engine and are used in the next round.
+	 *
+	 * @return a conflict clause or null.
+	 */
+	private Clause presolveRound() {
+		final int oldNumBounds = mNumPresolveBounds;
+		for (int i = 0; i < mLinvars.size(); i++) {
+			final LinVar basic = mLinvars.get(i);
+			if (!basic.mBasic) {
+				continue;
+			}
+			prepareRowCache(basic);
+			final LinVar[] rowVars = basic.mCachedRowVars;
+			if (rowVars.length >= Config.PRESOLVE_MAX_ROW_LENGTH) {
+				continue;
+			}
+			final int size = rowVars.length + 1;
+			final LinVar[] vars = new LinVar[size];
+			final Rational[] coeffs = new Rational[size];
+			vars[0] = basic;
+			coeffs[0] = Rational.ONE;
+			for (int j = 1; j < size; j++) {
+				vars[j] = rowVars[j - 1];
+				coeffs[j] = basic.mCachedRowCoeffs[j - 1].negate();
+			}
+			// the bounds of the row variable are already computed by the bound refinement
+			for (int k = 1; k < size; k++) {
+				if (!vars[k].mIsInt) {
+					continue;
+				}
+				for (final boolean isUpper : new boolean[] { true, false }) {
+					final CompositeReason reason = deriveBound(vars, coeffs, k, isUpper);
+					if (reason != null) {
+						reason.getLastLiteral().addDependent(reason);
+						mNumPresolveBounds++;
+						final Clause conflict = setBound(reason);
+						if (conflict != null) {
+							return conflict;
+						}
+					}
+				}
+			}
+		}
+		if (mNumPresolveBounds == oldNumBounds) {
+			mPresolveRounds = 0;
+		}
+		return checkPendingBoundPropagations();
+	}
+
+	/**
+	 * Check that moving a column variable into the basis keeps the tableaux integral, i.e., all coefficients of the
+	 * row are divisible by the coefficient of the column variable.
+	 */
+	private boolean isIntegralPivot(final int rowPos, final int colPos) {
+		final TableauxRow row = mTableaux.get(rowPos);
+		BigInteger colCoeff = null;
+		for (int i = 1; i < row.size(); i++) {
+			if (row.getRawIndex(i) == colPos) {
+				colCoeff = row.getRawCoeff(i);
+			}
+			if (!mLinvars.get(row.getRawIndex(i)).mIsInt) {
+				return false;
+			}
+		}
+		if (colCoeff == null || !mLinvars.get(rowPos).mIsInt) {
+			return false;
+		}
+		for (int i = 0; i < row.size(); i++) {
+			if (row.getRawCoeff(i).mod(colCoeff.abs()).signum() != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Derive a bound for <code>vars[k]</code> from the equation <code>sum coeffs[j] * vars[j] = 0</code> and the
+	 * current literal bounds of the other variables.
+	 *
+	 * @return the composite reason for the bound if it is stronger than the current bound, null otherwise.
+	 */
+	private CompositeReason deriveBound(final LinVar[] vars, final Rational[] coeffs, final int k,
+			final boolean isUpper) {
+		final LinVar var = vars[k];
+		final Rational factor = coeffs[k].inverse().negate();
+		final LAReason[] reasons = new LAReason[vars.length - 1];
+		final Rational[] reasonCoeffs = new Rational[vars.length - 1];
+		InfinitesimalNumber bound = InfinitesimalNumber.ZERO;
+		LiteralReason lastLiteral = null;
+		for (int j = 0, r = 0; j < vars.length; j++) {
+			if (j == k) {
+				continue;
+			}
+			final Rational coeff = coeffs[j].mul(factor);
+			final LiteralReason reason = coeff.isNegative() == isUpper ? vars[j].mLowerLiteral : vars[j].mUpperLiteral;
+			if (reason == null) {
+				return null;
+			}
+			bound = bound.addmul(reason.getBound(), coeff);
+			reasons[r] = reason;
+			reasonCoeffs[r] = coeff;
+			r++;
+			final LiteralReason lastOfThis = reason.getLastLiteral();
+			if (lastLiteral == null || lastOfThis.getStackPosition() > lastLiteral.getStackPosition()) {
+				lastLiteral = lastOfThis;
+			}
+		}
+		if (isUpper ? !bound.floor().less(var.getTightUpperBound()) : !var.getTightLowerBound().less(bound.ceil())) {
+			return null;
+		}
+		return new CompositeReason(var, bound, isUpper, reasons, reasonCoeffs, lastLiteral);
+	}
+
 	/**
 	 * Check whether all constraints can be satisfied. Here, we use the set of
 	 * all variables outside their bounds. Rest of this algorithm is copied
@@ -1362,6 +1896,9 @@ public class LinArSolve implements ITheory {
 			return null;
 		}
 
+		if (mFloatSimplex) {
+			floatWarmStart();
+		}
 		final Clause conflict = new SOIPivoter(this).fixOobs();
 		if (conflict == null) {
 			mOob.clear();
@@ -1374,66 +1911,149 @@ public class LinArSolve implements ITheory {
 		return conflict;
 	}
 
+	/**
+	 * Search a feasible basis with the floating point simplex and pivot the exact tableaux into this basis. The column
+	 * variables are moved to the bounds chosen by the floating point simplex. The exact pivoter then certifies the
+	 * basis or repairs it.
+	 *
+	 * The floating point simplex works on a copy of the tableaux. It is only used if the tableaux is large and many
+	 * variables are out of bounds, since otherwise the exact pivoter needs only a few steps and copying the tableaux
+	 * costs more than it saves. If the floating point simplex does not find a feasible basis, the exact tableaux is
+	 * left unchanged.
+	 */
+	private void floatWarmStart() {
+		if (mOob.size() < Config.FLOAT_SIMPLEX_MIN_OOBS) {
+			return;
+		}
+		int numRows = 0;
+		for (final LinVar var : mLinvars) {
+			if (var.mBasic) {
+				numRows++;
+			}
+		}
+		if (numRows < Config.FLOAT_SIMPLEX_MIN_ROWS) {
+			return;
+		}
+		final FloatSimplex simplex = new FloatSimplex(this);
+		final boolean feasible = simplex.solve(numRows * Config.FLOAT_SIMPLEX_PIVOT_FACTOR);
+		mNumFloatPivots += simplex.getNumPivots();
+		if (!feasible || simplex.getNumPivots() == 0) {
+			return;
+		}
+		// Every pivot makes one more variable agree with the floating point basis, so this terminates.
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (final LinVar var : mLinvars) {
+				if (var.mBasic && !simplex.isBasic(var.mMatrixpos)) {
+					final TableauxRow row = mTableaux.get(var.mMatrixpos);
+					for (int i = 1; i < row.size(); i++) {
+						final int col = row.getRawIndex(i);
+						if (simplex.isBasic(col)) {
+							pivot(var.mMatrixpos, col);
+							changed = true;
+							break;
+						}
+					}
+				}
+			}
+		}
+		for (final LinVar var : mLinvars) {
+			if (!var.mBasic) {
+				final int status = simplex.getBoundStatus(var.mMatrixpos);
+				final InfinitesimalNumber bound =
+						status < 0 ? var.getLowerBound() : status > 0 ? var.getUpperBound() : null;
+				if (bound != null && !var.getValue().equals(bound)) {
+					updateVariableValue(var, new ExactInfinitesimalNumber(bound));
+				}
+			}
+		}
+		for (final LinVar var : mLinvars) {
+			if (var.mBasic && var.outOfBounds()) {
+				return;
+			}
+		}
+		mNumFloatCertified++;
+	}
+
+	/**
+	 * Compute the column variables and the coefficients of a tableaux row, unless they are still cached from a previous
+	 * call. The cache is cleared whenever the row is changed by a pivot step. The coefficient array is shared with the
+	 * composite reasons created for this row and must not be modified.
+	 *
+	 * @param basic
+	 *            the row variable.
+	 */
+	private void prepareRowCache(final LinVar basic) {
+		if (basic.mCachedRowCoeffs != null) {
+			return;
+		}
+		final TableauxRow row = mTableaux.get(basic.mMatrixpos);
+		final BigInteger denom = row.getRawCoeff(0).negate();
+		final int rowLength = row.size() - 1;
+		final LinVar[] rowVars = new LinVar[rowLength];
+		final Rational[] coeffs = new Rational[rowLength];
+		for (int i = 0; i < rowLength; i++) {
+			rowVars[i] = mLinvars.get(row.getRawIndex(i + 1));
+			coeffs[i] = Rational.valueOf(row.getRawCoeff(i + 1), denom);
+		}
+		basic.mCachedRowCoeffs = coeffs;
+		basic.mCachedRowVars = rowVars;
+	}
+
+	/**
+	 * Compare a composite bound given by its real and epsilon part with a bound of a variable.
+	 *
+	 * @return a negative number, zero, or a positive number if the composite bound is smaller, equal, or larger.
+	 */
+	private static int compareBound(final MutableRational real, final int eps, final InfinitesimalNumber bound) {
+		final int cmp = real.compareTo(bound.mReal);
+		return cmp != 0 ? cmp : InfinitesimalNumber.normEpsilon(eps) - bound.mEps;
+	}
+
 	/**
 	 * Propagate all literals that are implied by the composite bounds computed from the current tableaux. This function
 	 * creates a composite reason to remember why the bound was propagated and to explain the propagated literals later.
+	 * The bound is only materialized if it is stronger than the current bound of the variable.
 	 *
 	 * @param basic
 	 *            The variable on which literals are propagated
-	 * @param bound
-	 *            The new composite bound of the literal, computed from the tableaux.
+	 * @param real
+	 *            The real part of the new composite bound of the literal, computed from the tableaux.
+	 * @param eps
+	 *            The (unnormalized) epsilon part of the new composite bound.
 	 * @param isUpper
 	 *            True, if the bound is an upper bound for basic, false, otherwise.
 	 * @return A conflict clause if a conflict was found (one of the literals already set with different polarity).
 	 */
-	private Clause propagateBound(final LinVar basic, final InfinitesimalNumber bound, final boolean isUpper) {
+	private Clause propagateBound(final LinVar basic, final MutableRational real, final int eps,
+			final boolean isUpper) {
 		long start;
 		if (Config.PROFILE_TIME) {
 			start = System.nanoTime();
 		}
-		if (isUpper ? bound.less(basic.getTightUpperBound()) : basic.getTightLowerBound().less(bound)) {
-			final TableauxRow row = mTableaux.get(basic.mMatrixpos);
-			final BigInteger denom = row.getRawCoeff(0).negate();
-
-			LAReason[] reasons;
-			Rational[] coeffs;
+		if (isUpper ? compareBound(real, eps, basic.getTightUpperBound()) < 0
+				: compareBound(real, eps, basic.getTightLowerBound()) > 0) {
+			final InfinitesimalNumber bound =
+					new InfinitesimalNumber(real.toRational(), InfinitesimalNumber.normEpsilon(eps));
+			prepareRowCache(basic);
+			final LinVar[] rowVars = basic.mCachedRowVars;
+			final Rational[] coeffs = basic.mCachedRowCoeffs;
+			final LAReason[] reasons = new LAReason[rowVars.length];
 			LiteralReason lastLiteral = null;
-			if (basic.mCachedRowCoeffs == null) {
-				final int rowLength = row.size() - 1;
-				final LinVar[] rowVars = new LinVar[rowLength];
-				reasons = new LAReason[rowLength];
-				coeffs = new Rational[rowLength];
-				for (int i = 0; i < rowLength; i++) {
-					final LinVar nb = mLinvars.get(row.getRawIndex(i + 1));
-					final Rational coeff = Rational.valueOf(row.getRawCoeff(i + 1), denom);
-					rowVars[i] = nb;
-					reasons[i] = coeff.isNegative() == isUpper ? nb.mLowerLiteral : nb.mUpperLiteral;
-					coeffs[i] = coeff;
-					final LiteralReason lastOfThis = reasons[i].getLastLiteral();
-					if (lastLiteral == null
-						|| lastOfThis.getStackPosition() > lastLiteral.getStackPosition()) {
-						lastLiteral = lastOfThis;
-					}
-				}
-				basic.mCachedRowCoeffs = coeffs;
-				basic.mCachedRowVars = rowVars;
-			} else {
-				final LinVar[] rowVars = basic.mCachedRowVars;
-				coeffs = basic.mCachedRowCoeffs;
-				reasons = new LAReason[rowVars.length];
-				for (int i = 0; i < rowVars.length; i++) {
-					reasons[i] = coeffs[i].isNegative() == isUpper ? rowVars[i].mLowerLiteral
-							: rowVars[i].mUpperLiteral;
-					final LiteralReason lastOfThis = reasons[i].getLastLiteral();
-					if (lastLiteral == null
-						|| lastOfThis.getStackPosition() > lastLiteral.getStackPosition()) {
-						lastLiteral = lastOfThis;
-					}
+			for (int i = 0; i < rowVars.length; i++) {
+				reasons[i] = coeffs[i].isNegative() == isUpper ? rowVars[i].mLowerLiteral
+						: rowVars[i].mUpperLiteral;
+				final LiteralReason lastOfThis = reasons[i].getLastLiteral();
+				if (lastLiteral == null
+					|| lastOfThis.getStackPosition() > lastLiteral.getStackPosition()) {
+					lastLiteral = lastOfThis;
 				}
 			}
 			final CompositeReason newComposite =
 					new CompositeReason(basic, bound, isUpper, reasons, coeffs, lastLiteral);
 			lastLiteral.addDependent(newComposite);
+			mNumCompositeBounds++;
 			long mid;
 			if (Config.PROFILE_TIME) {
 				mid = System.nanoTime();
@@ -1498,13 +2118,12 @@ public class LinArSolve implements ITheory {
 	private void removeLinVar(final LinVar v) {
 		if (!v.mBasic) {
 			// We might have nonbasic variables that do not contribute to a basic variable.
-			final BitSet dependencies = mDependentRows.get(v.mMatrixpos);
-			if (!dependencies.isEmpty()) {
-				final int row = dependencies.nextSetBit(0);
-				pivot(row, v.mMatrixpos);
+			final TableauxColumn column = mTableauxColumns.get(v.mMatrixpos);
+			if (!column.isEmpty()) {
+				pivot(column.getRow(0), v.mMatrixpos);
 			}
 		}
-		assert v.mBasic || mDependentRows.get(v.mMatrixpos).isEmpty();
+		assert v.mBasic || mTableauxColumns.get(v.mMatrixpos).isEmpty();
 		assert v.mMatrixpos == mLinvars.size() - 1;
 		mLinvars.remove(v.mMatrixpos);
 		if (v.mBasic) {
@@ -1512,11 +2131,11 @@ public class LinArSolve implements ITheory {
 			for (int i = 1; i < row.size(); i++) {
 				final LinVar col = mLinvars.get(row.getRawIndex(i));
 				assert (!col.mBasic);
-				mDependentRows.get(col.mMatrixpos).clear(v.mMatrixpos);
+				mTableauxColumns.get(col.mMatrixpos).remove(v.mMatrixpos);
 			}
 		}
 		mTableaux.remove(v.mMatrixpos);
-		mDependentRows.remove(v.mMatrixpos);
+		mTableauxColumns.remove(v.mMatrixpos);
 	}
 
 	/**
@@ -1652,15 +2271,12 @@ public class LinArSolve implements ITheory {
 			// Do not merge two shared variables
 			for (final LASharedTerm sharedVar : mSharedVars) {
 				Rational sharedCoeff = Rational.ZERO;
-				ExactInfinitesimalNumber sharedCurVal =
-						new ExactInfinitesimalNumber(sharedVar.getOffset(), Rational.ZERO);
+				final ExactInfinitesimalNumber sharedCurVal = evaluateShared(sharedVar);
 				for (final Entry<LinVar,Rational> entry : sharedVar.getSummands().entrySet()) {
 					final LinVar lv = entry.getKey();
-					final Rational factor = entry.getValue();
 					if (basicFactors.containsKey(lv)) {
-						sharedCoeff = sharedCoeff.addmul(basicFactors.get(lv), factor);
+						sharedCoeff = sharedCoeff.addmul(basicFactors.get(lv), entry.getValue());
 					}
-					sharedCurVal = sharedCurVal.add(lv.getValue().mul(factor));
 				}
 				Set<ExactInfinitesimalNumber> set = sharedPoints.get(sharedCoeff);
 				if (set == null) {
@@ -1681,6 +2297,20 @@ public class LinArSolve implements ITheory {
 		}
 	}
 
+	/**
+	 * Compute the current value of a shared term from the values of its summands.
+	 */
+	private ExactInfinitesimalNumber evaluateShared(final LASharedTerm shared) {
+		final MutableRational realValue = new MutableRational(shared.getOffset());
+		final MutableRational epsValue = new MutableRational(0, 1);
+		for (final Entry<LinVar, Rational> entry : shared.getSummands().entrySet()) {
+			final ExactInfinitesimalNumber value = entry.getKey().getValue();
+			realValue.addmul(value.getRealValue(), entry.getValue());
+			epsValue.addmul(value.getEpsilon(), entry.getValue());
+		}
+		return new ExactInfinitesimalNumber(realValue.toRational(), epsValue.toRational());
+	}
+
 	/**
 	 * Compute the value of each shared variable as exact infinite number.
 	 * @return A map from the value to the list of shared variables that
@@ -1691,12 +2321,7 @@ public class LinArSolve implements ITheory {
 		final Map<ExactInfinitesimalNumber, List<LASharedTerm>> result =
 			new HashMap<>();
 		for (final LASharedTerm shared : mSharedVars) {
-			ExactInfinitesimalNumber value = new ExactInfinitesimalNumber(shared.getOffset());
-			for (final Entry<LinVar, Rational> entry : shared.getSummands().entrySet()) {
-				final LinVar lv = entry.getKey();
-				final Rational factor = entry.getValue();
-				value = value.add(lv.getValue().mul(factor));
-			}
+			final ExactInfinitesimalNumber value = evaluateShared(shared);
 			mClausifier.getLogger().debug("%s = %s", shared, value);
 			List<LASharedTerm> slot = result.get(value);
 			if (slot == null) {
@@ -1991,6 +2616,10 @@ public class LinArSolve implements ITheory {
 	public Clause startCheck() {
 		mEps = null;
 		mInCheck = true;
+		if (mPresolve && !mIntVars.isEmpty()) {
+			mPresolveRounds = Config.PRESOLVE_ROUNDS;
+			pivotFreeSingletons();
+		}
 		return null; // simplifyTableau();
 	}
 
@@ -2053,8 +2682,21 @@ public class LinArSolve implements ITheory {
 
 	@Override
 	public void pop() {
+		for (final LinVar var : mReusedRows.currentScope()) {
+			var.mDormant = true;
+			mDirty.clear(var.mMatrixpos);
+			mOob.remove(var);
+		}
+		mReusedRows.endScope();
 		final int prevVarNum = mLinvars.getLastScopeSize();
-		for (int i = mLinvars.size() - 1; i >= prevVarNum; i--) {
+		int keep = 0;
+		if (mKeepRows) {
+			// Keep the longest prefix of row variables that only use variables of the remaining scopes.
+			while (prevVarNum + keep < mLinvars.size() && isKeepable(mLinvars.get(prevVarNum + keep), prevVarNum)) {
+				keep++;
+			}
+		}
+		for (int i = mLinvars.size() - 1; i >= prevVarNum + keep; i--) {
 			final LinVar var = mLinvars.get(i);
 			if (var == mConflictVar) {
 				mConflictVar = null;
@@ -2067,13 +2709,26 @@ public class LinArSolve implements ITheory {
 			if (var.isInt()) {
 				mIntVars.remove(var);
 			}
+			if (mKeepRows && var.isInitiallyBasic()) {
+				mBasics.remove(getBasicsKey(var));
+			}
 		}
-		mLinvars.endScope();
+		for (int i = prevVarNum; i < prevVarNum + keep; i++) {
+			final LinVar var = mLinvars.get(i);
+			var.mDormant = true;
+			mDirty.clear(i);
+			mOob.remove(var);
+		}
+		mNumKeptRows += keep;
+		mLinvars.endScope(keep);
 		mSharedVars.endScope();
-		mBasics.endScope();
+		if (!mKeepRows) {
+			mBasics.endScope();
+		}
 		// TODO This is a bit too much but should work
 		mSuggestions.clear();
 		mProplist.clear();
+		mLastBranchVar = null;
 		assert popPost();
 	}
 
@@ -2081,27 +2736,77 @@ public class LinArSolve implements ITheory {
 		return true;
 	}
 
+	/**
+	 * Check if a variable of a popped scope can stay in the tableaux, i.e., it is a row variable that only uses
+	 * variables of the remaining scopes.
+	 */
+	private static boolean isKeepable(final LinVar var, final int prevVarNum) {
+		if (!var.isInitiallyBasic()) {
+			return false;
+		}
+		for (final LinVar summand : var.getLinTerm().keySet()) {
+			if (summand.mMatrixpos >= prevVarNum) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compute the key of a row variable in {@link #mBasics}.
+	 */
+	private static Map<LinVar, Rational> getBasicsKey(final LinVar var) {
+		final TreeMap<LinVar, Rational> key = new TreeMap<>();
+		for (final Entry<LinVar, BigInteger> entry : var.getLinTerm().entrySet()) {
+			key.put(entry.getKey(), Rational.valueOf(entry.getValue(), BigInteger.ONE));
+		}
+		return key;
+	}
+
 	@Override
 	public void push() {
-		mBasics.beginScope();
+		if (!mKeepRows) {
+			// with kept rows, the entries of mBasics are removed explicitly on pop
+			mBasics.beginScope();
+		}
 		mSharedVars.beginScope();
+		mReusedRows.beginScope();
 		mLinvars.beginScope();
 	}
 
+	private Object[][] getPivotRuleStatistics(final boolean time) {
+		final PivotRule[] rules = PivotRule.values();
+		final Object[][] result = new Object[rules.length][];
+		for (int i = 0; i < rules.length; i++) {
+			result[i] = new Object[] { rules[i].name(), time ? mPivotRuleTime[i] / 1000000 : mNumPivotsRule[i] };
+		}
+		return result;
+	}
+
 	@Override
 	public Object[] getStatistics() {
 		return new Object[] {
 			":LA", new Object[][] {
 				{"Pivot", mNumPivots},
 				{"PivotBland", mNumPivotsBland},
+				{"PivotRules", getPivotRuleStatistics(false)},
+				{"PivotParallel", mNumParallelPivots},
+				{"PivotFloat", mNumFloatPivots},
+				{"FloatCertified", mNumFloatCertified},
 				{"Vars", mLinvars.size()},
 				{"CompLits", mCompositeCreateLit},
+				{"CompBounds", mNumCompositeBounds},
 				{"Cuts", mNumCuts},
 				{"Branches", mNumBranches},
+				{"PresolveBounds", mNumPresolveBounds},
+				{"PresolvePivots", mNumPresolvePivots},
+				{"KeptRows", mNumKeptRows},
+				{"ReusedRows", mNumReusedRows},
 				{"GetUpperBound", mCountGetUpperBound},
 				{"Times", new Object[][]{
 					{"Pivot", mPivotTime / 1000000},
 					{"Fix", mFixTime / 1000000},
+					{"PivotRules", getPivotRuleStatistics(true)},
 					{"BoundComp", mPropBoundTime / 1000000},
 					{"BoundSet", mPropBoundSetTime / 1000000},
 					{"BoundBack", mBacktrackPropTime / 1000000},
@@ -19,12 +19,9 @@
 package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
 
 import java.math.BigInteger;
-import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 
 import de.uni_freiburg.informatik.ultimate.logic.Rational;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
@@ -64,11 +61,9 @@ public class LinVar implements Comparable<LinVar> {
 	// Is value required to be integer?
 	boolean mIsInt;
 	// List of all bounds on this variable
-	NavigableMap<InfinitesimalNumber, BoundConstraint> mConstraints =
-		new TreeMap<>();
+	final BoundIndex<BoundConstraint> mConstraints = new BoundIndex<>();
 	// List of all equalities known for this variable
-	NavigableMap<InfinitesimalNumber, LAEquality> mEqualities =
-		new TreeMap<>();
+	final BoundIndex<LAEquality> mEqualities = new BoundIndex<>();
 
 	/**
 	 * All disequalities asserted on this variable.
@@ -84,6 +79,26 @@ public class LinVar implements Comparable<LinVar> {
 
 	int mAssertionstacklevel;
 
+	/**
+	 * Sum and number of the observed pseudo costs of branches on this variable. The pseudo cost is the decrease of
+	 * the integer infeasibility per unit of fractionality.
+	 */
+	double mPseudoCostSum;
+	int mPseudoCostCount;
+
+	/**
+	 * The value of the pivot counter when this variable was pivoted last and its reference weight for the steepest
+	 * edge pivot rule.
+	 */
+	int mLastPivot;
+	double mDevexWeight = 1.0;
+
+	/**
+	 * True for a row variable that was kept in the tableaux when the scope that created it was popped and that was
+	 * not used since. Its bounds are not refined.
+	 */
+	boolean mDormant;
+
 	ExactInfinitesimalNumber mExactVal = null;
 
 	/// --- Construction ---
@@ -266,7 +281,7 @@ public class LinVar implements Comparable<LinVar> {
 		for (final MatrixEntry entry : getTableauxRow(solver)) {
 			assert entry.getRow() == this;
 			assert !entry.getColumn().mBasic;
-			assert solver.mDependentRows.get(entry.getColumn().mMatrixpos).get(mMatrixpos);
+			assert solver.mTableauxColumns.get(entry.getColumn().mMatrixpos).contains(mMatrixpos);
 			mat.add(Rational.valueOf(entry.getCoeff(), BigInteger.ONE), entry.getColumn());
 		}
 		assert mat.isConstant() && mat.getConstant().equals(InfinitesimalNumber.ZERO);
@@ -294,6 +309,10 @@ public class LinVar implements Comparable<LinVar> {
 		mCurval = mCurval.add(value);
 	}
 
+	public final void addValue(final ExactInfinitesimalNumber value, final Rational factor) {
+		mCurval = mCurval.addmul(value, factor);
+	}
+
 	private boolean checkReasonChain(LAReason reason, LiteralReason litreason) {
 		while (reason != null) {
 			if (reason instanceof LiteralReason) {
@@ -338,25 +357,24 @@ public class LinVar implements Comparable<LinVar> {
 
 	public Iterable<MatrixEntry> getTableauxColumn(final LinArSolve solver) {
 		assert !mBasic;
-		final BitSet dependentRows = solver.mDependentRows.get(mMatrixpos);
+		final TableauxColumn column = solver.mTableauxColumns.get(mMatrixpos);
 		return new Iterable<MatrixEntry>() {
 
 			@Override
 			public Iterator<MatrixEntry> iterator() {
 				return new Iterator<MatrixEntry>() {
-					private int mRowIdx = dependentRows.nextSetBit(0);
+					private int mIdx = 0;
 
 					@Override
 					public boolean hasNext() {
-						return mRowIdx != -1;
+						return mIdx < column.size();
 					}
 
 					@Override
 					public MatrixEntry next() {
-						final TableauxRow row = solver.mTableaux.get(mRowIdx);
+						final TableauxRow row = solver.mTableaux.get(column.getRow(mIdx++));
 						final MatrixEntry result = new MatrixEntry(solver, row, row.findRawIndex(mMatrixpos));
 						assert result.getColumn() == LinVar.this;
-						mRowIdx = dependentRows.nextSetBit(mRowIdx + 1);
 						return result;
 					}
 				};
@@ -20,6 +20,8 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
 
 import java.math.BigInteger;
 
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+
 /**
  * This represents an entry in our sparse matrix.
  *
@@ -53,6 +55,15 @@ public class MatrixEntry {
 		return mRow.getRawCoeff(0);
 	}
 
+	/**
+	 * Returns the factor by which the row variable changes if the column variable changes, i.e., the coefficient
+	 * divided by the negated head coefficient.
+	 */
+	public Rational getRationalCoeff() {
+		assert mPosition != 0;
+		return mRow.getRationalCoeff(mPosition);
+	}
+
 	@Override
 	public String toString() {
 		if (mPosition == 0) {
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+/**
+ * The default pivot rule of the sum of infeasibility pivoter. It does a ratio test on every column variable and chooses
+ * the step that decreases the sum of infeasibilities the most. Degenerate steps follow Bland's rule.
+ */
+public class SOIPivotRule implements IPivotRule {
+	@Override
+	public SOIPivoter.FreedomLimiter selectPivot(final SOIPivoter pivoter) {
+		return pivoter.findGreatestDecrease();
+	}
+
+	@Override
+	public boolean useLeastRecentlyPivoted() {
+		return false;
+	}
+
+	@Override
+	public void pivoted(final LinArSolve solver, final LinVar leaving, final LinVar entering) {
+		// nothing to update
+	}
+}
@@ -8,6 +8,7 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 
 import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.Config;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause;
 
 /**
@@ -24,6 +25,9 @@ import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause;
  * plateau we follow a Bland like strategy as outlined in the paper.
  *
  * <p>
+ * The choice of the pivot steps is delegated to the {@link IPivotRule} of the solver.
+ *
+ * <p>
  * The core of this pivoter is fixOobs(), which runs until an error is found, or a rational solution is achieved.
  *
  * <dl>
@@ -130,10 +134,12 @@ public class SOIPivoter {
 
 	/**
 	 * Check if SOI cannot be strictly decreased by any pivot step.
-	 * As a side effect it also updates mBestLimiter to be the one used for Bland pivoting strategy.
+	 * As a side effect it also updates mBestLimiter to be the one used for Bland pivoting strategy, or the least
+	 * recently pivoted candidate.
+	 * @param leastRecent true if the least recently pivoted candidate should be used instead of Bland's choice.
 	 * @return true if SOI cannot be decreased.
 	 */
-	public boolean checkZeroFreedom() {
+	public boolean checkZeroFreedom(final boolean leastRecent) {
 		boolean firstColumn = true;
 		mBestLimiter = null;
 		nextColumn:
@@ -151,12 +157,13 @@ public class SOIPivoter {
 
 			for (final MatrixEntry me : colVar.getTableauxColumn(mSolver)) {
 				final LinVar rowVar = me.getRow();
-				final Rational weight = Rational.valueOf(me.getCoeff(), me.getHeadCoeff().negate());
+				final Rational weight = me.getRationalCoeff();
 				final LAReason bound = weight.signum() == coeff.signum() ? rowVar.mLowerLiteral : rowVar.mUpperLiteral;
 				if (bound != null && rowVar.getValue().equals(new ExactInfinitesimalNumber(bound.getBound()))) {
 					// check if this entry would be used by Bland strategy (first column, smallest row variable)
-					if (firstColumn &&
-							(mBestLimiter == null || mBestLimiter.getRowVar().compareTo(rowVar) > 0)) {
+					if (leastRecent ? isLessRecent(rowVar, colVar)
+							: firstColumn
+									&& (mBestLimiter == null || mBestLimiter.getRowVar().compareTo(rowVar) > 0)) {
 						mBestLimiter = new FreedomLimiter(ExactInfinitesimalNumber.ZERO, weight, bound.getBound(),
 								rowVar, colVar);
 					}
@@ -183,115 +190,185 @@ public class SOIPivoter {
 	}
 
 	/**
-	 * Find the pivot candidate using the Sum Of Infeasibility heuristic.
+	 * Check if the pivot step for the given row and column variable uses less recently pivoted variables than the
+	 * current best limiter. Ties are broken as in Bland's rule.
+	 */
+	private boolean isLessRecent(final LinVar rowVar, final LinVar colVar) {
+		if (mBestLimiter == null) {
+			return true;
+		}
+		final LinVar bestRow = mBestLimiter.getRowVar();
+		final LinVar bestCol = mBestLimiter.getColumnVar();
+		if (colVar.mLastPivot != bestCol.mLastPivot) {
+			return colVar.mLastPivot < bestCol.mLastPivot;
+		}
+		if (colVar != bestCol) {
+			return colVar.compareTo(bestCol) < 0;
+		}
+		if (rowVar.mLastPivot != bestRow.mLastPivot) {
+			return rowVar.mLastPivot < bestRow.mLastPivot;
+		}
+		return rowVar.compareTo(bestRow) < 0;
+	}
+
+	/**
+	 * Get the current sum of infeasibility variable as map from column variables to their coefficients.
+	 */
+	SortedMap<LinVar, Rational> getSOIVar() {
+		return mSOIVar;
+	}
+
+	/**
+	 * Check if changing the column variable in the direction of the gradient is allowed by its bounds.
+	 *
+	 * @param colVar
+	 *            the column variable.
+	 * @param coeff
+	 *            the coefficient of the column variable in the sum of infeasibility variable.
+	 * @return true if the sum of infeasibilities can be decreased by changing colVar.
+	 */
+	boolean isImproving(final LinVar colVar, final Rational coeff) {
+		if (coeff.signum() == 0) {
+			return false;
+		}
+		// for negative coeff: check if we cannot increase var to lower the soi.
+		// otherwise check if we cannot decrease var to lower the SOI. In both cases the variable can be skipped.
+		return !colVar.getValue().equals(coeff.signum() < 0 ? colVar.getUpperBound() : colVar.getLowerBound());
+	}
+
+	/**
+	 * Find the pivot candidate using the pivot rule of the solver.
 	 *
-	 * @return The matrix entry describing the pivot point (row + column).
+	 * @return true if a pivot candidate was found and stored in mBestLimiter.
 	 */
 	public boolean findPivot() {
+		final long starttime = Config.PROFILE_TIME ? System.nanoTime() : 0;
+		mBestLimiter = mSolver.mPivotRule.selectPivot(this);
+		if (Config.PROFILE_TIME) {
+			mSolver.addPivotRuleTime(System.nanoTime() - starttime);
+		}
+		return mBestLimiter != null;
+	}
+
+	/**
+	 * Find the pivot candidate using the Sum Of Infeasibility heuristic, i.e., the step that decreases the sum the
+	 * most.
+	 *
+	 * @return The limiter describing the pivot point (row + column), or null if no step decreases the sum.
+	 */
+	FreedomLimiter findGreatestDecrease() {
 		ExactInfinitesimalNumber bestDiff = new ExactInfinitesimalNumber(Rational.MONE);
-		mBestLimiter = null;
+		FreedomLimiter bestLimiter = null;
 		for (final Entry<LinVar, Rational> entry : mSOIVar.entrySet()) {
 			final LinVar colVar = entry.getKey();
 			final Rational coeff = entry.getValue();
-			if (coeff.signum() == 0) {
+			if (!isImproving(colVar, coeff)) {
 				continue;
 			}
-			// for negative coeff: check if we cannot increase var to lower the soi.
-			// otherwise check if we cannot decrease var to lower the SOI.  In both cases the variable can be skipped.
-			final InfinitesimalNumber colBound = coeff.signum() < 0 ? colVar.getUpperBound() : colVar.getLowerBound();
-			if (colVar.getValue().equals(colBound)) {
-				continue;
+			final FreedomLimiter limiter = ratioTest(colVar, coeff);
+			if (limiter != null && bestDiff.compareTo(limiter.mSOIDiff) < 0) {
+				bestDiff = limiter.mSOIDiff;
+				bestLimiter = limiter;
+				if (bestDiff.equals(mSOIValue)) {
+					mSolver.getLogger().debug("Solved it!", bestDiff);
+					return bestLimiter;
+				}
 			}
+		}
+		mSolver.getLogger().debug("Best Candidate: (%s)", bestDiff);
+		return bestLimiter;
+	}
 
-			// mSolver.mEngine.getLogger().debug("Column %2$s * %1$s", colVar, coeff);
+	/**
+	 * Do the ratio test for a column variable. This finds the point where changing the column variable in the
+	 * direction of the gradient no longer decreases the sum of infeasibilities.
+	 *
+	 * @param colVar
+	 *            the column variable; it must be improving.
+	 * @param coeff
+	 *            the coefficient of the column variable in the sum of infeasibility variable.
+	 * @return The limiter describing the pivot point, whose SOI diff is set to the decrease of the sum.
+	 */
+	FreedomLimiter ratioTest(final LinVar colVar, final Rational coeff) {
+		final InfinitesimalNumber colBound = coeff.signum() < 0 ? colVar.getUpperBound() : colVar.getLowerBound();
+		// mSolver.mEngine.getLogger().debug("Column %2$s * %1$s", colVar, coeff);
 
-			// Check how much we can lower the soi by changing this column variable.
-			// For this collect all bounds on all variables and sort them by the time until they are hit.
-			// bounds maps from the absolute difference of the new value for the column variable to the FreedomLimiter
-			// describing which row variable+bound would be used as new limiter and the weight that tells how much the
-			// SOI gradient for this column variable would change due to the newly met bounds.
-			final SortedMap<ExactInfinitesimalNumber, FreedomLimiter> bounds = new TreeMap<>();
+		// Check how much we can lower the soi by changing this column variable.
+		// For this collect all bounds on all variables and sort them by the time until they are hit.
+		// bounds maps from the absolute difference of the new value for the column variable to the FreedomLimiter
+		// describing which row variable+bound would be used as new limiter and the weight that tells how much the
+		// SOI gradient for this column variable would change due to the newly met bounds.
+		final SortedMap<ExactInfinitesimalNumber, FreedomLimiter> bounds = new TreeMap<>();
 
-			// We also need to consider the other bound of the column variable as change point.
-			{
-				if (!colBound.isInfinity()) {
-					final ExactInfinitesimalNumber colFreedom = colVar.getValue().isub(colBound).abs();
-					bounds.put(colFreedom,
-							new FreedomLimiter(colFreedom, Rational.ONE, colBound, colVar, colVar));
-				}
+		// We also need to consider the other bound of the column variable as change point.
+		{
+			if (!colBound.isInfinity()) {
+				final ExactInfinitesimalNumber colFreedom = colVar.getValue().isub(colBound).abs();
+				bounds.put(colFreedom,
+						new FreedomLimiter(colFreedom, Rational.ONE, colBound, colVar, colVar));
 			}
-			for (final MatrixEntry me : colVar.getTableauxColumn(mSolver)) {
-				// for each variable in this column, check by how much the column variable would change if the current
-				// row variable would be used as bound. There may even be two interesting points for a row variable
-				// that is currently out of bounds: when it is satisfied and when it is no longer satisfied.
-				// weight is basically the matrix entry, i.e., the factor by which the column variable changes if the
-				// row variable changes.
-				// freedom is the amount the column variable changes if the row variable would be used as bounds.
-				final LinVar rowVar = me.getRow();
-				Rational weight = Rational.valueOf(me.getCoeff(), me.getHeadCoeff());
-				if (coeff.signum() < 0) {
-					weight = weight.negate();
-				}
-				if (rowVar.mLowerLiteral != null) {
-					final InfinitesimalNumber bound = rowVar.mLowerLiteral.getBound();
-					final ExactInfinitesimalNumber diff = rowVar.getValue().isub(bound);
-					// a difference of zero counts as negative, because it means the rowVar is in bound.
-					if (weight.signum() * (2 * diff.signum() - 1) > 0) {
-						final ExactInfinitesimalNumber freedom = diff.div(weight);
-						assert freedom.signum() >= 0;
-						final FreedomLimiter prev = bounds.get(freedom);
-						if (prev != null) {
-							prev.merge(weight, bound, rowVar);
-						} else {
-							bounds.put(freedom, new FreedomLimiter(freedom, weight, bound, rowVar, colVar));
-						}
-					}
-				}
-				if (rowVar.mUpperLiteral != null) {
-					final InfinitesimalNumber bound = rowVar.mUpperLiteral.getBound();
-					final ExactInfinitesimalNumber diff = rowVar.getValue().isub(bound);
-					// a difference of zero counts as positive, because it means the rowVar is in bound.
-					if (weight.signum() * (2 * diff.signum() + 1) > 0) {
-						final ExactInfinitesimalNumber freedom = diff.div(weight);
-						assert freedom.signum() >= 0;
-						final FreedomLimiter prev = bounds.get(freedom);
-						if (prev != null) {
-							prev.merge(weight, bound, rowVar);
-						} else {
-							bounds.put(freedom, new FreedomLimiter(freedom, weight, bound, rowVar, colVar));
-						}
+		}
+		for (final MatrixEntry me : colVar.getTableauxColumn(mSolver)) {
+			// for each variable in this column, check by how much the column variable would change if the current
+			// row variable would be used as bound. There may even be two interesting points for a row variable
+			// that is currently out of bounds: when it is satisfied and when it is no longer satisfied.
+			// weight is basically the matrix entry, i.e., the factor by which the column variable changes if the
+			// row variable changes.
+			// freedom is the amount the column variable changes if the row variable would be used as bounds.
+			final LinVar rowVar = me.getRow();
+			Rational weight = Rational.valueOf(me.getCoeff(), me.getHeadCoeff());
+			if (coeff.signum() < 0) {
+				weight = weight.negate();
+			}
+			if (rowVar.mLowerLiteral != null) {
+				final InfinitesimalNumber bound = rowVar.mLowerLiteral.getBound();
+				final ExactInfinitesimalNumber diff = rowVar.getValue().isub(bound);
+				// a difference of zero counts as negative, because it means the rowVar is in bound.
+				if (weight.signum() * (2 * diff.signum() - 1) > 0) {
+					final ExactInfinitesimalNumber freedom = diff.div(weight);
+					assert freedom.signum() >= 0;
+					final FreedomLimiter prev = bounds.get(freedom);
+					if (prev != null) {
+						prev.merge(weight, bound, rowVar);
+					} else {
+						bounds.put(freedom, new FreedomLimiter(freedom, weight, bound, rowVar, colVar));
 					}
 				}
 			}
-			// mSolver.mEngine.getLogger().debug(bounds);
-			Rational weight = coeff.abs();
-			ExactInfinitesimalNumber lastFreedom = new ExactInfinitesimalNumber(Rational.ZERO);
-			ExactInfinitesimalNumber soidiff = new ExactInfinitesimalNumber(Rational.ZERO);
-			// mSolver.mEngine.getLogger().debug("Candidates: %s + %s", colVar, bounds);
-			for (final FreedomLimiter limiter : bounds.values()) {
-				soidiff = soidiff.add(limiter.mFreedom.sub(lastFreedom).mul(weight));
-				lastFreedom = limiter.mFreedom;
-				weight = weight.sub(limiter.getWeight());
-				if (weight.signum() <= 0) {
-					// with this variable we reach pivoting point; changing the column variable further would increase
-					// the SOI again.
-					// mSolver.mEngine.getLogger().debug("Candidate: %s", limiter);
-					// mSolver.mEngine.getLogger().debug("soi diff: %s", soidiff);
-					if (bestDiff.compareTo(soidiff) < 0) {
-						bestDiff = soidiff;
-						mBestLimiter = limiter;
-						if (bestDiff.equals(mSOIValue)) {
-							mSolver.getLogger().debug("Solved it!", bestDiff);
-							return true;
-						}
+			if (rowVar.mUpperLiteral != null) {
+				final InfinitesimalNumber bound = rowVar.mUpperLiteral.getBound();
+				final ExactInfinitesimalNumber diff = rowVar.getValue().isub(bound);
+				// a difference of zero counts as positive, because it means the rowVar is in bound.
+				if (weight.signum() * (2 * diff.signum() + 1) > 0) {
+					final ExactInfinitesimalNumber freedom = diff.div(weight);
+					assert freedom.signum() >= 0;
+					final FreedomLimiter prev = bounds.get(freedom);
+					if (prev != null) {
+						prev.merge(weight, bound, rowVar);
+					} else {
+						bounds.put(freedom, new FreedomLimiter(freedom, weight, bound, rowVar, colVar));
 					}
-					break;
 				}
 			}
-			assert weight.signum() <= 0;
 		}
-		mSolver.getLogger().debug("Best Candidate: (%s)", bestDiff);
-		return mBestLimiter != null;
+		// mSolver.mEngine.getLogger().debug(bounds);
+		Rational weight = coeff.abs();
+		ExactInfinitesimalNumber lastFreedom = new ExactInfinitesimalNumber(Rational.ZERO);
+		ExactInfinitesimalNumber soidiff = new ExactInfinitesimalNumber(Rational.ZERO);
+		// mSolver.mEngine.getLogger().debug("Candidates: %s + %s", colVar, bounds);
+		for (final FreedomLimiter limiter : bounds.values()) {
+			soidiff = soidiff.add(limiter.mFreedom.sub(lastFreedom).mul(weight));
+			lastFreedom = limiter.mFreedom;
+			weight = weight.sub(limiter.getWeight());
+			if (weight.signum() <= 0) {
+				// with this variable we reach pivoting point; changing the column variable further would increase
+				// the SOI again.
+				limiter.mSOIDiff = soidiff;
+				return limiter;
+			}
+		}
+		assert false : "SOI gradient of " + colVar + " does not change sign";
+		return null;
 	}
 
 	/**
@@ -405,12 +482,20 @@ public class SOIPivoter {
 			}
 			// inner loop if we didn't make progress
 			int blandPivotStep = 0;
+			final int maxLeastRecentSteps = mSolver.mPivotRule.useLeastRecentlyPivoted()
+					? Config.BLAND_USE_FACTOR * mSolver.mLinvars.size() : 0;
+			boolean leastRecent = false;
 			while (mBestLimiter.mFreedom.signum() == 0) {
-				mSolver.pivot(mBestLimiter.getRowVar().mMatrixpos, mBestLimiter.getColumnVar().mMatrixpos);
-				mSolver.mNumPivotsBland++;
+				pivot(mBestLimiter);
+				if (leastRecent) {
+					mSolver.countRulePivot();
+				} else {
+					mSolver.mNumPivotsBland++;
+				}
 				blandPivotStep++;
 				computeSOI();
-				if (checkZeroFreedom()) {
+				leastRecent = blandPivotStep < maxLeastRecentSteps;
+				if (checkZeroFreedom(leastRecent)) {
 					if (mBestLimiter == null) {
 						mSolver.getLogger().debug("Conflict after %d Bland pivot steps", blandPivotStep);
 						return computeConflict();
@@ -423,14 +508,28 @@ public class SOIPivoter {
 			}
 
 			if (mBestLimiter.getRowVar() != mBestLimiter.getColumnVar()) {
-				mSolver.pivot(mBestLimiter.getRowVar().mMatrixpos, mBestLimiter.getColumnVar().mMatrixpos);
+				pivot(mBestLimiter);
+				mSolver.countRulePivot();
 			}
 			mSolver.updateVariableValue(mBestLimiter.getRowVar(), new ExactInfinitesimalNumber(mBestLimiter.mBound));
 		}
 	}
 
-	private static class FreedomLimiter {
+	private void pivot(final FreedomLimiter limiter) {
+		final LinVar leaving = limiter.getRowVar();
+		final LinVar entering = limiter.getColumnVar();
+		mSolver.pivot(leaving.mMatrixpos, entering.mMatrixpos);
+		mSolver.mPivotRule.pivoted(mSolver, leaving, entering);
+	}
+
+	/**
+	 * A candidate for the next pivot step. It describes the row variable that leaves the basis, the bound it is set
+	 * to, and the column variable that enters the basis.
+	 */
+	static class FreedomLimiter {
 		ExactInfinitesimalNumber mFreedom;
+		/** The decrease of the sum of infeasibilities for this step; only set by the ratio test. */
+		ExactInfinitesimalNumber mSOIDiff;
 		Rational mWeight;
 		InfinitesimalNumber mBound;
 		LinVar mRow, mColumn;
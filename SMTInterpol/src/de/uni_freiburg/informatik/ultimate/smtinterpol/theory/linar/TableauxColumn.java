@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.util.Arrays;
+
+/**
+ * Data structure that stores a column of the linear arithmetic tableaux. For every column variable {@code x} it stores
+ * the matrix positions of the row variables whose tableaux row contains {@code x}. The positions are kept sorted in a
+ * compact integer array, so iterating the column only visits the non-zero entries. The coefficients are stored in the
+ * tableaux rows and can be found by {@link TableauxRow#findRawIndex}.
+ */
+public class TableauxColumn {
+	private static final int INITIAL_SIZE = 4;
+
+	private int[] mRows;
+	private int mSize;
+
+	public TableauxColumn() {
+		mRows = new int[INITIAL_SIZE];
+	}
+
+	private int find(final int rowPos) {
+		return Arrays.binarySearch(mRows, 0, mSize, rowPos);
+	}
+
+	/**
+	 * Check if the tableaux row of the given row variable contains this column.
+	 *
+	 * @param rowPos
+	 *            the matrix position of the row variable.
+	 */
+	public boolean contains(final int rowPos) {
+		return find(rowPos) >= 0;
+	}
+
+	/**
+	 * Record that the tableaux row of the given row variable contains this column.
+	 *
+	 * @param rowPos
+	 *            the matrix position of the row variable.
+	 */
+	public void add(final int rowPos) {
+		int idx = find(rowPos);
+		if (idx >= 0) {
+			return;
+		}
+		idx = -idx - 1;
+		if (mSize == mRows.length) {
+			mRows = Arrays.copyOf(mRows, 2 * mSize);
+		}
+		System.arraycopy(mRows, idx, mRows, idx + 1, mSize - idx);
+		mRows[idx] = rowPos;
+		mSize++;
+	}
+
+	/**
+	 * Record that the tableaux row of the given row variable no longer contains this column.
+	 *
+	 * @param rowPos
+	 *            the matrix position of the row variable.
+	 */
+	public void remove(final int rowPos) {
+		final int idx = find(rowPos);
+		if (idx < 0) {
+			return;
+		}
+		mSize--;
+		System.arraycopy(mRows, idx + 1, mRows, idx, mSize - idx);
+	}
+
+	/**
+	 * Replace a row variable by another one after a pivot step. This only moves the entries between the old and the
+	 * new position.
+	 *
+	 * @param oldRowPos
+	 *            the matrix position of the previous row variable; it must be contained in this column.
+	 * @param newRowPos
+	 *            the matrix position of the new row variable; it must not be contained in this column.
+	 */
+	public void replace(final int oldRowPos, final int newRowPos) {
+		final int oldIdx = find(oldRowPos);
+		assert oldIdx >= 0 && !contains(newRowPos);
+		int newIdx = -find(newRowPos) - 1;
+		if (oldIdx < newIdx) {
+			newIdx--;
+			System.arraycopy(mRows, oldIdx + 1, mRows, oldIdx, newIdx - oldIdx);
+		} else {
+			System.arraycopy(mRows, newIdx, mRows, newIdx + 1, oldIdx - newIdx);
+		}
+		mRows[newIdx] = newRowPos;
+	}
+
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	public int size() {
+		return mSize;
+	}
+
+	/**
+	 * Get the matrix position of the i-th row variable containing this column. The row variables are sorted by their
+	 * matrix position.
+	 */
+	public int getRow(final int i) {
+		assert i < mSize;
+		return mRows[i];
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(Arrays.copyOf(mRows, mSize));
+	}
+}
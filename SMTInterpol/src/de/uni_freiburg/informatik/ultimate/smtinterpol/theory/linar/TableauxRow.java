@@ -2,6 +2,7 @@ package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.SortedMap;
 
@@ -105,7 +106,7 @@ public class TableauxRow {
 		return entry < MARKER ? BigInteger.valueOf(entry) : mBigEntries[entry - MARKER];
 	}
 
-	private void addRowInt(final LinArSolve solver, final TableauxRow other) {
+	private void addRowInt(final LinArSolve solver, final TableauxRow other, final ColumnChanges changes) {
 		final int matrixPos = other.mEntries[0];
 		assert mBigEntries == null && other.mBigEntries == null;
 		int myFactor = -other.mEntries[1];
@@ -135,7 +136,7 @@ public class TableauxRow {
 				}
 				myIndex += 2;
 			} else if (myIndex == mEntries.length || mEntries[myIndex] > other.mEntries[otherIndex]) {
-				solver.mDependentRows.get(other.mEntries[otherIndex]).set(mEntries[0]);
+				addColumnEntry(solver, changes, other.mEntries[otherIndex]);
 				newVars[newIndex] = other.mEntries[otherIndex];
 				final long newCoeff = (long) other.mEntries[otherIndex + 1] * otherFactor;
 				gcd = Rational.gcd(gcd, newCoeff);
@@ -152,7 +153,7 @@ public class TableauxRow {
 					newCoeffs[newIndex] = newCoeff;
 					newIndex++;
 				} else {
-					solver.mDependentRows.get(mEntries[myIndex]).clear(mEntries[0]);
+					removeColumnEntry(solver, changes, mEntries[myIndex]);
 				}
 				myIndex += 2;
 				otherIndex += 2;
@@ -171,7 +172,7 @@ public class TableauxRow {
 		}
 	}
 
-	private void addRowBigInt(final LinArSolve solver, final TableauxRow other) {
+	private void addRowBigInt(final LinArSolve solver, final TableauxRow other, final ColumnChanges changes) {
 		final int matrixPos = other.mEntries[0];
 		BigInteger myFactor = other.bigEntry(other.mEntries[1]).negate();
 		BigInteger otherFactor = bigEntry(findEntry(matrixPos));
@@ -200,7 +201,7 @@ public class TableauxRow {
 				}
 				myIndex += 2;
 			} else if (myIndex == mEntries.length || mEntries[myIndex] > other.mEntries[otherIndex]) {
-				solver.mDependentRows.get(other.mEntries[otherIndex]).set(mEntries[0]);
+				addColumnEntry(solver, changes, other.mEntries[otherIndex]);
 				newVars[newIndex] = other.mEntries[otherIndex];
 				final BigInteger newCoeff = other.bigEntry(other.mEntries[otherIndex + 1]).multiply(otherFactor);
 				gcd = Rational.gcd(gcd, newCoeff);
@@ -218,7 +219,7 @@ public class TableauxRow {
 					newCoeffs[newIndex] = newCoeff;
 					newIndex++;
 				} else {
-					solver.mDependentRows.get(mEntries[myIndex]).clear(mEntries[0]);
+					removeColumnEntry(solver, changes, mEntries[myIndex]);
 				}
 				myIndex += 2;
 				otherIndex += 2;
@@ -252,10 +253,77 @@ public class TableauxRow {
 	 *            The matrix position of the previous column variable.
 	 */
 	public void addRow(final LinArSolve solver, final TableauxRow other) {
+		addRow(solver, other, null);
+	}
+
+	/**
+	 * Fixup the tableaux row like {@link #addRow(LinArSolve, TableauxRow)}, but optionally record the changes of the
+	 * tableaux columns instead of applying them. This allows to update several rows in parallel, since the rows are
+	 * independent and only the columns are shared.
+	 *
+	 * @param changes
+	 *            the collector for the column changes, or null to apply them immediately.
+	 */
+	void addRow(final LinArSolve solver, final TableauxRow other, final ColumnChanges changes) {
 		if (mBigEntries == null && other.mBigEntries == null) {
-			addRowInt(solver, other);
+			addRowInt(solver, other, changes);
 		} else {
-			addRowBigInt(solver, other);
+			addRowBigInt(solver, other, changes);
+		}
+	}
+
+	private void addColumnEntry(final LinArSolve solver, final ColumnChanges changes, final int colPos) {
+		if (changes == null) {
+			solver.mTableauxColumns.get(colPos).add(mEntries[0]);
+		} else {
+			changes.add(colPos, mEntries[0]);
+		}
+	}
+
+	private void removeColumnEntry(final LinArSolve solver, final ColumnChanges changes, final int colPos) {
+		if (changes == null) {
+			solver.mTableauxColumns.get(colPos).remove(mEntries[0]);
+		} else {
+			changes.remove(colPos, mEntries[0]);
+		}
+	}
+
+	/**
+	 * The changes of the tableaux columns caused by updating some rows. A change is stored as column position and row
+	 * position, where the row position is stored as bitwise complement for a removal.
+	 */
+	static class ColumnChanges {
+		private int[] mChanges = new int[16];
+		private int mSize;
+
+		private void record(final int colPos, final int rowEntry) {
+			if (mSize == mChanges.length) {
+				mChanges = Arrays.copyOf(mChanges, 2 * mSize);
+			}
+			mChanges[mSize++] = colPos;
+			mChanges[mSize++] = rowEntry;
+		}
+
+		void add(final int colPos, final int rowPos) {
+			record(colPos, rowPos);
+		}
+
+		void remove(final int colPos, final int rowPos) {
+			record(colPos, ~rowPos);
+		}
+
+		/**
+		 * Apply the recorded changes to the tableaux columns of the solver.
+		 */
+		void apply(final LinArSolve solver) {
+			for (int i = 0; i < mSize; i += 2) {
+				final int rowEntry = mChanges[i + 1];
+				if (rowEntry >= 0) {
+					solver.mTableauxColumns.get(mChanges[i]).add(rowEntry);
+				} else {
+					solver.mTableauxColumns.get(mChanges[i]).remove(~rowEntry);
+				}
+			}
 		}
 	}
 
@@ -309,6 +377,27 @@ public class TableauxRow {
 		return bigEntry(mEntries[2*idx + 1]);
 	}
 
+	/**
+	 * Returns the factor of the column variable at the given index in the equation {@code y = sum(fi * xi)}, i.e.,
+	 * the raw coefficient divided by the negated head coefficient.
+	 */
+	Rational getRationalCoeff(final int idx) {
+		final int entry = mEntries[2 * idx + 1];
+		final int head = mEntries[1];
+		if (entry < MARKER && head < MARKER) {
+			return Rational.valueOf(entry, -(long) head);
+		}
+		return Rational.valueOf(bigEntry(entry), bigEntry(head).negate());
+	}
+
+	/**
+	 * Returns the sign of the coefficient at the given index without creating a BigInteger.
+	 */
+	int getRawCoeffSignum(final int idx) {
+		final int entry = mEntries[2 * idx + 1];
+		return entry < MARKER ? Integer.signum(entry) : mBigEntries[entry - MARKER].signum();
+	}
+
 	int size() {
 		return mEntries.length / 2;
 	}
@@ -52,6 +52,18 @@ public class ScopedArrayList<E> extends ArrayList<E> {
 			mLevels = ScopeUtils.shrink(mLevels);
 		}
 	}
+	/**
+	 * End the current scope, but keep the first elements that were added in this scope. They now belong to the
+	 * enclosing scope.
+	 *
+	 * @param keep
+	 *            the number of elements of the current scope to keep.
+	 */
+	public void endScope(final int keep) {
+		mLevels[mCurscope] += keep;
+		endScope();
+	}
+
 	public int getLastScopeSize() {
 		return mLevels[mCurscope];
 	}
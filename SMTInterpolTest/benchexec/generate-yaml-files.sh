@@ -9,6 +9,10 @@ n2p["Heizmann2019"]="/storage/repos/smtlib/QF_BV/20190429-UltimateAutomizerSvcom
 n2p["bruttomesso"]="/storage/repos/smtlib/QF_BV/bruttomesso"
 recursive["bruttomesso"]=1
 
+# SMTInterpol regression tests
+n2p["smtinterpol-tests"]="/storage/repos/smtinterpol/SMTInterpolTest/test"
+recursive["smtinterpol-tests"]=1
+
 for set in "${!n2p[@]}"; do 
   out="bench_${set}.set"
   if [[ ${recursive[$set]} -eq 1 ]] ; then 
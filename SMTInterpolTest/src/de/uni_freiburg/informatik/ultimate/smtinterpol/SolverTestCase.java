@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+
+/**
+ * Base class for system tests that build their formulas with the API of a solver. It creates the solver, exits it
+ * after every test, and provides helpers to build terms and to check models.
+ */
+public abstract class SolverTestCase {
+
+	protected SMTInterpol mSolver;
+
+	/**
+	 * Create a new solver that produces models. The test sets its other options and the logic.
+	 */
+	protected void createSolver() {
+		mSolver = new SMTInterpol(new DefaultLogger());
+		mSolver.setOption(":produce-models", Boolean.TRUE);
+	}
+
+	@After
+	public void tearDown() {
+		if (mSolver != null) {
+			mSolver.exit();
+			mSolver = null;
+		}
+	}
+
+	protected void declareConstants(final Sort sort, final String... names) {
+		for (final String name : names) {
+			mSolver.declareFun(name, Script.EMPTY_SORT_ARRAY, sort);
+		}
+	}
+
+	protected Term var(final String name) {
+		return mSolver.term(name);
+	}
+
+	protected Term var(final String name, final int index) {
+		return mSolver.term(name + index);
+	}
+
+	protected Term num(final int value) {
+		final Term abs = mSolver.numeral(BigInteger.valueOf(Math.abs(value)));
+		return value < 0 ? mSolver.term("-", abs) : abs;
+	}
+
+	protected Term dec(final String value) {
+		return value.startsWith("-") ? mSolver.term("-", mSolver.decimal(value.substring(1)))
+				: mSolver.decimal(value);
+	}
+
+	protected Term eq(final Term lhs, final Term rhs) {
+		return mSolver.term("=", lhs, rhs);
+	}
+
+	protected void assertModelSatisfies(final Term formula) {
+		final Map<Term, Term> eval = mSolver.getValue(new Term[] { formula });
+		Assert.assertSame(mSolver.term("true"), eval.get(formula));
+	}
+}
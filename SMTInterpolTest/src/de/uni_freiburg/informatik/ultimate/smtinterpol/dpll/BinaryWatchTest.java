@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+
+/**
+ * Tests the binary watches of the DPLL engine with duplicated binary clauses and push/pop.
+ *
+ * The clauses are (not d or not x), (not d or y) and several copies of (x or y). Deciding d propagates not x and y, in
+ * this order. Then the binary watches of x find the clauses (x or y) satisfied by y, which was set after x. They have
+ * to be checked again when y is backtracked, but x must only be remembered once and not once per copy.
+ */
+@RunWith(JUnit4.class)
+public class BinaryWatchTest {
+	private static final int COPIES = 10;
+
+	private final Theory mTheory;
+	private final DPLLEngine mEngine;
+	private final DPLLAtom mD, mX, mY;
+
+	public BinaryWatchTest() {
+		mTheory = new Theory(Logics.QF_UF);
+		mEngine = new DPLLEngine(new DefaultLogger(), () -> false);
+		mD = createAtom("d");
+		mX = createAtom("x");
+		mY = createAtom("y");
+	}
+
+	private DPLLAtom createAtom(final String name) {
+		mTheory.declareFunction(name, Script.EMPTY_SORT_ARRAY, mTheory.getBooleanSort());
+		final DPLLAtom atom = new BooleanVarAtom(mTheory.term(name), 0);
+		mEngine.addAtom(atom);
+		return atom;
+	}
+
+	private void addClauses() {
+		mEngine.addFormulaClause(new Literal[] { mD.negate(), mX.negate() }, null);
+		mEngine.addFormulaClause(new Literal[] { mD.negate(), mY }, null);
+		for (int i = 0; i < COPIES; i++) {
+			mEngine.addFormulaClause(new Literal[] { mX, mY }, null);
+		}
+	}
+
+	private void decideAndCheck() {
+		/* do the initial check of the new clauses before the decision */
+		Assert.assertTrue(mEngine.quickCheck());
+		mEngine.increaseDecideLevel();
+		Assert.assertNull(mEngine.setLiteral(mD));
+		Assert.assertTrue(mEngine.quickCheck());
+		Assert.assertSame(mX.negate(), mX.getDecideStatus());
+		Assert.assertSame(mY, mY.getDecideStatus());
+		int count = 0;
+		for (final Literal lit : mY.mBinaryBacktrackLits) {
+			if (lit == mX) {
+				count++;
+			}
+		}
+		Assert.assertEquals(1, count);
+	}
+
+	@Test
+	public void testDuplicateClauses() {
+		mEngine.push();
+		addClauses();
+		decideAndCheck();
+		mEngine.pop(1);
+		Assert.assertTrue(mY.mBinaryBacktrackLits.isEmpty());
+
+		mEngine.push();
+		addClauses();
+		mEngine.push();
+		addClauses();
+		decideAndCheck();
+		mEngine.pop(1);
+		decideAndCheck();
+		mEngine.pop(1);
+		Assert.assertTrue(mEngine.solve());
+	}
+}
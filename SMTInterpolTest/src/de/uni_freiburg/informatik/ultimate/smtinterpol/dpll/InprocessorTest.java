@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+
+/**
+ * Tests subsumption, vivification and variable elimination of the inprocessor together with push and pop. The atoms
+ * a, b, c and d are named atoms, which are never eliminated; x is a Boolean variable.
+ */
+@RunWith(JUnit4.class)
+public class InprocessorTest {
+	private static final double EPSILON = 1e-12;
+
+	private final Theory mTheory;
+	private final DPLLEngine mEngine;
+	private final Inprocessor mInprocessor;
+	private final DPLLAtom mA, mB, mC, mD, mX;
+
+	public InprocessorTest() {
+		mTheory = new Theory(Logics.QF_UF);
+		mEngine = new DPLLEngine(new DefaultLogger(), () -> false);
+		mInprocessor = new Inprocessor(mEngine);
+		mA = addAtom(new NamedAtom(createTerm("a"), 0));
+		mB = addAtom(new NamedAtom(createTerm("b"), 0));
+		mC = addAtom(new NamedAtom(createTerm("c"), 0));
+		mD = addAtom(new NamedAtom(createTerm("d"), 0));
+		mX = addAtom(new BooleanVarAtom(createTerm("x"), 0));
+	}
+
+	private Term createTerm(final String name) {
+		mTheory.declareFunction(name, Script.EMPTY_SORT_ARRAY, mTheory.getBooleanSort());
+		return mTheory.term(name);
+	}
+
+	private DPLLAtom addAtom(final DPLLAtom atom) {
+		mEngine.addAtom(atom);
+		return atom;
+	}
+
+	private Clause addClause(final Literal... lits) {
+		final Clause clause = new Clause(lits, mEngine.getAssertionStackLevel());
+		mEngine.addClause(clause);
+		return clause;
+	}
+
+	private Clause findClause(final SimpleList<Clause> clauses, final Literal... lits) {
+		nextClause: for (final Clause c : clauses) {
+			if (c.getSize() != lits.length) {
+				continue;
+			}
+			for (final Literal lit : lits) {
+				if (!c.contains(lit)) {
+					continue nextClause;
+				}
+			}
+			return c;
+		}
+		return null;
+	}
+
+	private static int count(final SimpleList<Clause> clauses) {
+		int count = 0;
+		for (final Clause c : clauses) {
+			count++;
+		}
+		return count;
+	}
+
+	private void assertPhaseScores(final double a, final double b, final double c, final double d, final double x) {
+		Assert.assertEquals(a, mA.mPhaseScore, EPSILON);
+		Assert.assertEquals(b, mB.mPhaseScore, EPSILON);
+		Assert.assertEquals(c, mC.mPhaseScore, EPSILON);
+		Assert.assertEquals(d, mD.mPhaseScore, EPSILON);
+		Assert.assertEquals(x, mX.mPhaseScore, EPSILON);
+	}
+
+	@Test
+	public void testSubsumption() {
+		addClause(mA, mB);
+		mEngine.push();
+		// subsumed by the clause on the lower stack level
+		final Clause subsumed = addClause(mA, mB, mC);
+		// does not subsume the clause on the lower stack level
+		addClause(mA);
+		assertPhaseScores(0.25 + 0.125 + 0.5, 0.25 + 0.125, 0.125, 0, 0);
+		Assert.assertNull(mInprocessor.inprocess());
+		Assert.assertNull(findClause(mEngine.mClauses, subsumed.mLiterals));
+		Assert.assertNotNull(findClause(mEngine.mClauses, mA, mB));
+		assertPhaseScores(0.25 + 0.5, 0.25, 0, 0, 0);
+		mEngine.pop(1);
+		Assert.assertNotNull(findClause(mEngine.mClauses, mA, mB));
+		assertPhaseScores(0.25, 0.25, 0, 0, 0);
+		Assert.assertTrue(mEngine.solve());
+	}
+
+	@Test
+	public void testVivification() {
+		addClause(mA, mD);
+		addClause(mD.negate(), mB);
+		mEngine.push();
+		// not a implies d implies b, so the learned clause can be shortened to (a or b)
+		mEngine.learnClause(new Clause(new Literal[] { mA, mB, mC }, mEngine.getAssertionStackLevel()));
+		Assert.assertNull(mInprocessor.inprocess());
+		Assert.assertNull(findClause(mEngine.mLearnedClauses, mA, mB, mC));
+		Assert.assertNotNull(findClause(mEngine.mLearnedClauses, mA, mB));
+		mEngine.pop(1);
+		Assert.assertTrue(mEngine.mLearnedClauses.isEmpty());
+		Assert.assertEquals(2, count(mEngine.mClauses));
+		Assert.assertTrue(mEngine.solve());
+	}
+
+	@Test
+	public void testElimination() {
+		addClause(mA, mB);
+		mEngine.push();
+		final Clause pos = addClause(mX, mA);
+		final Clause neg = addClause(mX.negate(), mB, mC);
+		assertPhaseScores(0.25 + 0.25, 0.25 + 0.125, 0.125, 0, 0.25 - 0.125);
+		Assert.assertNull(mInprocessor.inprocess());
+		Assert.assertTrue(mInprocessor.isEliminated(mX));
+		Assert.assertNull(findClause(mEngine.mClauses, pos.mLiterals));
+		Assert.assertNull(findClause(mEngine.mClauses, neg.mLiterals));
+		Assert.assertNotNull(findClause(mEngine.mClauses, mA, mB, mC));
+		assertPhaseScores(0.25 + 0.125, 0.25 + 0.125, 0.125, 0, 0);
+
+		mInprocessor.restoreEliminated();
+		Assert.assertFalse(mInprocessor.hasEliminated());
+		Assert.assertNull(findClause(mEngine.mClauses, mA, mB, mC));
+		final Clause restored = findClause(mEngine.mClauses, pos.mLiterals);
+		Assert.assertNotSame(pos, restored);
+		Assert.assertNotSame(pos.mLiterals, restored.mLiterals);
+		Assert.assertNotNull(findClause(mEngine.mClauses, neg.mLiterals));
+		assertPhaseScores(0.25 + 0.25, 0.25 + 0.125, 0.125, 0, 0.25 - 0.125);
+
+		Assert.assertTrue(mEngine.solve());
+		mEngine.pop(1);
+		Assert.assertEquals(1, count(mEngine.mClauses));
+		assertPhaseScores(0.25, 0.25, 0, 0, 0);
+		Assert.assertTrue(mEngine.solve());
+	}
+}
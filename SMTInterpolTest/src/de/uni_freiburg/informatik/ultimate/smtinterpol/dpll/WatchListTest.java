@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.dpll;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause.ArrayWatchList;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause.LinkedWatchList;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.Clause.WatchList;
+
+/**
+ * Tests that the watch lists keep the index and the blocker of every watcher when the list grows and when the
+ * watchers are moved to another list.
+ */
+@RunWith(JUnit4.class)
+public class WatchListTest {
+	private static final int NUM_CLAUSES = 20;
+
+	private final Clause[] mClauses = new Clause[NUM_CLAUSES];
+
+	public WatchListTest() {
+		final Theory theory = new Theory(Logics.QF_UF);
+		for (int i = 0; i < NUM_CLAUSES; i++) {
+			final Literal[] lits = new Literal[3];
+			for (int j = 0; j < lits.length; j++) {
+				final String name = "x" + i + "_" + j;
+				theory.declareFunction(name, Script.EMPTY_SORT_ARRAY, theory.getBooleanSort());
+				lits[j] = new BooleanVarAtom(theory.term(name), 0);
+			}
+			mClauses[i] = new Clause(lits);
+		}
+	}
+
+	/**
+	 * The blocker of the watcher of clause i, or null for every third clause.
+	 */
+	private Literal blocker(final int i) {
+		return i % 3 == 0 ? null : mClauses[i].getLiteral(2);
+	}
+
+	private void fill(final WatchList list) {
+		for (int i = 0; i < NUM_CLAUSES; i++) {
+			list.append(mClauses[i], i % 2, blocker(i));
+		}
+	}
+
+	private void check(final WatchList list) {
+		Assert.assertEquals(NUM_CLAUSES, list.size());
+		for (int i = 0; i < NUM_CLAUSES; i++) {
+			Assert.assertEquals(i % 2, list.getIndex());
+			Assert.assertSame(blocker(i), list.getBlocker());
+			Assert.assertSame(mClauses[i], list.removeFirst());
+		}
+		Assert.assertTrue(list.isEmpty());
+	}
+
+	@Test
+	public void testArrayWatchList() {
+		final ArrayWatchList list = new ArrayWatchList();
+		fill(list);
+		check(list);
+		fill(list);
+		final ArrayWatchList other = new ArrayWatchList();
+		other.moveAll(list);
+		Assert.assertTrue(list.isEmpty());
+		check(other);
+	}
+
+	@Test
+	public void testMoveBetweenLists() {
+		final WatchList array = new ArrayWatchList();
+		fill(array);
+		final WatchList linked = new LinkedWatchList();
+		linked.moveAll(array);
+		Assert.assertTrue(array.isEmpty());
+		check(linked);
+		fill(linked);
+		array.moveAll(linked);
+		Assert.assertTrue(linked.isEmpty());
+		check(array);
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+
+/**
+ * System tests for dynamic Ackermannization, i.e., adding the congruence axiom of function applications whose
+ * congruence is used often in explanations. Every test runs with Ackermannization disabled and with a low threshold.
+ */
+@RunWith(JUnit4.class)
+public class AckermannizationTest extends SolverTestCase {
+
+	private static final int PIGEONS = 5;
+
+	private void setUp(final int threshold) {
+		createSolver();
+		mSolver.setOption(SMTInterpolConstants.CC_ACKERMANN_THRESHOLD, threshold);
+		mSolver.setLogic(Logics.QF_UF);
+		mSolver.declareSort("U", 0);
+		final Sort u = mSolver.sort("U");
+		mSolver.declareFun("f", new Sort[] { u }, u);
+		mSolver.declareFun("g", new Sort[] { u, u }, u);
+		for (int i = 0; i < PIGEONS; i++) {
+			declareConstants(u, "x" + i, "c" + i);
+		}
+	}
+
+	private static long findStatistic(final Object info, final String key) {
+		if (info instanceof Object[]) {
+			final Object[] array = (Object[]) info;
+			if (array.length == 2 && key.equals(array[0])) {
+				return ((Number) array[1]).longValue();
+			}
+			for (final Object elem : array) {
+				final long value = findStatistic(elem, key);
+				if (value >= 0) {
+					return value;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@Test
+	public void testPigeonHole() {
+		for (final int threshold : new int[] { 0, 1, 3 }) {
+			setUp(threshold);
+			checkPigeonHole();
+			final long axioms = findStatistic(mSolver.getInfo(":all-statistics"), "AckermannAxioms");
+			if (threshold == 0) {
+				Assert.assertEquals(0, axioms);
+			} else {
+				Assert.assertTrue(axioms > 0);
+			}
+			tearDown();
+		}
+	}
+
+	private void checkPigeonHole() {
+		// every x_i is one of the holes c_0, ..., c_{PIGEONS-1}
+		for (int i = 0; i < PIGEONS; i++) {
+			final Term[] holes = new Term[PIGEONS];
+			for (int j = 0; j < PIGEONS; j++) {
+				holes[j] = eq(var("x", i), var("c", j));
+			}
+			mSolver.assertTerm(mSolver.term("or", holes));
+		}
+		final Term[] apps = new Term[PIGEONS];
+		for (int i = 0; i < PIGEONS; i++) {
+			apps[i] = mSolver.term("g", mSolver.term("f", var("x", i)), var("c", 0));
+		}
+		final Term differ = mSolver.term("distinct", apps);
+		mSolver.assertTerm(differ);
+
+		// without the last hole two applications of f are congruent
+		mSolver.push(1);
+		for (int i = 0; i < PIGEONS; i++) {
+			mSolver.assertTerm(mSolver.term("not", eq(var("x", i), var("c", PIGEONS - 1))));
+		}
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.pop(1);
+
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(differ);
+	}
+
+	@Test
+	public void testSwappedArguments() {
+		for (final int threshold : new int[] { 0, 1, 3 }) {
+			setUp(threshold);
+			checkSwappedArguments();
+			final long axioms = findStatistic(mSolver.getInfo(":all-statistics"), "AckermannAxioms");
+			if (threshold == 0) {
+				Assert.assertEquals(0, axioms);
+			} else {
+				Assert.assertTrue(axioms > 0);
+			}
+			tearDown();
+		}
+	}
+
+	private void checkSwappedArguments() {
+		// every x_i is one of the holes c_0, ..., c_{PIGEONS-1}
+		for (int i = 0; i < PIGEONS; i++) {
+			final Term[] holes = new Term[PIGEONS];
+			for (int j = 0; j < PIGEONS; j++) {
+				holes[j] = eq(var("x", i), var("c", j));
+			}
+			mSolver.assertTerm(mSolver.term("or", holes));
+		}
+		// g(x_i, x_j) and g(x_j, x_i) differ, so x_i and x_j differ. The congruence axiom of the two applications
+		// needs the equality of x_i and x_j for both arguments, and is added during the search.
+		final Term[] differ = new Term[PIGEONS * (PIGEONS - 1) / 2];
+		int k = 0;
+		for (int i = 0; i < PIGEONS; i++) {
+			for (int j = i + 1; j < PIGEONS; j++) {
+				differ[k++] = mSolver.term("not",
+						eq(mSolver.term("g", var("x", i), var("x", j)), mSolver.term("g", var("x", j), var("x", i))));
+			}
+		}
+		final Term allDiffer = mSolver.term("and", differ);
+		mSolver.assertTerm(allDiffer);
+
+		// without the last hole two pigeons share a hole
+		mSolver.push(1);
+		for (int i = 0; i < PIGEONS; i++) {
+			mSolver.assertTerm(mSolver.term("not", eq(var("x", i), var("c", PIGEONS - 1))));
+		}
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.pop(1);
+
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(allDiffer);
+	}
+}
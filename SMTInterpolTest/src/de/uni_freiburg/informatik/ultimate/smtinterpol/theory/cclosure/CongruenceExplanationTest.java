@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+
+/**
+ * System tests for the explanation of congruence closure conflicts and propagations. Every test runs with and without
+ * the explanation cache and the fewest literals mode.
+ */
+@RunWith(JUnit4.class)
+public class CongruenceExplanationTest extends SolverTestCase {
+
+	private static final int CHAIN = 8;
+
+	private void setUp(final boolean explanationCache, final boolean fewestLiterals) {
+		createSolver();
+		mSolver.setOption(SMTInterpolConstants.CC_EXPLANATION_CACHE, explanationCache);
+		mSolver.setOption(SMTInterpolConstants.CC_FEWEST_LITERALS, fewestLiterals);
+	}
+
+	private void declareChains() {
+		mSolver.setLogic(Logics.QF_UF);
+		mSolver.declareSort("U", 0);
+		final Sort u = mSolver.sort("U");
+		mSolver.declareFun("f", new Sort[] { u, u }, u);
+		mSolver.declareFun("g", new Sort[] { u }, u);
+		for (int i = 0; i <= CHAIN; i++) {
+			declareConstants(u, "a" + i, "b" + i);
+		}
+	}
+
+	@Test
+	public void testCongruenceChains() {
+		for (final boolean explanationCache : new boolean[] { false, true }) {
+			for (final boolean fewestLiterals : new boolean[] { false, true }) {
+				setUp(explanationCache, fewestLiterals);
+				declareChains();
+				checkCongruenceChains();
+				tearDown();
+			}
+		}
+	}
+
+	private void checkCongruenceChains() {
+		// every a_i is equal to its neighbour or to b_i, which makes the solver explain the same chains repeatedly
+		for (int i = 0; i < CHAIN; i++) {
+			mSolver.assertTerm(mSolver.term("or", eq(var("a", i), var("a", i + 1)), eq(var("a", i), var("b", i))));
+			mSolver.assertTerm(mSolver.term("or", eq(var("b", i), var("b", i + 1)),
+					eq(mSolver.term("g", var("b", i)), var("a", i + 1))));
+		}
+		final Term differ = mSolver.term("distinct", mSolver.term("f", var("a", 0), var("b", 0)),
+				mSolver.term("f", var("a", CHAIN), var("b", CHAIN)));
+		mSolver.assertTerm(differ);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(differ);
+
+		// all a and b are equal now, so the applications of f are congruent
+		mSolver.push(1);
+		for (int i = 0; i < CHAIN; i++) {
+			mSolver.assertTerm(eq(var("a", i), var("b", i)));
+			mSolver.assertTerm(eq(var("b", i), var("b", i + 1)));
+		}
+		mSolver.assertTerm(eq(var("a", CHAIN), var("b", CHAIN)));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.pop(1);
+
+		// a disequality at the end of the chain has to be propagated back through g
+		mSolver.push(1);
+		for (int i = 0; i < CHAIN; i++) {
+			mSolver.assertTerm(eq(mSolver.term("g", var("b", i)), var("a", i + 1)));
+		}
+		mSolver.assertTerm(mSolver.term("not", eq(var("a", 0), var("a", CHAIN))));
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		mSolver.assertTerm(eq(var("b", 0), var("b", CHAIN - 1)));
+		mSolver.assertTerm(eq(var("a", 0), var("a", 1)));
+		mSolver.assertTerm(eq(var("a", 1), var("a", CHAIN)));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.pop(1);
+
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(differ);
+	}
+
+	@Test
+	public void testArrayPropagation() {
+		for (final boolean explanationCache : new boolean[] { false, true }) {
+			for (final boolean fewestLiterals : new boolean[] { false, true }) {
+				setUp(explanationCache, fewestLiterals);
+				checkArrayPropagation();
+				tearDown();
+			}
+		}
+	}
+
+	private Term app(final String func, final Term... args) {
+		return mSolver.term(func, args);
+	}
+
+	private void checkArrayPropagation() {
+		mSolver.setLogic(Logics.QF_AUFLIA);
+		final Sort intSort = mSolver.sort("Int");
+		final Sort arraySort = mSolver.sort("Array", intSort, intSort);
+		declareConstants(arraySort, "A", "B");
+		for (int i = 0; i <= 5; i++) {
+			declareConstants(intSort, "c" + i);
+		}
+		mSolver.declareFun("f", new Sort[] { intSort }, intSort);
+		mSolver.declareFun("g", new Sort[] { intSort }, intSort);
+		mSolver.declareFun("h", new Sort[] { intSort, intSort }, intSort);
+		mSolver.declareFun("p", new Sort[] { intSort }, mSolver.getTheory().getBooleanSort());
+		final Term a = app("A");
+		final Term b = app("B");
+		final Term[] c = new Term[6];
+		for (int i = 0; i <= 5; i++) {
+			c[i] = var("c", i);
+		}
+		// The explanation of a propagated read over weak equality once used a cached path that contained an equality
+		// set after the propagated literal.
+		final Term hc4c0 = app("h", c[4], c[0]);
+		final Term store = app("store", b, hc4c0, app("select", b, c[4]));
+		final Term[] formulas = {
+			mSolver.term("or", app("p", app("select", b, app("select", a, c[5]))),
+					mSolver.term("not", eq(app("g", c[1]), c[1])),
+					mSolver.term("not", eq(app("g", app("g", c[0])), app("select", a, app("f", c[0]))))),
+			mSolver.term("or", eq(app("select", a, app("select", b, c[3])), c[1]), eq(c[4], c[4]),
+					mSolver.term("not", eq(app("h", c[0], app("g", c[4])), app("f", app("g", c[0])))),
+					mSolver.term("not", app("p", app("g", c[2])))),
+			mSolver.term("or", mSolver.term("not", eq(app("g", c[5]), app("h", c[4], c[2]))),
+					mSolver.term("not", eq(app("g", app("select", b, c[3])), c[1]))),
+			eq(app("select", a, c[3]), c[0]),
+			mSolver.term("not", app("p", app("h", app("g", c[1]), app("select", a, c[0])))),
+			mSolver.term("or", eq(app("select", b, c[2]), c[1]), eq(a, app("store", b, c[1], c[0])),
+					eq(c[0], app("f", c[4]))),
+			mSolver.term("or", mSolver.term("not", eq(c[3], c[4])), eq(app("select", b, app("h", c[3], c[2])), c[0]),
+					mSolver.term("not", app("p", app("h", c[1], app("select", b, c[3]))))),
+			eq(a, store),
+			mSolver.term("not", eq(app("h", c[1], app("select", b, c[3])), c[5])),
+			eq(app("select", b, app("select", a, c[4])), c[3]),
+			mSolver.term("or",
+					mSolver.term("not", eq(app("select", b, app("f", c[0])), app("select", b, app("g", c[4])))),
+					mSolver.term("not", eq(c[0], app("f", app("h", c[2], c[2]))))) };
+		mSolver.push(1);
+		for (final Term formula : formulas) {
+			mSolver.assertTerm(formula);
+		}
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		final Term all = mSolver.term("and", formulas);
+		assertModelSatisfies(all);
+		mSolver.pop(1);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+	}
+}
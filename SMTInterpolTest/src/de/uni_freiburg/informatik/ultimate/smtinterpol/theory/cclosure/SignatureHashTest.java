@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.FunctionSymbol;
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Theory;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.convert.Clausifier;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.proof.SourceAnnotation;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol.ProofMode;
+
+/**
+ * Test Class for the signature table of the congruence closure.
+ */
+@RunWith(JUnit4.class)
+public final class SignatureHashTest {
+	private final int NUMTERMS = 64;
+
+	Theory mTheory;
+	CClosure mCClosure;
+	SourceAnnotation mSource = new SourceAnnotation("", null);
+	CCTerm[] mTerms;
+	CCAppTerm[] mFTerms;
+	FunctionSymbol mG;
+
+	public SignatureHashTest() {
+		mTheory = new Theory(Logics.QF_UF);
+		final DPLLEngine dpllEngine = new DPLLEngine(new DefaultLogger(), () -> false);
+		final Clausifier clausifier = new Clausifier(mTheory, dpllEngine, ProofMode.NONE);
+		mCClosure = new CClosure(clausifier);
+		createterms();
+	}
+
+	public void createterms() {
+		mTheory.declareSort("U", 0);
+		final Sort sort = mTheory.getSort("U");
+		final FunctionSymbol f = mTheory.declareFunction("f", new Sort[] { sort }, sort);
+		mG = mTheory.declareFunction("g", new Sort[] { sort }, sort);
+		mTerms = new CCTerm[NUMTERMS];
+		mFTerms = new CCAppTerm[NUMTERMS];
+		for (int i = 0; i < NUMTERMS; i++) {
+			final FunctionSymbol sym = mTheory.declareFunction("x" + i, new Sort[0], sort);
+			mTerms[i] = mCClosure.createAnonTerm(mTheory.term(sym));
+			mFTerms[i] = mCClosure.createAppTerm(false, mCClosure.getFuncTerm(f), mTerms[i], mSource);
+		}
+	}
+
+	private void mergeAll(final int level) {
+		// merge the lower half into the upper half, so the representative is never x0
+		for (int i = 1; i < NUMTERMS; i += i) {
+			for (int j = 0; j + i < NUMTERMS; j += 2 * i) {
+				mTerms[j + i].merge(mCClosure, mTerms[j],
+						mCClosure.createCCEquality(level, mTerms[j], mTerms[j + i]));
+			}
+		}
+		Assert.assertNull(mCClosure.checkpoint());
+	}
+
+	@Test
+	public void testCongruences() {
+		mCClosure.increasedDecideLevel(1);
+		mergeAll(1);
+		for (int i = 1; i < NUMTERMS; i++) {
+			Assert.assertSame(mFTerms[0].getRepresentative(), mFTerms[i].getRepresentative());
+		}
+		mCClosure.decreasedDecideLevel(0);
+		Assert.assertNull(mCClosure.backtrackComplete());
+		for (int i = 0; i < NUMTERMS; i++) {
+			Assert.assertSame(mFTerms[i], mFTerms[i].getRepresentative());
+			Assert.assertSame(mFTerms[i], mCClosure.mSignatures.find(mFTerms[i].getFunc(), mTerms[i]));
+		}
+	}
+
+	@Test
+	public void testTermCreatedOnHigherLevel() {
+		final CCAppTerm g1 = mCClosure.createAppTerm(false, mCClosure.getFuncTerm(mG), mTerms[1], mSource);
+		mCClosure.increasedDecideLevel(1);
+		mergeAll(1);
+		// g(x0) is created with the signature of the merged class, which is not its signature on level 0
+		final CCAppTerm g0 = mCClosure.createAppTerm(false, mCClosure.getFuncTerm(mG), mTerms[0], mSource);
+		Assert.assertNull(mCClosure.checkpoint());
+		Assert.assertSame(g0.getRepresentative(), g1.getRepresentative());
+		mCClosure.decreasedDecideLevel(0);
+		Assert.assertNull(mCClosure.backtrackComplete());
+		Assert.assertNotSame(g0.getRepresentative(), g1.getRepresentative());
+
+		// merging x1 into x0 must find g(x0) under its old signature
+		mCClosure.increasedDecideLevel(1);
+		mTerms[0].merge(mCClosure, mTerms[1], mCClosure.createCCEquality(1, mTerms[0], mTerms[1]));
+		Assert.assertSame(mTerms[0], mTerms[1].getRepresentative());
+		Assert.assertNull(mCClosure.checkpoint());
+		Assert.assertSame(g0.getRepresentative(), g1.getRepresentative());
+		Assert.assertSame(mFTerms[0].getRepresentative(), mFTerms[1].getRepresentative());
+	}
+
+	@Test
+	public void testCongruentTermKeepsSignature() {
+		mCClosure.increasedDecideLevel(1);
+		mTerms[1].merge(mCClosure, mTerms[0], mCClosure.createCCEquality(1, mTerms[0], mTerms[1]));
+		Assert.assertSame(mTerms[1], mTerms[0].getRepresentative());
+		Assert.assertNull(mCClosure.checkpoint());
+		// g(x0) owns the signature of the merged class, g(x1) is congruent
+		final CCAppTerm g0 = mCClosure.createAppTerm(false, mCClosure.getFuncTerm(mG), mTerms[0], mSource);
+		final CCAppTerm g1 = mCClosure.createAppTerm(false, mCClosure.getFuncTerm(mG), mTerms[1], mSource);
+		Assert.assertNull(mCClosure.checkpoint());
+		Assert.assertSame(g0.getRepresentative(), g1.getRepresentative());
+		mCClosure.decreasedDecideLevel(0);
+		Assert.assertNull(mCClosure.backtrackComplete());
+		// g(x1) keeps the signature when the merge is undone
+		Assert.assertSame(g0, mCClosure.mSignatures.find(g0.getFunc(), mTerms[0]));
+		Assert.assertSame(g1, mCClosure.mSignatures.find(g1.getFunc(), mTerms[1]));
+		Assert.assertSame(g0, mCClosure.createAppTerm(false, mCClosure.getFuncTerm(mG), mTerms[0], mSource));
+		Assert.assertSame(g1, mCClosure.createAppTerm(false, mCClosure.getFuncTerm(mG), mTerms[1], mSource));
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.cclosure;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+
+/**
+ * System tests for the array theory on store chains, where the weak equivalence graph is kept across several
+ * checkpoints while the solver merges and backtracks unrelated congruence classes. Every test runs with eager and with
+ * lazy lemma instantiation.
+ */
+@RunWith(JUnit4.class)
+public class WeakEqReuseTest extends SolverTestCase {
+
+	private static final int CHAIN = 12;
+
+	private Term[] mArrays;
+
+	private void setUp(final boolean lazyLemmas) {
+		createSolver();
+		mSolver.setOption(SMTInterpolConstants.LAZY_ARRAY_LEMMAS, lazyLemmas);
+		mSolver.setLogic(Logics.QF_AUFLIA);
+		final Sort intSort = mSolver.sort("Int");
+		final Sort arraySort = mSolver.sort("Array", intSort, intSort);
+		declareConstants(arraySort, "m0");
+		mArrays = new Term[CHAIN + 1];
+		mArrays[0] = mSolver.term("m0");
+		for (int i = 0; i < CHAIN; i++) {
+			declareConstants(intSort, "p" + i, "v" + i);
+			mArrays[i + 1] = mSolver.term("store", mArrays[i], var("p", i), var("v", i));
+		}
+	}
+
+	private Term select(final int array, final String index) {
+		return mSolver.term("select", mArrays[array], mSolver.term(index));
+	}
+
+	@Test
+	public void testReadOverWrite() {
+		for (final boolean lazyLemmas : new boolean[] { false, true }) {
+			setUp(lazyLemmas);
+			checkReadOverWrite();
+			tearDown();
+		}
+	}
+
+	private void checkReadOverWrite() {
+		// every pointer is either p0 or greater than it; the values decide which reads can differ
+		for (int i = 1; i < CHAIN; i++) {
+			mSolver.assertTerm(mSolver.term("or", mSolver.term("=", mSolver.term("p" + i), mSolver.term("p0")),
+					mSolver.term(">", mSolver.term("p" + i), mSolver.term("p0"))));
+			mSolver.assertTerm(mSolver.term("or", mSolver.term("=", mSolver.term("v" + i), num(i)),
+					mSolver.term("=", mSolver.term("v" + i), num(0))));
+		}
+		final Term differ = mSolver.term("distinct", select(CHAIN, "p0"), select(1, "p0"));
+		mSolver.assertTerm(differ);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(differ);
+
+		// no later store may hit p0 anymore
+		mSolver.push(1);
+		for (int i = 1; i < CHAIN; i++) {
+			mSolver.assertTerm(mSolver.term(">", mSolver.term("p" + i), mSolver.term("p0")));
+		}
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.pop(1);
+
+		// only the last store may hit p0, and it has to write 0 there
+		mSolver.push(1);
+		for (int i = 1; i < CHAIN - 1; i++) {
+			mSolver.assertTerm(mSolver.term(">", mSolver.term("p" + i), mSolver.term("p0")));
+		}
+		final Term last = mSolver.term("v" + (CHAIN - 1));
+		mSolver.assertTerm(mSolver.term("=", mSolver.term("v0"), num(CHAIN - 1)));
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(mSolver.term("=", last, num(0)));
+		mSolver.pop(1);
+
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(differ);
+	}
+}
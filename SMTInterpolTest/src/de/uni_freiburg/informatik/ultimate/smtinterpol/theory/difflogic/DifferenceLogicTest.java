@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.difflogic;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.SMTLIBException;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+
+/**
+ * System tests for the difference logic solver. They check the result of check-sat and that the model satisfies the
+ * asserted formulas.
+ */
+@RunWith(JUnit4.class)
+public class DifferenceLogicTest extends SolverTestCase {
+
+	private void setUp(final Logics logic, final String... vars) {
+		createSolver();
+		mSolver.setOption(SMTInterpolConstants.DIFFERENCE_LOGIC, Boolean.TRUE);
+		mSolver.setLogic(logic);
+		declareConstants(mSolver.sort(logic == Logics.QF_IDL ? "Int" : "Real"), vars);
+	}
+
+	private Term diff(final String x, final String y) {
+		return mSolver.term("-", mSolver.term(x), mSolver.term(y));
+	}
+
+	@Test
+	public void testNegativeCycle() {
+		setUp(Logics.QF_IDL, "x", "y", "z");
+		mSolver.assertTerm(mSolver.term("<=", diff("x", "y"), num(-1)));
+		mSolver.assertTerm(mSolver.term("<=", diff("y", "z"), num(-1)));
+		mSolver.assertTerm(mSolver.term("or", mSolver.term("<=", diff("z", "x"), num(1)),
+				mSolver.term("<", mSolver.term("z"), num(-5))));
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		mSolver.assertTerm(mSolver.term(">=", mSolver.term("z"), num(0)));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+	}
+
+	@Test
+	public void testScheduling() {
+		setUp(Logics.QF_IDL, "a", "b", "c", "end");
+		final Term input = mSolver.term("and",
+				mSolver.term(">=", mSolver.term("a"), num(0)),
+				mSolver.term(">=", mSolver.term("b"), num(0)),
+				mSolver.term(">=", diff("c", "a"), num(3)),
+				mSolver.term("or", mSolver.term(">=", diff("b", "a"), num(3)),
+						mSolver.term(">=", diff("a", "b"), num(2))),
+				mSolver.term(">=", diff("end", "c"), num(2)),
+				mSolver.term(">=", diff("end", "b"), num(2)),
+				mSolver.term("<=", mSolver.term("end"), num(5)));
+		mSolver.assertTerm(input);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(input);
+		mSolver.push(1);
+		mSolver.assertTerm(mSolver.term("<=", mSolver.term("end"), num(4)));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+		mSolver.pop(1);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(input);
+	}
+
+	@Test
+	public void testIntDisequalities() {
+		setUp(Logics.QF_IDL, "x", "y");
+		final Term input = mSolver.term("and",
+				mSolver.term("<=", diff("x", "y"), num(1)),
+				mSolver.term(">=", diff("x", "y"), num(-1)),
+				mSolver.term("distinct", mSolver.term("x"), mSolver.term("y")),
+				mSolver.term("not", mSolver.term("=", diff("x", "y"), num(1))));
+		mSolver.assertTerm(input);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(input);
+		mSolver.assertTerm(mSolver.term("not", mSolver.term("=", diff("y", "x"), num(1))));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+	}
+
+	@Test
+	public void testRealStrictBounds() {
+		setUp(Logics.QF_RDL, "x", "y", "z");
+		final Term input = mSolver.term("and",
+				mSolver.term("<", mSolver.term("x"), mSolver.term("y")),
+				mSolver.term("<", mSolver.term("y"), mSolver.term("z")),
+				mSolver.term("<=", diff("z", "x"), mSolver.decimal("1.0")),
+				mSolver.term("distinct", diff("y", "x"), mSolver.decimal("0.5")));
+		mSolver.assertTerm(input);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(input);
+		mSolver.assertTerm(mSolver.term("<=", diff("z", "x"), mSolver.decimal("0.0")));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+	}
+
+	@Test
+	public void testIte() {
+		setUp(Logics.QF_IDL, "x", "y", "m");
+		final Term max = mSolver.term("ite", mSolver.term(">", mSolver.term("x"), mSolver.term("y")),
+				mSolver.term("x"), mSolver.term("y"));
+		final Term input = mSolver.term("and",
+				mSolver.term("=", mSolver.term("m"), mSolver.term("+", max, num(1))),
+				mSolver.term(">=", diff("x", "y"), num(2)));
+		mSolver.assertTerm(input);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(input);
+		mSolver.assertTerm(mSolver.term("<=", diff("m", "x"), num(0)));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+	}
+
+	@Test
+	public void testNonDifferenceRejected() {
+		setUp(Logics.QF_IDL, "x", "y");
+		final Term x = mSolver.term("x");
+		final Term y = mSolver.term("y");
+		final Term[] inputs = new Term[] {
+			mSolver.term("<=", mSolver.term("+", x, y), num(3)),
+			mSolver.term("=", mSolver.term("*", num(2), x), y),
+			mSolver.term("and", mSolver.term("<=", mSolver.term("+", x, y), num(3)),
+					mSolver.term("<=", diff("x", "y"), num(0))),
+			mSolver.term("=", mSolver.term("ite", mSolver.term(">", x, num(0)), x, mSolver.term("+", x, y)), y),
+		};
+		for (final Term input : inputs) {
+			try {
+				mSolver.assertTerm(input);
+				Assert.fail("Could assert non-difference constraint " + input);
+			} catch (final SMTLIBException expected) {
+				System.err.println(expected.getMessage());
+			}
+		}
+		// no part of the rejected formulas was asserted
+		mSolver.assertTerm(mSolver.term(">=", diff("x", "y"), num(5)));
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+	}
+}
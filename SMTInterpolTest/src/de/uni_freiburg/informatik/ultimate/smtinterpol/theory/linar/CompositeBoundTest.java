@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Annotation;
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol.ProofMode;
+
+/**
+ * Tests for the bounds that the linear arithmetic solver propagates from the bounds of the column variables of a row.
+ * The bounds of the columns are asserted together with an atom on the row that may only be set if the composite bound
+ * does not exclude it. Every check is done in its own push/pop scope and interpolants are computed for the
+ * unsatisfiable ones.
+ */
+@RunWith(JUnit4.class)
+public class CompositeBoundTest extends SolverTestCase {
+
+	private void setUp(final Logics logic) {
+		createSolver();
+		mSolver.setOption(":produce-interpolants", Boolean.TRUE);
+		mSolver.setOption(":proof-check-mode", Boolean.TRUE);
+		mSolver.setOption(":proof-level", ProofMode.LOWLEVEL);
+		mSolver.setOption(":model-check-mode", Boolean.TRUE);
+		mSolver.setOption(":interpolant-check-mode", Boolean.TRUE);
+		mSolver.setLogic(logic);
+		declareConstants(mSolver.sort(logic == Logics.QF_LIA ? "Int" : "Real"), "x", "y", "z");
+		declareConstants(mSolver.getTheory().getBooleanSort(), "p");
+	}
+
+	private int getNumCompositeBounds() {
+		return mSolver.getClausifier().getLASolver().mNumCompositeBounds;
+	}
+
+	/**
+	 * Assert the bounds and the clause (atom or p) together with (not p). The result is unsat exactly if the bounds
+	 * exclude the atom, and then a composite bound must have been propagated.
+	 */
+	private void checkExcluded(final Term bounds, final Term atom, final boolean excluded) {
+		mSolver.push(1);
+		final int oldCompositeBounds = getNumCompositeBounds();
+		mSolver.assertTerm(mSolver.annotate(bounds, new Annotation(":named", "A")));
+		final Term clause = mSolver.term("and", mSolver.term("or", atom, var("p")), mSolver.term("not", var("p")));
+		mSolver.assertTerm(mSolver.annotate(clause, new Annotation(":named", "B")));
+		final LBool result = mSolver.checkSat();
+		if (excluded) {
+			Assert.assertSame(LBool.UNSAT, result);
+			Assert.assertTrue(getNumCompositeBounds() > oldCompositeBounds);
+			final Term[] interpolants = mSolver.getInterpolants(new Term[] { var("A"), var("B") });
+			Assert.assertEquals(1, interpolants.length);
+		} else {
+			Assert.assertSame(LBool.SAT, result);
+			assertModelSatisfies(mSolver.term("and", bounds, atom));
+		}
+		mSolver.pop(1);
+	}
+
+	@Test
+	public void testStrictUpperBound() {
+		setUp(Logics.QF_LRA);
+		// x < 1, y <= 2 and z > 0 give the upper bound 3 - 2 epsilon for x + y - z
+		final Term bounds = mSolver.term("and", mSolver.term("<", var("x"), dec("1.0")),
+				mSolver.term("<=", var("y"), dec("2.0")), mSolver.term(">", var("z"), dec("0.0")));
+		final Term row = mSolver.term("-", mSolver.term("+", var("x"), var("y")), var("z"));
+		checkExcluded(bounds, mSolver.term(">=", row, dec("3.0")), true);
+		checkExcluded(bounds, mSolver.term(">=", row, dec("2.999")), false);
+		checkExcluded(bounds, mSolver.term(">", row, dec("3.0")), true);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+	}
+
+	@Test
+	public void testStrictLowerBound() {
+		setUp(Logics.QF_LRA);
+		// x >= 1, y > -2 and z <= 0 give the lower bound -3 + 2 epsilon for x + 2y - z
+		final Term bounds = mSolver.term("and", mSolver.term(">=", var("x"), dec("1.0")),
+				mSolver.term(">", var("y"), dec("-2.0")), mSolver.term("<=", var("z"), dec("0.0")));
+		final Term row = mSolver.term("-", mSolver.term("+", var("x"), var("y"), var("y")), var("z"));
+		checkExcluded(bounds, mSolver.term("<=", row, dec("-3.0")), true);
+		checkExcluded(bounds, mSolver.term("<=", row, dec("-2.999")), false);
+		checkExcluded(bounds, mSolver.term("<", row, dec("-3.0")), true);
+		// with y >= -2 the lower bound -3 is reached
+		final Term weakBounds = mSolver.term("and", mSolver.term(">=", var("x"), dec("1.0")),
+				mSolver.term(">=", var("y"), dec("-2.0")), mSolver.term("<=", var("z"), dec("0.0")));
+		checkExcluded(weakBounds, mSolver.term("<=", row, dec("-3.0")), false);
+		checkExcluded(weakBounds, mSolver.term("<", row, dec("-3.0")), true);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+	}
+
+	@Test
+	public void testIntegerBounds() {
+		setUp(Logics.QF_LIA);
+		// x <= 3, y <= 4 and z >= -1 give the upper bound 19 for 2x + 3y - z
+		final Term bounds = mSolver.term("and", mSolver.term("<=", var("x"), num(3)),
+				mSolver.term("<", var("y"), num(5)), mSolver.term(">=", var("z"), num(-1)));
+		final Term row = mSolver.term("-",
+				mSolver.term("+", mSolver.term("*", num(2), var("x")), mSolver.term("*", num(3), var("y"))), var("z"));
+		checkExcluded(bounds, mSolver.term(">", row, num(19)), true);
+		checkExcluded(bounds, mSolver.term(">=", row, num(19)), false);
+		checkExcluded(bounds, mSolver.term(">=", row, num(20)), true);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve.IntBranching;
+
+/**
+ * System tests for the integer strategies of the linear arithmetic solver. Every formula is checked with every
+ * branching strategy, with and without presolve.
+ */
+@RunWith(JUnit4.class)
+public class IntegerBranchingTest extends SolverTestCase {
+
+	private void setUp(final IntBranching branching, final boolean presolve) {
+		createSolver();
+		mSolver.setOption(SMTInterpolConstants.INT_BRANCHING, branching.name());
+		mSolver.setOption(SMTInterpolConstants.INT_PRESOLVE, presolve);
+		mSolver.setLogic(Logics.QF_LIA);
+		declareConstants(mSolver.sort("Int"), "x", "y", "z");
+	}
+
+	private Term mul(final int coeff, final String var) {
+		return mSolver.term("*", num(coeff), mSolver.term(var));
+	}
+
+	private Term inRange(final String var, final int lower, final int upper) {
+		return mSolver.term("<=", num(lower), mSolver.term(var), num(upper));
+	}
+
+	@Test
+	public void testKnapsack() {
+		for (final IntBranching branching : IntBranching.values()) {
+			for (final boolean presolve : new boolean[] { false, true }) {
+				setUp(branching, presolve);
+				final Term input = mSolver.term("and", inRange("x", 0, 10), inRange("y", 0, 10),
+						mSolver.term("=", mSolver.term("+", mul(3, "x"), mul(5, "y")), num(17)),
+						mSolver.term("<=", mSolver.term("+", mSolver.term("x"), mSolver.term("y")), num(5)));
+				mSolver.assertTerm(input);
+				Assert.assertSame(LBool.SAT, mSolver.checkSat());
+				assertModelSatisfies(input);
+				mSolver.push(1);
+				mSolver.assertTerm(mSolver.term(">=", mSolver.term("y"), num(2)));
+				Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+				mSolver.pop(1);
+				Assert.assertSame(LBool.SAT, mSolver.checkSat());
+				assertModelSatisfies(input);
+				tearDown();
+			}
+		}
+	}
+
+	@Test
+	public void testParity() {
+		for (final IntBranching branching : IntBranching.values()) {
+			for (final boolean presolve : new boolean[] { false, true }) {
+				setUp(branching, presolve);
+				mSolver.assertTerm(mSolver.term("and", inRange("x", -20, 20), inRange("y", -20, 20),
+						mSolver.term("=", mSolver.term("+", mul(4, "x"), mul(6, "y"), mul(2, "z")), num(9))));
+				Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+				tearDown();
+			}
+		}
+	}
+
+	@Test
+	public void testUnbounded() {
+		// branch and bound alone would not terminate, since the variables are unbounded
+		for (final IntBranching branching : IntBranching.values()) {
+			setUp(branching, true);
+			mSolver.assertTerm(mSolver.term("=", mSolver.term("-", mul(3, "x"), mul(3, "y")), num(1)));
+			Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+			tearDown();
+		}
+	}
+
+	@Test
+	public void testPresolveTightensBounds() {
+		setUp(IntBranching.MOST_FRACTIONAL, true);
+		final Term input = mSolver.term("and", inRange("x", 0, 7), inRange("y", 0, 7),
+				mSolver.term("<=", mSolver.term("+", mul(2, "x"), mul(3, "y")), num(12)),
+				mSolver.term(">=", mSolver.term("-", mul(3, "x"), mul(2, "y")), num(1)),
+				mSolver.term("or", mSolver.term(">=", mSolver.term("y"), num(4)),
+						mSolver.term(">=", mSolver.term("x"), num(5))));
+		mSolver.assertTerm(input);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(input);
+		mSolver.assertTerm(mSolver.term("<=", mSolver.term("x"), num(4)));
+		Assert.assertSame(LBool.UNSAT, mSolver.checkSat());
+	}
+}
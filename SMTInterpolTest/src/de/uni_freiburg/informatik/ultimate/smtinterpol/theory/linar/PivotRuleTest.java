@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar.LinArSolve.PivotRule;
+
+/**
+ * System tests for the pivot rules of the simplex. Random systems of inequalities are solved with every pivot rule and
+ * must give the same results.
+ */
+@RunWith(JUnit4.class)
+public class PivotRuleTest extends SolverTestCase {
+	private static final int NUM_VARS = 8;
+
+	private void setUp(final PivotRule rule) {
+		createSolver();
+		mSolver.setOption(SMTInterpolConstants.PIVOT_RULE, rule.name());
+		mSolver.setLogic(Logics.QF_LRA);
+		final Sort realSort = mSolver.sort("Real");
+		for (int i = 0; i < NUM_VARS; i++) {
+			declareConstants(realSort, "x" + i);
+		}
+	}
+
+	/**
+	 * Build a random system of inequalities sum_i c_i * x_i <= b with small coefficients.
+	 */
+	private Term randomSystem(final long seed, final int numRows) {
+		final Random rnd = new Random(seed);
+		final Term[] rows = new Term[numRows];
+		for (int r = 0; r < numRows; r++) {
+			final Term[] summands = new Term[NUM_VARS];
+			for (int i = 0; i < NUM_VARS; i++) {
+				summands[i] = mSolver.term("*", dec((rnd.nextInt(11) - 5) + ".0"), var("x", i));
+			}
+			rows[r] = mSolver.term("<=", mSolver.term("+", summands), dec((rnd.nextInt(21) - 12) + ".0"));
+		}
+		return mSolver.term("and", rows);
+	}
+
+	private LBool[] solveAll(final PivotRule rule) {
+		final LBool[] results = new LBool[30];
+		for (int seed = 0; seed < results.length; seed++) {
+			setUp(rule);
+			final Term system = randomSystem(seed, 12 + seed % 10);
+			mSolver.assertTerm(system);
+			results[seed] = mSolver.checkSat();
+			if (results[seed] == LBool.SAT) {
+				assertModelSatisfies(system);
+			}
+			tearDown();
+		}
+		return results;
+	}
+
+	@Test
+	public void testRulesAgree() {
+		final LBool[] expected = solveAll(PivotRule.SOI);
+		Assert.assertTrue(Arrays.asList(expected).contains(LBool.SAT));
+		Assert.assertTrue(Arrays.asList(expected).contains(LBool.UNSAT));
+		for (final PivotRule rule : PivotRule.values()) {
+			Assert.assertArrayEquals(rule.name(), expected, solveAll(rule));
+		}
+	}
+}
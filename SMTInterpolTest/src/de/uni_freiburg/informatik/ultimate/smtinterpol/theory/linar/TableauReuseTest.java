@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+
+/**
+ * System tests for keeping the rows of the linear arithmetic solver on pop. Every incremental run is done with and
+ * without kept rows and must give the same results.
+ */
+@RunWith(JUnit4.class)
+public class TableauReuseTest extends SolverTestCase {
+
+	private void setUp(final boolean keepRows, final Logics logic) {
+		createSolver();
+		mSolver.setOption(SMTInterpolConstants.KEEP_TABLEAU_ROWS, keepRows);
+		mSolver.setLogic(logic);
+		declareConstants(mSolver.sort(logic == Logics.QF_LIA ? "Int" : "Real"), "x", "y", "z");
+	}
+
+	private Term mul(final int coeff, final String var) {
+		return mSolver.term("*", num(coeff), mSolver.term(var));
+	}
+
+	/**
+	 * Run an incremental loop that asserts the same linear combinations with different bounds in every step, as done
+	 * by bounded model checkers. Returns the results of all check-sat calls.
+	 */
+	private LBool[] runLoop(final boolean keepRows, final Logics logic) {
+		setUp(keepRows, logic);
+		final Term base = mSolver.term("and", mSolver.term(">=", mSolver.term("x"), num(0)),
+				mSolver.term(">=", mSolver.term("y"), num(0)));
+		mSolver.assertTerm(base);
+		final LBool[] results = new LBool[20];
+		for (int step = 0; step < results.length; step++) {
+			mSolver.push(1);
+			final Term sum = mSolver.term("+", mul(2, "x"), mul(3, "y"));
+			final Term diff = mSolver.term("-", mSolver.term("x"), mSolver.term("y"), mSolver.term("z"));
+			final Term step1 = mSolver.term("and", mSolver.term("<=", sum, num(step)),
+					mSolver.term(">=", diff, num(step - 5)), mSolver.term(">=", mSolver.term("z"), num(step / 2)));
+			mSolver.assertTerm(step1);
+			if (step % 3 == 0) {
+				// a nested scope that creates rows on top of the kept rows
+				mSolver.push(1);
+				final Term step2 = mSolver.term(">=", mSolver.term("+", mul(5, "x"), mul(-7, "z")), num(step));
+				mSolver.assertTerm(step2);
+				mSolver.checkSat();
+				mSolver.pop(1);
+			}
+			results[step] = mSolver.checkSat();
+			if (results[step] == LBool.SAT) {
+				assertModelSatisfies(mSolver.term("and", base, step1));
+			}
+			mSolver.pop(1);
+		}
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		assertModelSatisfies(base);
+		tearDown();
+		return results;
+	}
+
+	@Test
+	public void testRealLoop() {
+		Assert.assertArrayEquals(runLoop(false, Logics.QF_LRA), runLoop(true, Logics.QF_LRA));
+	}
+
+	@Test
+	public void testIntLoop() {
+		Assert.assertArrayEquals(runLoop(false, Logics.QF_LIA), runLoop(true, Logics.QF_LIA));
+	}
+
+	@Test
+	public void testResultsChange() {
+		final LBool[] results = runLoop(true, Logics.QF_LRA);
+		Assert.assertSame(LBool.SAT, results[0]);
+		Assert.assertSame(LBool.UNSAT, results[results.length - 1]);
+	}
+
+	private int countDormantRows() {
+		int dormant = 0;
+		for (final LinVar var : mSolver.getClausifier().getLASolver().mLinvars) {
+			if (var.mDormant) {
+				dormant++;
+			}
+		}
+		return dormant;
+	}
+
+	@Test
+	public void testReusedRowsBecomeDormant() {
+		setUp(true, Logics.QF_LRA);
+		final Term sum = mSolver.term("+", mul(2, "x"), mul(3, "y"));
+		// the variables must exist outside of the scopes for the row to be kept
+		mSolver.assertTerm(mSolver.term(">=", mSolver.term("x"), num(0)));
+		mSolver.assertTerm(mSolver.term("<=", mSolver.term("y"), num(10)));
+		mSolver.push(1);
+		mSolver.assertTerm(mSolver.term("<=", sum, num(5)));
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		mSolver.pop(1);
+		Assert.assertEquals(1, countDormantRows());
+
+		// reuse the row in the next scope
+		mSolver.push(1);
+		mSolver.assertTerm(mSolver.term(">=", sum, num(7)));
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertEquals(0, countDormantRows());
+		mSolver.pop(1);
+		Assert.assertEquals(1, countDormantRows());
+
+		// reuse the row in a deeper scope
+		mSolver.push(1);
+		mSolver.push(1);
+		mSolver.assertTerm(mSolver.term("<=", sum, num(-1)));
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertEquals(0, countDormantRows());
+		mSolver.pop(1);
+		Assert.assertEquals(1, countDormantRows());
+		mSolver.pop(1);
+		Assert.assertEquals(1, countDormantRows());
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+	}
+}
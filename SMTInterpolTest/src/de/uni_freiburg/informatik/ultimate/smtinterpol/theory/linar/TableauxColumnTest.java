@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.uni_freiburg.informatik.ultimate.smtinterpol.theory.linar;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.uni_freiburg.informatik.ultimate.logic.Annotation;
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Script.LBool;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.SolverTestCase;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol.ProofMode;
+
+/**
+ * Tests for the column index of the linear arithmetic tableaux. The index is checked against the tableaux rows while
+ * random systems are solved between push and pop and interpolants are computed for the unsatisfiable ones.
+ */
+@RunWith(JUnit4.class)
+public class TableauxColumnTest extends SolverTestCase {
+	private static final int NUM_VARS = 8;
+
+	private void setUp(final boolean keepRows) {
+		createSolver();
+		mSolver.setOption(":produce-interpolants", Boolean.TRUE);
+		mSolver.setOption(":proof-check-mode", Boolean.TRUE);
+		mSolver.setOption(":proof-level", ProofMode.LOWLEVEL);
+		mSolver.setOption(":interpolant-check-mode", Boolean.TRUE);
+		mSolver.setOption(SMTInterpolConstants.KEEP_TABLEAU_ROWS, keepRows);
+		mSolver.setLogic(Logics.QF_LRA);
+		final Sort realSort = mSolver.sort("Real");
+		for (int i = 0; i < NUM_VARS; i++) {
+			declareConstants(realSort, "x" + i);
+		}
+	}
+
+	/**
+	 * Build a random system of inequalities sum_i c_i * x_i <= b with small coefficients and name it.
+	 */
+	private Term randomSystem(final Random rnd, final int numRows, final String name) {
+		final Term[] rows = new Term[numRows];
+		for (int r = 0; r < numRows; r++) {
+			final Term[] summands = new Term[NUM_VARS];
+			for (int i = 0; i < NUM_VARS; i++) {
+				summands[i] = mSolver.term("*", dec((rnd.nextInt(11) - 5) + ".0"), var("x", i));
+			}
+			rows[r] = mSolver.term("<=", mSolver.term("+", summands), dec((rnd.nextInt(21) - 12) + ".0"));
+		}
+		return mSolver.annotate(mSolver.term("and", rows), new Annotation(":named", name));
+	}
+
+	private LinArSolve getLASolver() {
+		return mSolver.getClausifier().getLASolver();
+	}
+
+	@Test
+	public void testColumnOperations() {
+		final TableauxColumn column = new TableauxColumn();
+		Assert.assertTrue(column.isEmpty());
+		for (final int row : new int[] { 7, 3, 11, 5, 3, 9, 1 }) {
+			column.add(row);
+		}
+		Assert.assertEquals("[1, 3, 5, 7, 9, 11]", column.toString());
+		Assert.assertTrue(column.contains(9));
+		Assert.assertFalse(column.contains(4));
+		column.remove(4);
+		column.remove(7);
+		Assert.assertEquals("[1, 3, 5, 9, 11]", column.toString());
+		column.replace(3, 10);
+		Assert.assertEquals("[1, 5, 9, 10, 11]", column.toString());
+		column.replace(11, 0);
+		Assert.assertEquals("[0, 1, 5, 9, 10]", column.toString());
+		column.replace(5, 6);
+		Assert.assertEquals("[0, 1, 6, 9, 10]", column.toString());
+		Assert.assertEquals(5, column.size());
+		Assert.assertEquals(6, column.getRow(2));
+	}
+
+	private void solveIncrementally(final boolean keepRows) {
+		setUp(keepRows);
+		final Random rnd = new Random(keepRows ? 1 : 0);
+		final Term base = randomSystem(rnd, 4, "base");
+		mSolver.assertTerm(base);
+		int numUnsat = 0;
+		for (int step = 0; step < 20; step++) {
+			mSolver.push(1);
+			mSolver.assertTerm(randomSystem(rnd, 3 + step % 4, "A"));
+			mSolver.assertTerm(randomSystem(rnd, 3 + step % 5, "B"));
+			final LBool result = mSolver.checkSat();
+			Assert.assertTrue(getLASolver().checkColumns());
+			if (result == LBool.UNSAT) {
+				numUnsat++;
+				final Term[] interpolants = mSolver.getInterpolants(
+						new Term[] { mSolver.term("and", mSolver.term("base"), mSolver.term("A")), mSolver.term("B") });
+				Assert.assertEquals(Arrays.toString(interpolants), 1, interpolants.length);
+			}
+			mSolver.pop(1);
+			Assert.assertTrue(getLASolver().checkColumns());
+		}
+		Assert.assertTrue(numUnsat > 0);
+		Assert.assertSame(LBool.SAT, mSolver.checkSat());
+		Assert.assertTrue(getLASolver().checkColumns());
+	}
+
+	@Test
+	public void testColumnsMatchRows() {
+		solveIncrementally(false);
+	}
+
+	@Test
+	public void testColumnsMatchKeptRows() {
+		solveIncrementally(true);
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 University of Freiburg
+ *
+ * This file is part of SMTInterpol.
+ *
+ * SMTInterpol is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * SMTInterpol is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SMTInterpol.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package system;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import de.uni_freiburg.informatik.ultimate.logic.SMTLIBException;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.DefaultLogger;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine.DecisionHeuristic;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.dpll.DPLLEngine.RestartStrategy;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.OptionMap;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.option.SMTInterpolConstants;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
+import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol.ProofMode;
+
+/**
+ * Run some benchmarks with the optional search and theory techniques enabled. Most benchmarks use push and pop and the
+ * solver checks the proofs, models and interpolants, like in {@link SystemTest}.
+ */
+@RunWith(Parameterized.class)
+public class SolverOptionsTest {
+
+	/**
+	 * Benchmarks with many conflicts that produce interpolants. All but the last one use push and pop. The pigeon hole
+	 * benchmark needs enough conflicts for several restarts.
+	 */
+	private static final String[] INCREMENTAL = { "matthias/20120322-BugAffineTermAssert.smt2",
+		"regression/smtfuzz/interpol.smt2", "interpolation/weakeqext001.smt2", "uf/pigeonhole.smt2",
+		"interpolation/constarr013.smt2" };
+
+	/**
+	 * Benchmarks whose linear arithmetic tableaux are large enough for the floating point simplex. The first one uses
+	 * push and pop, the second one produces interpolants.
+	 */
+	private static final String[] LINEAR = { "regression/smtfuzz/issue99.smt2", "interpolation/constarr014.smt2",
+		"regression/smtfuzz/issue101.smt2" };
+
+	private static void addCases(final Collection<Object[]> cases, final String[] files, final Object... options) {
+		for (final String file : files) {
+			cases.add(new Object[] { file, Arrays.toString(options), options });
+		}
+	}
+
+	@Parameters(name = "{0} {1}")
+	public static Collection<Object[]> testCases() {
+		final Collection<Object[]> cases = new ArrayList<>();
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.REDUCE_DB_FIRST, 20, SMTInterpolConstants.REDUCE_DB_INCREMENT,
+				5);
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.CHRONO_BACKTRACKING, true,
+				SMTInterpolConstants.CHRONO_BACKTRACK_THRESHOLD, 1, SMTInterpolConstants.CHRONO_BACKTRACK_MIN_CONFLICTS,
+				0);
+		/* inprocessing only runs at restarts, which Glucose does more often */
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.INPROCESSING, true, SMTInterpolConstants.INPROCESS_INTERVAL,
+				20, SMTInterpolConstants.RESTART_STRATEGY, RestartStrategy.GLUCOSE);
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.ARRAY_WATCH_LISTS, true);
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.RESTART_STRATEGY, RestartStrategy.GLUCOSE);
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.TRAIL_SAVING, true, SMTInterpolConstants.RESTART_STRATEGY,
+				RestartStrategy.GLUCOSE);
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.MINIMIZE_BINARY, true);
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.DECISION_HEURISTIC, DecisionHeuristic.LRB);
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.DECISION_HEURISTIC, DecisionHeuristic.CHB);
+		addCases(cases, INCREMENTAL, SMTInterpolConstants.TARGET_PHASES, true, SMTInterpolConstants.REPHASE_INTERVAL,
+				20, SMTInterpolConstants.RESTART_STRATEGY, RestartStrategy.GLUCOSE);
+		addCases(cases, LINEAR, SMTInterpolConstants.FLOAT_SIMPLEX, true);
+		/* many reductions and chronological backtracking used to run out of memory in the signature table */
+		addCases(cases, new String[] { "interpolation/weakeqext001.smt2" }, SMTInterpolConstants.CHRONO_BACKTRACKING,
+				true, SMTInterpolConstants.CHRONO_BACKTRACK_THRESHOLD, 1,
+				SMTInterpolConstants.CHRONO_BACKTRACK_MIN_CONFLICTS, 0, SMTInterpolConstants.REDUCE_DB_FIRST, 50,
+				SMTInterpolConstants.REDUCE_DB_INCREMENT, 5);
+		return cases;
+	}
+
+	private final String mFileName;
+	private final Object[] mOptions;
+
+	public SolverOptionsTest(final String fileName, final String optionString, final Object[] options) {
+		mFileName = fileName;
+		mOptions = options;
+	}
+
+	private File getFile() throws URISyntaxException {
+		final String name = SolverOptionsTest.class.getPackage().getName();
+		final URL url = SolverOptionsTest.class.getClassLoader().getResource(name);
+		final File testDir = new File(new File(url.toURI()).getParentFile().getParentFile(), "test");
+		return new File(testDir, mFileName);
+	}
+
+	@Test
+	public void testOptions() throws SMTLIBException, FileNotFoundException, URISyntaxException {
+		final File f = getFile();
+		final DefaultLogger logger = new DefaultLogger();
+		final OptionMap options = new OptionMap(logger, true);
+		final SMTInterpol solver = new SMTInterpol(options);
+		final SystemTest.TestEnvironment testEnv = new SystemTest(f).new TestEnvironment(solver, options);
+		solver.setOption(":proof-check-mode", true);
+		solver.setOption(":proof-level", ProofMode.LOWLEVEL);
+		solver.setOption(":model-check-mode", true);
+		solver.setOption(":interpolant-check-mode", true);
+		for (int i = 0; i < mOptions.length; i += 2) {
+			solver.setOption((String) mOptions[i], mOptions[i + 1]);
+		}
+		testEnv.parseStream(new FileReader(f), f.getName());
+		testEnv.checkExpected();
+	}
+}